@@ -112,7 +112,7 @@ public class PistonBaseBlockMixin {
             Vector3i position = geyser$fromBlockPos(blockPos);
             session.executeInEventLoop(() -> {
                 PistonCache pistonCache = session.getPistonCache();
-                PistonBlockEntity blockEntity = pistonCache.getPistons().computeIfAbsent(position, pos ->
+                PistonBlockEntity blockEntity = pistonCache.getOrCreatePiston(position, pos ->
                     new PistonBlockEntity(session, position, orientation, sticky, !isExtending));
                 blockEntity.setAction(type, attachedBlocks);
             });
@@ -125,7 +125,7 @@ public class GeyserPistonListener implements Listener {
 
             session.executeInEventLoop(() -> {
                 PistonCache pistonCache = session.getPistonCache();
-                PistonBlockEntity blockEntity = pistonCache.getPistons().computeIfAbsent(position, pos ->
+                PistonBlockEntity blockEntity = pistonCache.getOrCreatePiston(position, pos ->
                         new PistonBlockEntity(session, position, orientation, sticky, !isExtend));
                 blockEntity.setAction(type, attachedBlocks);
             });
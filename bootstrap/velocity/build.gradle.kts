@@ -26,6 +26,8 @@ exclude("io.netty.incubator:.*")
 exclude("io.netty:netty-transport-native-epoll:*")
 exclude("io.netty:netty-transport-native-unix-common:*")
 exclude("io.netty:netty-transport-native-kqueue:*")
+exclude("io.netty:netty-transport-classes-io_uring:*")
+exclude("io.netty:netty-transport-native-io_uring:*")
 exclude("io.netty:netty-handler:*")
 exclude("io.netty:netty-common:*")
 exclude("io.netty:netty-buffer:*")
@@ -60,6 +62,8 @@ tasks.withType<com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar> {
         exclude(dependency("io.netty:netty-transport-native-epoll:.*"))
         exclude(dependency("io.netty:netty-transport-native-unix-common:.*"))
         exclude(dependency("io.netty:netty-transport-native-kqueue:.*"))
+        exclude(dependency("io.netty:netty-transport-classes-io_uring:.*"))
+        exclude(dependency("io.netty:netty-transport-native-io_uring:.*"))
         exclude(dependency("io.netty:netty-handler:.*"))
         exclude(dependency("io.netty:netty-common:.*"))
         exclude(dependency("io.netty:netty-buffer:.*"))
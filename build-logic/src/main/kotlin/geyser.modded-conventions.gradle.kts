@@ -26,6 +26,8 @@ provided("io.netty", "netty-transport-classes-kqueue")
 provided("io.netty", "netty-transport-native-kqueue")
 provided("io.netty.incubator", "netty-incubator-transport-native-io_uring")
 provided("io.netty.incubator", "netty-incubator-transport-classes-io_uring")
+provided("io.netty", "netty-transport-classes-io_uring")
+provided("io.netty", "netty-transport-native-io_uring")
 provided("io.netty", "netty-handler")
 provided("io.netty", "netty-common")
 provided("io.netty", "netty-buffer")
@@ -30,7 +30,7 @@ import org.geysermc.geyser.GeyserLogger;
 import org.geysermc.geyser.api.network.AuthType;
 import org.geysermc.geyser.api.network.BedrockListener;
 import org.geysermc.geyser.api.network.RemoteServer;
-import org.geysermc.geyser.network.CIDRMatcher;
+import org.geysermc.geyser.network.CIDRTrie;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.text.GeyserLocale;
 
@@ -101,6 +101,14 @@ public interface GeyserConfiguration {
 
     int getCacheImages();
 
+    boolean isLazyPlayerListSkins();
+
+    int getEntityFullRateDistance();
+
+    int getEntityReducedRateInterval();
+
+    int getEntitySpawnDistance();
+
     boolean isAllowCustomSkulls();
 
     int getMaxVisibleCustomSkulls();
@@ -135,9 +143,9 @@ public interface GeyserConfiguration {
         List<String> getProxyProtocolWhitelistedIPs();
 
         /**
-         * @return Unmodifiable list of {@link CIDRMatcher}s from {@link #getProxyProtocolWhitelistedIPs()}
+         * @return a {@link CIDRTrie} of every range from {@link #getProxyProtocolWhitelistedIPs()}
          */
-        List<CIDRMatcher> getWhitelistedIPsMatchers();
+        CIDRTrie getProxyProtocolWhitelist();
     }
 
     interface IRemoteConfiguration extends RemoteServer {
@@ -179,6 +187,14 @@ public interface GeyserConfiguration {
 
     boolean isDisableCompression();
 
+    int getLoginCryptoThreads();
+
+    int getLoginQueueSize();
+
+    int getUpstreamPressureElevatedDelay();
+
+    int getUpstreamPressureHighDelay();
+
     int getConfigVersion();
 
     static void checkGeyserConfiguration(GeyserConfiguration geyserConfig, GeyserLogger geyserLogger) {
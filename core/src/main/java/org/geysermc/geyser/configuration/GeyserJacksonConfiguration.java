@@ -37,7 +37,7 @@ import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.network.AuthType;
-import org.geysermc.geyser.network.CIDRMatcher;
+import org.geysermc.geyser.network.CIDRTrie;
 import org.geysermc.geyser.text.AsteriskSerializer;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.util.WebUtils;
@@ -48,7 +48,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -118,6 +117,18 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("cache-images")
     private int cacheImages = 0;
 
+    @JsonProperty("lazy-player-list-skins")
+    private boolean lazyPlayerListSkins = false;
+
+    @JsonProperty("entity-full-rate-distance")
+    private int entityFullRateDistance = 0;
+
+    @JsonProperty("entity-reduced-rate-interval")
+    private int entityReducedRateInterval = 4;
+
+    @JsonProperty("entity-spawn-distance")
+    private int entitySpawnDistance = 0;
+
     @JsonProperty("allow-custom-skulls")
     private boolean allowCustomSkulls = true;
 
@@ -227,31 +238,41 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
         private List<String> proxyProtocolWhitelistedIPs = Collections.emptyList();
 
         @JsonIgnore
-        private List<CIDRMatcher> whitelistedIPsMatchers = null;
+        private volatile CIDRTrie proxyProtocolWhitelist = null;
+
+        @JsonIgnore
+        private List<String> whitelistedCIDRs = null;
 
         @Override
-        public List<CIDRMatcher> getWhitelistedIPsMatchers() {
-            // Effective Java, Third Edition; Item 83: Use lazy initialization judiciously
-            List<CIDRMatcher> matchers = this.whitelistedIPsMatchers;
-            if (matchers == null) {
+        public CIDRTrie getProxyProtocolWhitelist() {
+            CIDRTrie whitelist = this.proxyProtocolWhitelist;
+            if (whitelist == null) {
                 synchronized (this) {
-                    // Check if proxyProtocolWhitelistedIPs contains URLs we need to fetch and parse by line
-                    List<String> whitelistedCIDRs = new ArrayList<>();
-                    for (String ip: proxyProtocolWhitelistedIPs) {
-                        if (!ip.startsWith("http")) {
-                            whitelistedCIDRs.add(ip);
-                            continue; 
-                        }
-
-                        WebUtils.getLineStream(ip).forEach(whitelistedCIDRs::add);
+                    whitelist = this.proxyProtocolWhitelist;
+                    if (whitelist == null) {
+                        this.proxyProtocolWhitelist = whitelist = CIDRTrie.compile(getWhitelistedCIDRs());
+                    }
+                }
+            }
+            return whitelist;
+        }
+
+        private synchronized List<String> getWhitelistedCIDRs() {
+            List<String> cidrs = this.whitelistedCIDRs;
+            if (cidrs == null) {
+                // Check if proxyProtocolWhitelistedIPs contains URLs we need to fetch and parse by line
+                cidrs = new ArrayList<>();
+                for (String ip: proxyProtocolWhitelistedIPs) {
+                    if (!ip.startsWith("http")) {
+                        cidrs.add(ip);
+                        continue;
                     }
 
-                    this.whitelistedIPsMatchers = matchers = whitelistedCIDRs.stream()
-                            .map(CIDRMatcher::new)
-                            .collect(Collectors.toList());
+                    WebUtils.getLineStream(ip).forEach(cidrs::add);
                 }
+                this.whitelistedCIDRs = cidrs;
             }
-            return Collections.unmodifiableList(matchers);
+            return cidrs;
         }
     }
 
@@ -338,6 +359,18 @@ public abstract class GeyserJacksonConfiguration implements GeyserConfiguration
     @JsonProperty("disable-compression")
     private boolean isDisableCompression = true;
 
+    @JsonProperty("login-crypto-threads")
+    private int loginCryptoThreads = 0;
+
+    @JsonProperty("login-queue-size")
+    private int loginQueueSize = 256;
+
+    @JsonProperty("upstream-pressure-elevated-delay")
+    private int upstreamPressureElevatedDelay = 300;
+
+    @JsonProperty("upstream-pressure-high-delay")
+    private int upstreamPressureHighDelay = 1000;
+
     @JsonProperty("config-version")
     private int configVersion = 0;
 
@@ -42,7 +42,12 @@ import org.geysermc.geyser.api.GeyserApi;
 import org.geysermc.geyser.api.extension.Extension;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.session.ChunkBatchSizeCalculator;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.SessionTicker;
+import org.geysermc.geyser.session.UpstreamPressure;
+import org.geysermc.geyser.session.auth.LoginMetrics;
+import org.geysermc.geyser.session.auth.LoginStage;
 import org.geysermc.geyser.text.AsteriskSerializer;
 import org.geysermc.geyser.util.CpuUtils;
 import org.geysermc.geyser.util.FileUtils;
@@ -57,6 +62,7 @@ import java.net.Socket;
 import java.net.UnknownHostException;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Getter
@@ -74,6 +80,10 @@ public class DumpInfo {
     private final Floodgate floodgate;
     private final Object2IntMap<DeviceOs> userPlatforms;
     private final int connectionAttempts;
+    private final Map<LoginStage, LoginMetrics.StageSnapshot> loginStages;
+    private final List<TickLoopInfo> tickLoops;
+    private final ChunkRateInfo chunkRates;
+    private final List<UpstreamPressureInfo> upstreamPressure;
     private final HashInfo hashInfo;
     private final RamInfo ramInfo;
     private LogsInfo logsInfo;
@@ -120,9 +130,13 @@ public class DumpInfo {
         }
 
         this.userPlatforms = new Object2IntOpenHashMap<>();
+        this.chunkRates = new ChunkRateInfo();
+        this.upstreamPressure = new ArrayList<>();
         for (GeyserSession session : geyser.getSessionManager().getAllSessions()) {
             DeviceOs device = session.getClientData().getDeviceOs();
             userPlatforms.put(device, userPlatforms.getOrDefault(device, 0) + 1);
+            chunkRates.add(session.getChunkBatchSizeCalculator());
+            upstreamPressure.add(new UpstreamPressureInfo(session.getUpstreamPressure()));
         }
 
         if (geyser.getGeyserServer() != null) {
@@ -131,6 +145,17 @@ public class DumpInfo {
             this.connectionAttempts = 0; // Fallback if Geyser failed to fully startup
         }
 
+        if (geyser.getLoginCryptoExecutor() != null) {
+            this.loginStages = geyser.getLoginCryptoExecutor().getMetrics().snapshot();
+        } else {
+            this.loginStages = Map.of();
+        }
+
+        this.tickLoops = new ArrayList<>();
+        for (SessionTicker ticker : geyser.getSessionManager().getTickers()) {
+            this.tickLoops.add(new TickLoopInfo(ticker));
+        }
+
         this.bootstrapInfo = geyser.getBootstrap().getDumpInfo();
 
         this.flagsInfo = new FlagsInfo();
@@ -232,6 +257,61 @@ public class DumpInfo {
         }
     }
 
+    @Getter
+    public static class TickLoopInfo {
+        private final int sessions;
+        private final long batches;
+        private final double averageTicksPerBatch;
+        private final long overruns;
+        private final double lastBatchMillis;
+        private final double maxBatchMillis;
+
+        TickLoopInfo(SessionTicker ticker) {
+            this.sessions = ticker.size();
+            this.batches = ticker.getBatches();
+            this.averageTicksPerBatch = ticker.getAverageTicksPerBatch();
+            this.overruns = ticker.getOverruns();
+            this.lastBatchMillis = ticker.getLastBatchNanos() / 1_000_000d;
+            this.maxBatchMillis = ticker.getMaxBatchNanos() / 1_000_000d;
+        }
+    }
+
+    /**
+     * The chunks per tick requested from the server, across all sessions.
+     */
+    @Getter
+    public static class ChunkRateInfo {
+        private int sessions;
+        private float minChunksPerTick;
+        private float maxChunksPerTick;
+        private double averageChunksPerTick;
+        private double averageRoundTripMillis;
+
+        void add(ChunkBatchSizeCalculator calculator) {
+            float chunksPerTick = calculator.getDesiredChunksPerTick();
+            this.minChunksPerTick = sessions == 0 ? chunksPerTick : Math.min(minChunksPerTick, chunksPerTick);
+            this.maxChunksPerTick = Math.max(maxChunksPerTick, chunksPerTick);
+            this.averageChunksPerTick = (averageChunksPerTick * sessions + chunksPerTick) / (sessions + 1);
+            this.averageRoundTripMillis = (averageRoundTripMillis * sessions + calculator.roundTripMillis()) / (sessions + 1);
+            this.sessions++;
+        }
+    }
+
+    /**
+     * How far behind one session's client is, and what was left out to let it catch up.
+     */
+    public record UpstreamPressureInfo(UpstreamPressure.Tier tier, double queueDelayMillis, double peakQueueDelayMillis,
+                                       long peakQueuedBytes, Map<UpstreamPressure.Tier, Long> ticksInTier,
+                                       Map<UpstreamPressure.Traffic, Long> dropped) {
+        UpstreamPressureInfo(UpstreamPressure pressure) {
+            this(pressure.getTier(), pressure.getQueueDelayMillis(), pressure.getPeakQueueDelayMillis(), pressure.getPeakQueuedBytes(),
+                new EnumMap<>(Arrays.stream(UpstreamPressure.Tier.values())
+                    .collect(Collectors.toMap(Function.identity(), pressure::getTicksInTier))),
+                new EnumMap<>(Arrays.stream(UpstreamPressure.Traffic.values())
+                    .collect(Collectors.toMap(Function.identity(), pressure::getDropped))));
+        }
+    }
+
     @Getter
     public static class Floodgate {
         private final Properties gitInfo;
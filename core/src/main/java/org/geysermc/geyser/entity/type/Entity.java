@@ -48,6 +48,7 @@ import org.geysermc.geyser.entity.properties.GeyserEntityPropertyManager;
 import org.geysermc.geyser.item.Items;
 import org.geysermc.geyser.scoreboard.Team;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.EntityInterestCache;
 import org.geysermc.geyser.translator.text.MessageTranslator;
 import org.geysermc.geyser.util.EntityUtils;
 import org.geysermc.geyser.util.InteractionResult;
@@ -245,6 +246,20 @@ public class Entity implements GeyserEntity {
     public void moveRelative(double relX, double relY, double relZ, float yaw, float pitch, float headYaw, boolean isOnGround) {
         position = Vector3f.from(position.getX() + relX, position.getY() + relY, position.getZ() + relZ);
 
+        EntityInterestCache interestCache = session.getEntityInterestCache();
+        boolean deferred = interestCache.deferMove(this);
+        if (deferred || interestCache.consumePendingMove(this)) {
+            this.pitch = pitch;
+            this.yaw = yaw;
+            this.headYaw = headYaw;
+            setOnGround(isOnGround);
+            if (!deferred) {
+                // A held back movement was waiting; send everything so no axis is left behind
+                sendCoalescedMove();
+            }
+            return;
+        }
+
         MoveEntityDeltaPacket moveEntityPacket = new MoveEntityDeltaPacket();
         moveEntityPacket.setRuntimeEntityId(geyserId);
         if (relX != 0.0) {
@@ -293,6 +308,12 @@ public class Entity implements GeyserEntity {
         setHeadYaw(headYaw);
         setOnGround(isOnGround);
 
+        EntityInterestCache interestCache = session.getEntityInterestCache();
+        if (!teleported && interestCache.deferMove(this)) {
+            return;
+        }
+        interestCache.consumePendingMove(this);
+
         MoveEntityAbsolutePacket moveEntityPacket = new MoveEntityAbsolutePacket();
         moveEntityPacket.setRuntimeEntityId(geyserId);
         moveEntityPacket.setPosition(position);
@@ -303,6 +324,33 @@ public class Entity implements GeyserEntity {
         session.sendUpstreamPacket(moveEntityPacket);
     }
 
+    /**
+     * Sends the current position and rotation of this entity, after one or more of its movements were held back
+     * by the {@link EntityInterestCache}.
+     */
+    public void sendCoalescedMove() {
+        if (!valid) {
+            return;
+        }
+
+        MoveEntityAbsolutePacket moveEntityPacket = new MoveEntityAbsolutePacket();
+        moveEntityPacket.setRuntimeEntityId(geyserId);
+        moveEntityPacket.setPosition(getBedrockPosition());
+        moveEntityPacket.setRotation(getBedrockRotation());
+        moveEntityPacket.setOnGround(onGround);
+        moveEntityPacket.setTeleported(false);
+
+        session.sendUpstreamPacket(moveEntityPacket);
+    }
+
+    /**
+     * @return the position of this entity as the Bedrock client knows it. Override if {@link #position}
+     * does not include an offset that is applied when moving the entity on Bedrock.
+     */
+    protected Vector3f getBedrockPosition() {
+        return position;
+    }
+
     /**
      * Teleports an entity to a new location. Used in JavaTeleportEntityTranslator.
      * @param position The new position of the entity.
@@ -125,6 +125,12 @@ public class ArmorStandEntity extends LivingEntity {
         this.position = position;
     }
 
+    @Override
+    protected Vector3f getBedrockPosition() {
+        float yOffset = getYOffset();
+        return yOffset != 0 ? position.up(yOffset) : position;
+    }
+
     @Override
     public void updateNametag(@Nullable Team team) {
         // unlike all other LivingEntities, armor stands are not affected by team nametag visibility
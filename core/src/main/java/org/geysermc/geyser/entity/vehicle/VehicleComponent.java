@@ -44,9 +44,11 @@ import org.geysermc.geyser.level.block.type.BedBlock;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.block.type.BlockState;
 import org.geysermc.geyser.level.block.type.TrapDoorBlock;
+import org.geysermc.geyser.level.physics.Axis;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.level.physics.CollisionManager;
 import org.geysermc.geyser.level.physics.Direction;
+import org.geysermc.geyser.session.cache.ChunkCache;
 import org.geysermc.geyser.session.cache.tags.BlockTag;
 import org.geysermc.geyser.translator.collision.BlockCollision;
 import org.geysermc.geyser.translator.collision.SolidCollision;
@@ -63,8 +65,22 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
     private static final float BASE_SLIPPERINESS_CUBED = 0.6f * 0.6f * 0.6f;
     private static final float MIN_VELOCITY = 0.003f;
 
+    private static final Vector3f COBWEB_MULTIPLIER = Vector3f.from(0.25, 0.05f, 0.25);
+    private static final Vector3f COBWEB_WEAVING_MULTIPLIER = Vector3f.from(0.5, 0.25, 0.5);
+    private static final Vector3f POWDER_SNOW_MULTIPLIER = Vector3f.from(0.9f, 1.5, 0.9f);
+    private static final Vector3f SWEET_BERRY_BUSH_MULTIPLIER = Vector3f.from(0.8f, 0.75, 0.8f);
+
     protected final T vehicle;
     protected final BoundingBox boundingBox;
+    /**
+     * Reused for bounding box calculations that should not modify {@link #boundingBox}, instead of cloning it.
+     * Must not be held across calls to other methods of this component.
+     */
+    protected final BoundingBox scratchBox;
+    /**
+     * Reused every tick so that the surrounding block window and its buffer are not reallocated.
+     */
+    private final VehicleContext context;
 
     protected float stepHeight;
     protected float moveSpeed;
@@ -87,6 +103,8 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
                 vehicle.getPosition().getZ(),
                 width, height, width
         );
+        this.scratchBox = this.boundingBox.clone();
+        this.context = new VehicleContext();
     }
 
     public void setWidth(float width) {
@@ -176,7 +194,7 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
             return;
         }
 
-        VehicleContext ctx = new VehicleContext();
+        VehicleContext ctx = this.context;
         ctx.loadSurroundingBlocks();
 
         ObjectDoublePair<Fluid> fluidHeight = updateFluidMovement(ctx);
@@ -200,16 +218,15 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
      * @return type and height of fluid to use for movement
      */
     protected ObjectDoublePair<Fluid> updateFluidMovement(VehicleContext ctx) {
-        BoundingBox box = boundingBox.clone();
+        BoundingBox box = scratchBox.copyFrom(boundingBox);
         box.expand(-0.001);
 
-        Vector3d min = box.getMin();
-        Vector3d max = box.getMax();
-
-        BlockPositionIterator iter = BlockPositionIterator.fromMinMax(min.getFloorX(), min.getFloorY(), min.getFloorZ(), max.getFloorX(), max.getFloorY(), max.getFloorZ());
+        double minY = box.getMin(Axis.Y);
+        BlockPositionIterator iter = BlockPositionIterator.fromMinMax(floor(box.getMin(Axis.X)), floor(minY), floor(box.getMin(Axis.Z)),
+            floor(box.getMax(Axis.X)), floor(box.getMax(Axis.Y)), floor(box.getMax(Axis.Z)));
 
-        double waterHeight = getFluidHeightAndApplyMovement(ctx, iter, Fluid.WATER, 0.014, min.getY());
-        double lavaHeight = getFluidHeightAndApplyMovement(ctx, iter, Fluid.LAVA, vehicle.getSession().getDimensionType().ultrawarm() ? 0.007 : 0.007 / 3, min.getY());
+        double waterHeight = getFluidHeightAndApplyMovement(ctx, iter, Fluid.WATER, 0.014, minY);
+        double lavaHeight = getFluidHeightAndApplyMovement(ctx, iter, Fluid.LAVA, vehicle.getSession().getDimensionType().ultrawarm() ? 0.007 : 0.007 / 3, minY);
 
         // Apply upward motion if the vehicle is a Strider, and it is submerged in lava
         if (lavaHeight > 0 && vehicle.getDefinition().entityType() == EntityType.STRIDER) {
@@ -244,7 +261,7 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
      * @return height of fluid compared to minY
      */
     protected double getFluidHeightAndApplyMovement(VehicleContext ctx, BlockPositionIterator iter, Fluid fluid, double speed, double minY) {
-        Vector3d totalVelocity = Vector3d.ZERO;
+        double totalX = 0, totalY = 0, totalZ = 0;
         double maxFluidHeight = 0;
         int fluidBlocks = 0;
 
@@ -254,10 +271,12 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
                 continue;
             }
 
-            Vector3i blockPos = Vector3i.from(iter.getX(), iter.getY(), iter.getZ());
+            int x = iter.getX();
+            int y = iter.getY();
+            int z = iter.getZ();
             float worldFluidHeight = getWorldFluidHeight(fluid, blockId);
 
-            double vehicleFluidHeight = blockPos.getY() + worldFluidHeight - minY;
+            double vehicleFluidHeight = y + worldFluidHeight - minY;
             if (vehicleFluidHeight < 0) {
                 // Vehicle is not submerged in this fluid block
                 continue;
@@ -267,10 +286,12 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
             // If this block is not a falling fluid, set to true to avoid unnecessary checks.
             boolean flowBlocked = worldFluidHeight != 1;
 
-            Vector3d velocity = Vector3d.ZERO;
+            double velocityX = 0, velocityY = 0, velocityZ = 0;
             for (Direction direction : Direction.HORIZONTAL) {
-                Vector3i adjacentBlockPos = blockPos.add(direction.getUnitVector());
-                int adjacentBlockId = ctx.getBlockId(adjacentBlockPos);
+                Vector3i unitVector = direction.getUnitVector();
+                int adjacentX = x + unitVector.getX();
+                int adjacentZ = z + unitVector.getZ();
+                int adjacentBlockId = ctx.getBlockId(adjacentX, y, adjacentZ);
                 Fluid adjacentFluid = BlockStateValues.getFluid(adjacentBlockId);
 
                 float fluidHeightDiff = 0;
@@ -281,7 +302,7 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
                     // check if there is a fluid under it
                     BlockCollision adjacentBlockCollision = BlockUtils.getCollision(adjacentBlockId);
                     if (adjacentBlockCollision == null) {
-                        float adjacentFluidHeight = getLogicalFluidHeight(fluid, ctx.getBlockId(adjacentBlockPos.add(Direction.DOWN.getUnitVector())));
+                        float adjacentFluidHeight = getLogicalFluidHeight(fluid, ctx.getBlockId(adjacentX, y - 1, adjacentZ));
                         if (adjacentFluidHeight != -1) { // Only care about same type of fluid
                             fluidHeightDiff = getLogicalFluidHeight(fluid, blockId) - (adjacentFluidHeight - MAX_LOGICAL_FLUID_HEIGHT);
                         }
@@ -292,16 +313,17 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
                 }
 
                 if (fluidHeightDiff != 0) {
-                    velocity = velocity.add(direction.getUnitVector().toDouble().mul(fluidHeightDiff));
+                    velocityX += unitVector.getX() * fluidHeightDiff;
+                    velocityZ += unitVector.getZ() * fluidHeightDiff;
                 }
             }
 
             if (worldFluidHeight == 1) { // If falling fluid
                 // If flow is not blocked, check if it is blocked for the fluid above
                 if (!flowBlocked) {
-                    Vector3i blockPosUp = blockPos.up();
                     for (Direction direction : Direction.HORIZONTAL) {
-                        flowBlocked = isFlowBlocked(fluid, ctx.getBlockId(blockPosUp.add(direction.getUnitVector())));
+                        Vector3i unitVector = direction.getUnitVector();
+                        flowBlocked = isFlowBlocked(fluid, ctx.getBlockId(x + unitVector.getX(), y + 1, z + unitVector.getZ()));
                         if (flowBlocked) {
                             break;
                         }
@@ -309,22 +331,33 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
                 }
 
                 if (flowBlocked) {
-                    velocity = javaNormalize(velocity).add(0.0, -6.0, 0.0);
+                    double length = javaLength(velocityX, velocityY, velocityZ);
+                    velocityX /= length;
+                    velocityY = velocityY / length - 6.0;
+                    velocityZ /= length;
                 }
             }
 
-            velocity = javaNormalize(velocity);
+            double length = javaLength(velocityX, velocityY, velocityZ);
+            velocityX /= length;
+            velocityY /= length;
+            velocityZ /= length;
 
             maxFluidHeight = Math.max(vehicleFluidHeight, maxFluidHeight);
             if (maxFluidHeight < 0.4) {
-                velocity = velocity.mul(maxFluidHeight);
+                velocityX *= maxFluidHeight;
+                velocityY *= maxFluidHeight;
+                velocityZ *= maxFluidHeight;
             }
 
-            totalVelocity = totalVelocity.add(velocity);
+            totalX += velocityX;
+            totalY += velocityY;
+            totalZ += velocityZ;
             fluidBlocks++;
         }
 
-        if (!totalVelocity.equals(Vector3d.ZERO)) {
+        if (totalX != 0 || totalY != 0 || totalZ != 0) {
+            Vector3d totalVelocity = Vector3d.from(totalX, totalY, totalZ);
             Vector3f motion = vehicle.getMotion();
 
             totalVelocity = javaNormalize(totalVelocity.mul(1.0 / fluidBlocks));
@@ -348,6 +381,19 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
         return len < 1.0E-4 ? Vector3d.ZERO : Vector3d.from(vec.getX() / len, vec.getY() / len, vec.getZ() / len);
     }
 
+    /**
+     * The length to divide by to normalize a vector the way {@link #javaNormalize(Vector3d)} does.
+     * Vectors too short to be normalized get an infinite length, so that dividing by it results in zero.
+     */
+    private static double javaLength(double x, double y, double z) {
+        double len = Math.sqrt(x * x + y * y + z * z);
+        return len < 1.0E-4 ? Double.POSITIVE_INFINITY : len;
+    }
+
+    private static int floor(double value) {
+        return (int) Math.floor(value);
+    }
+
     protected float getWorldFluidHeight(Fluid fluidType, int blockId) {
         return (float) switch (fluidType) {
             case WATER -> BlockStateValues.getWaterHeight(blockId);
@@ -447,8 +493,9 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
     }
 
     protected boolean shouldApplyFluidJumpBoost(VehicleContext ctx, double originalY) {
-        BoundingBox box = boundingBox.clone();
-        box.translate(vehicle.getMotion().toDouble().up(0.6f - ctx.centerPos().getY() + originalY));
+        Vector3f motion = vehicle.getMotion();
+        BoundingBox box = scratchBox.copyFrom(boundingBox);
+        box.translate(motion.getX(), motion.getY() + 0.6f - ctx.centerPos().getY() + originalY, motion.getZ());
         box.expand(-1.0E-7);
 
         BlockPositionIterator iter = vehicle.getSession().getCollisionManager().collidableBlocksIterator(box);
@@ -490,30 +537,27 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
      * @return the multiplier
      */
     protected @Nullable Vector3f getBlockMovementMultiplier(VehicleContext ctx) {
-        BoundingBox box = boundingBox.clone();
+        BoundingBox box = scratchBox.copyFrom(boundingBox);
         box.expand(-1.0E-7);
 
-        Vector3i min = box.getMin().toInt();
-        Vector3i max = box.getMax().toInt();
+        int minX = floor(box.getMin(Axis.X));
+        int minY = floor(box.getMin(Axis.Y));
+        int minZ = floor(box.getMin(Axis.Z));
 
         // Iterate xyz backwards
         // Minecraft iterates forwards but only the last multiplier affects movement
-        for (int x = max.getX(); x >= min.getX(); x--) {
-            for (int y = max.getY(); y >= min.getY(); y--) {
-                for (int z = max.getZ(); z >= min.getZ(); z--) {
+        for (int x = floor(box.getMax(Axis.X)); x >= minX; x--) {
+            for (int y = floor(box.getMax(Axis.Y)); y >= minY; y--) {
+                for (int z = floor(box.getMax(Axis.Z)); z >= minZ; z--) {
                     Block block = ctx.getBlock(x, y, z).block();
                     Vector3f multiplier = null;
 
                     if (block == Blocks.COBWEB) {
-                        if (effectWeaving) {
-                            multiplier = Vector3f.from(0.5, 0.25, 0.5);
-                        } else {
-                            multiplier = Vector3f.from(0.25, 0.05f, 0.25);
-                        }
+                        multiplier = effectWeaving ? COBWEB_WEAVING_MULTIPLIER : COBWEB_MULTIPLIER;
                     } else if (block == Blocks.POWDER_SNOW) {
-                        multiplier = Vector3f.from(0.9f, 1.5, 0.9f);
+                        multiplier = POWDER_SNOW_MULTIPLIER;
                     } else if (block == Blocks.SWEET_BERRY_BUSH) {
-                        multiplier = Vector3f.from(0.8f, 0.75, 0.8f);
+                        multiplier = SWEET_BERRY_BUSH_MULTIPLIER;
                     }
 
                     if (multiplier != null) {
@@ -527,13 +571,11 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
     }
 
     protected void applyBlockCollisionEffects(VehicleContext ctx) {
-        BoundingBox box = boundingBox.clone();
+        BoundingBox box = scratchBox.copyFrom(boundingBox);
         box.expand(-1.0E-7);
 
-        Vector3i min = box.getMin().toInt();
-        Vector3i max = box.getMax().toInt();
-
-        BlockPositionIterator iter = BlockPositionIterator.fromMinMax(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+        BlockPositionIterator iter = BlockPositionIterator.fromMinMax(floor(box.getMin(Axis.X)), floor(box.getMin(Axis.Y)), floor(box.getMin(Axis.Z)),
+            floor(box.getMax(Axis.X)), floor(box.getMax(Axis.Y)), floor(box.getMax(Axis.Z)));
         for (iter.reset(); iter.hasNext(); iter.next()) {
             BlockState blockState = ctx.getBlock(iter);
 
@@ -789,32 +831,37 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
         Vector3i result = null;
 
         if (vehicle.isOnGround()) {
-            BoundingBox box = boundingBox.clone();
+            BoundingBox box = scratchBox.copyFrom(boundingBox);
             box.extend(0, -1.0E-6, 0); // Extend slightly down
 
-            Vector3i min = box.getMin().toInt();
-            Vector3i max = box.getMax().toInt();
-
             // Use minY as maxY
-            BlockPositionIterator iter = BlockPositionIterator.fromMinMax(min.getX(), min.getY(), min.getZ(), max.getX(), min.getY(), max.getZ());
+            int minY = floor(box.getMin(Axis.Y));
+            BlockPositionIterator iter = BlockPositionIterator.fromMinMax(floor(box.getMin(Axis.X)), minY, floor(box.getMin(Axis.Z)),
+                floor(box.getMax(Axis.X)), minY, floor(box.getMax(Axis.Z)));
 
+            Vector3d centerPos = ctx.centerPos();
             double minDistance = Double.MAX_VALUE;
             for (iter.reset(); iter.hasNext(); iter.next()) {
-                Vector3i blockPos = Vector3i.from(iter.getX(), iter.getY(), iter.getZ());
+                int x = iter.getX();
+                int y = iter.getY();
+                int z = iter.getZ();
                 int blockId = ctx.getBlockId(iter);
 
                 BlockCollision blockCollision;
                 if (vehicle.canWalkOnLava()) {
-                    blockCollision = vehicle.getSession().getCollisionManager().getCollisionLavaWalking(blockId, blockPos.getY(), boundingBox);
+                    blockCollision = vehicle.getSession().getCollisionManager().getCollisionLavaWalking(blockId, y, boundingBox);
                 } else {
                     blockCollision = BlockUtils.getCollision(blockId);
                 }
 
-                if (blockCollision != null && blockCollision.checkIntersection(blockPos, box)) {
-                    double distance = ctx.centerPos().distanceSquared(blockPos.toDouble().add(0.5f, 0.5f, 0.5f));
+                if (blockCollision != null && blockCollision.checkIntersection(x, y, z, box)) {
+                    double dx = centerPos.getX() - (x + 0.5);
+                    double dy = centerPos.getY() - (y + 0.5);
+                    double dz = centerPos.getZ() - (z + 0.5);
+                    double distance = dx * dx + dy * dy + dz * dz;
                     if (distance <= minDistance) {
                         minDistance = distance;
-                        result = blockPos;
+                        result = Vector3i.from(x, y, z);
                     }
                 }
             }
@@ -887,11 +934,14 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
 
     protected class VehicleContext {
         private Vector3d centerPos;
-        private Vector3d cachePos;
         private BlockState centerBlock;
         private Vector3i supportingBlockPos;
         private BlockPositionIterator blockIter;
         private int[] blocks;
+        /**
+         * Inclusive bounds of the block window in {@link #blocks}
+         */
+        private int minX, minY, minZ, maxX, maxY, maxZ;
 
         /**
          * Cache frequently used data and blocks used in movement calculations.
@@ -901,17 +951,30 @@ public class VehicleComponent<T extends LivingEntity & ClientVehicle> {
         protected void loadSurroundingBlocks() {
             this.centerPos = boundingBox.getBottomCenter();
 
-            // Reuse block cache if vehicle moved less than 1 block
-            if (this.cachePos == null || this.cachePos.distanceSquared(this.centerPos) > 1) {
-                BoundingBox box = boundingBox.clone();
-                box.expand(2);
-
-                Vector3i min = box.getMin().toInt();
-                Vector3i max = box.getMax().toInt();
-                this.blockIter = BlockPositionIterator.fromMinMax(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
-                this.blocks = vehicle.getSession().getGeyser().getWorldManager().getBlocksAt(vehicle.getSession(), this.blockIter);
-
-                this.cachePos = this.centerPos;
+            int newMinX = floor(boundingBox.getMin(Axis.X) - 2);
+            int newMinY = floor(boundingBox.getMin(Axis.Y) - 2);
+            int newMinZ = floor(boundingBox.getMin(Axis.Z) - 2);
+            int newMaxX = floor(boundingBox.getMax(Axis.X) + 2);
+            int newMaxY = floor(boundingBox.getMax(Axis.Y) + 2);
+            int newMaxZ = floor(boundingBox.getMax(Axis.Z) + 2);
+
+            boolean moved = this.blockIter == null || newMinX != minX || newMinY != minY || newMinZ != minZ
+                || newMaxX != maxX || newMaxY != maxY || newMaxZ != maxZ;
+            ChunkCache chunkCache = vehicle.getSession().getChunkCache();
+            // Blocks are kept between ticks while the window stays in place, until a block inside it changes
+            if (moved || chunkCache.haveWatchedBlocksChanged(this)) {
+                if (moved) {
+                    this.blockIter = BlockPositionIterator.fromMinMax(newMinX, newMinY, newMinZ, newMaxX, newMaxY, newMaxZ);
+                    this.minX = newMinX;
+                    this.minY = newMinY;
+                    this.minZ = newMinZ;
+                    this.maxX = newMaxX;
+                    this.maxY = newMaxY;
+                    this.maxZ = newMaxZ;
+                }
+                this.blockIter.reset();
+                this.blocks = vehicle.getSession().getGeyser().getWorldManager().getBlocksAt(vehicle.getSession(), this.blockIter, this.blocks);
+                chunkCache.watchBlocks(this, minX, minY, minZ, maxX, maxY, maxZ);
             }
 
             this.centerBlock = getBlock(this.centerPos.toInt());
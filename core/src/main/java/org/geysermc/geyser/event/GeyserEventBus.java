@@ -35,13 +35,21 @@ import org.geysermc.geyser.api.event.EventBus;
 import org.geysermc.geyser.api.event.EventRegistrar;
 import org.geysermc.geyser.api.event.EventSubscriber;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 @SuppressWarnings("unchecked")
 public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Event, EventSubscriber<EventRegistrar, ? extends Event>>
         implements EventBus<EventRegistrar> {
+    /**
+     * Whether an event class has subscribers, for {@link #hasSubscribers(Class)}. Entries are set as soon as a
+     * subscriber is created, and the whole map is cleared after subscribers are removed.
+     */
+    private final Map<Class<?>, Boolean> hasSubscribers = new ConcurrentHashMap<>();
+
     @Override
     protected <L, T extends Event, B extends OwnedSubscriber<EventRegistrar, T>> B makeSubscription(
             @NonNull EventRegistrar owner,
@@ -49,6 +57,7 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
             @NonNull Subscribe subscribe,
             @NonNull L listener,
             @NonNull BiConsumer<L, T> handler) {
+        hasSubscribers.put(eventClass, Boolean.TRUE);
         return (B) new GeyserEventSubscriber<>(
                 owner, eventClass, subscribe.postOrder(), subscribe.ignoreCancelled(), listener, handler
         );
@@ -60,6 +69,7 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
             @NonNull Class<T> eventClass,
             @NonNull Consumer<T> handler,
             @NonNull PostOrder postOrder) {
+        hasSubscribers.put(eventClass, Boolean.TRUE);
         return (B) new GeyserEventSubscriber<>(owner, eventClass, handler, postOrder);
     }
 
@@ -68,4 +78,27 @@ public final class GeyserEventBus extends OwnedEventBusImpl<EventRegistrar, Even
     public <T extends Event> Set<? extends EventSubscriber<EventRegistrar, T>> subscribers(@NonNull Class<T> eventClass) {
         return castGenericSet(super.subscribers(eventClass));
     }
+
+    @Override
+    public void unsubscribe(@NonNull EventSubscriber<EventRegistrar, ? extends Event> subscription) {
+        super.unsubscribe(subscription);
+        hasSubscribers.clear();
+    }
+
+    @Override
+    public void unregisterAll(@NonNull EventRegistrar owner) {
+        super.unregisterAll(owner);
+        hasSubscribers.clear();
+    }
+
+    /**
+     * Cheaper alternative to checking {@link #subscribers(Class)} for paths that run often, such as pings.
+     * The result is only looked up again after subscribers have been added or removed.
+     *
+     * @param eventClass the event class
+     * @return whether anything subscribes to the given event class
+     */
+    public boolean hasSubscribers(@NonNull Class<? extends Event> eventClass) {
+        return hasSubscribers.computeIfAbsent(eventClass, $ -> !subscribers(eventClass).isEmpty());
+    }
 }
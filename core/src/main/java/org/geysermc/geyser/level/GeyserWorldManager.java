@@ -27,6 +27,7 @@ package org.geysermc.geyser.level;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.geysermc.erosion.packet.backendbound.BackendboundBatchBlockRequestPacket;
 import org.geysermc.erosion.packet.backendbound.BackendboundBlockRequestPacket;
@@ -70,10 +71,12 @@ public class GeyserWorldManager extends WorldManager {
     }
 
     @Override
-    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter, int @Nullable [] buffer) {
         var erosionHandler = session.getErosionHandler().getAsActive();
         if (erosionHandler == null) {
-            return super.getBlocksAt(session, iter);
+            int[] blocks = buffer != null && buffer.length >= iter.getMaxIterations() ? buffer : new int[iter.getMaxIterations()];
+            session.getChunkCache().getBlocksAt(iter, blocks);
+            return blocks;
         } else if (session.isClosed()) {
             throw new ErosionCancellationException();
         }
@@ -99,8 +99,20 @@ public abstract class WorldManager {
         return CompletableFuture.completedFuture(this.getBlockAt(session, x, y, z));
     }
 
-    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
-        int[] blocks = new int[iter.getMaxIterations()];
+    public final int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter) {
+        return this.getBlocksAt(session, iter, null);
+    }
+
+    /**
+     * Gets the Java block states of every position in the iterator, indexed by {@link BlockPositionIterator#getIteration()}.
+     *
+     * @param session the session
+     * @param iter the positions to look up
+     * @param buffer an array to reuse, if it is large enough
+     * @return the block states; this is {@code buffer} unless it was null or too small
+     */
+    public int[] getBlocksAt(GeyserSession session, BlockPositionIterator iter, int @Nullable [] buffer) {
+        int[] blocks = buffer != null && buffer.length >= iter.getMaxIterations() ? buffer : new int[iter.getMaxIterations()];
         for (; iter.hasNext(); iter.next()) {
             int networkId = this.getBlockAt(session, iter.getX(), iter.getY(), iter.getZ());
             blocks[iter.getIteration()] = networkId;
@@ -87,6 +87,15 @@ public class Block {
         this.defaultState = setDefaultState(firstState);
     }
 
+    /**
+     * @return if changes to this block can be sent to the client in bulk, as a plain block and water layer update.
+     * Must return false if {@link #updateBlock(GeyserSession, BlockState, Vector3i)} or
+     * {@link #sendBlockUpdatePacket(GeyserSession, BlockState, BlockDefinition, Vector3i)} is overridden.
+     */
+    public boolean canBatchUpdates() {
+        return true;
+    }
+
     public void updateBlock(GeyserSession session, BlockState state, Vector3i position) {
         checkForEmptySkull(session, state, position);
 
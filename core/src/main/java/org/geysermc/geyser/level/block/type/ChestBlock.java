@@ -39,6 +39,11 @@ public class ChestBlock extends Block {
         super(javaIdentifier, builder);
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     public void updateBlock(GeyserSession session, BlockState state, Vector3i position) {
         super.updateBlock(session, state, position);
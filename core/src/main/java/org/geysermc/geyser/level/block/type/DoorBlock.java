@@ -35,6 +35,11 @@ public class DoorBlock extends Block {
         super(javaIdentifier, builder);
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     public void updateBlock(GeyserSession session, BlockState state, Vector3i position) {
         // Needed to check whether we must force the client to update the door state.
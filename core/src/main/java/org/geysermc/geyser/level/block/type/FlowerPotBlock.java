@@ -44,6 +44,11 @@ public class FlowerPotBlock extends Block implements BedrockChunkWantsBlockEntit
         this.flower = flower;
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     public void updateBlock(GeyserSession session, BlockState state, Vector3i position) {
         super.updateBlock(session, state, position);
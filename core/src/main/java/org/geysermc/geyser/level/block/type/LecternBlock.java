@@ -43,6 +43,11 @@ public class LecternBlock extends Block implements BedrockChunkWantsBlockEntityT
         super(javaIdentifier, builder);
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     public NbtMap createTag(GeyserSession session, Vector3i position, BlockState blockState) {
         return getBaseLecternTag(position, blockState.getValue(Properties.HAS_BOOK));
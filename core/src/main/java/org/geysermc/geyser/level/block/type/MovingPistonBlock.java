@@ -34,6 +34,11 @@ public class MovingPistonBlock extends Block {
         super(javaIdentifier, builder);
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     protected void sendBlockUpdatePacket(GeyserSession session, BlockState state, BlockDefinition definition, Vector3i position) {
         // Prevent moving_piston from being placed
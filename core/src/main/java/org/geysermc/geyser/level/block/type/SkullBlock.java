@@ -48,6 +48,11 @@ public class SkullBlock extends Block {
         this.type = type;
     }
 
+    @Override
+    public boolean canBatchUpdates() {
+        return false;
+    }
+
     @Override
     protected void sendBlockUpdatePacket(GeyserSession session, BlockState state, BlockDefinition definition, Vector3i position) {
         if (this.type == Type.PLAYER) {
@@ -36,6 +36,14 @@ public interface BitArray {
 
     int size();
 
+    /**
+     * Sets every entry of this bit array at once, in index order.
+     * Faster than calling {@link #set(int, int)} for every entry as each word is only written once.
+     *
+     * @param values the values to set; must contain at least {@link #size()} entries
+     */
+    void setAll(int[] values);
+
     /**
      * Overridden if the bit array implementation does not require size.
      */
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+
+import static org.geysermc.geyser.util.ChunkUtils.indexYZXtoXZY;
+
+/**
+ * Bulk conversion of Java chunk section storage (YZX order) into Bedrock order (XZY).
+ * <p>
+ * Java entries are unpacked a long at a time into a thread-local scratch buffer, which can then be
+ * packed into Bedrock words with {@link BitArray#setAll(int[])}.
+ */
+public final class JavaBitStorageTransposer {
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[BlockStorage.SIZE]);
+
+    /**
+     * Unpacks a Java chunk section's storage into XZY order.
+     *
+     * @param storage the Java storage of a full chunk section
+     * @return a thread-local buffer of {@link BlockStorage#SIZE} entries, indexed by XZY.
+     *         It is overwritten by the next call on the same thread.
+     */
+    public static int[] unpackToXZY(BitStorage storage) {
+        int[] out = SCRATCH.get();
+        if (storage.getSize() != BlockStorage.SIZE) {
+            throw new IllegalArgumentException("Expected a chunk section of " + BlockStorage.SIZE + " entries, got " + storage.getSize());
+        }
+
+        long[] data = storage.getData();
+        switch (storage.getBitsPerEntry()) {
+            case 4 -> unpack4(data, out);
+            case 8 -> unpack8(data, out);
+            default -> unpack(data, storage.getBitsPerEntry(), out);
+        }
+        return out;
+    }
+
+    /**
+     * Copies a Java chunk section's storage into a Bedrock bit array, converting YZX order into XZY order.
+     * The bit array must be able to hold every value of the Java storage.
+     */
+    public static void transpose(BitStorage storage, BitArray bedrockData) {
+        bedrockData.setAll(unpackToXZY(storage));
+    }
+
+    private static void unpack4(long[] data, int[] out) {
+        // 16 entries per long; 256 longs
+        for (int i = 0, yzx = 0; i < data.length; i++) {
+            long word = data[i];
+            for (int j = 0; j < 16; j++, yzx++) {
+                out[indexYZXtoXZY(yzx)] = (int) (word >>> (j << 2)) & 0xF;
+            }
+        }
+    }
+
+    private static void unpack8(long[] data, int[] out) {
+        // 8 entries per long; 512 longs
+        for (int i = 0, yzx = 0; i < data.length; i++) {
+            long word = data[i];
+            for (int j = 0; j < 8; j++, yzx++) {
+                out[indexYZXtoXZY(yzx)] = (int) (word >>> (j << 3)) & 0xFF;
+            }
+        }
+    }
+
+    private static void unpack(long[] data, int bitsPerEntry, int[] out) {
+        // Java entries do not span across longs; any leftover bits are padding
+        int valuesPerLong = Long.SIZE / bitsPerEntry;
+        long mask = (1L << bitsPerEntry) - 1L;
+        int yzx = 0;
+        for (int i = 0; i < data.length && yzx < BlockStorage.SIZE; i++) {
+            long word = data[i];
+            for (int j = 0; j < valuesPerLong && yzx < BlockStorage.SIZE; j++, yzx++) {
+                out[indexYZXtoXZY(yzx)] = (int) ((word >>> (j * bitsPerEntry)) & mask);
+            }
+        }
+    }
+
+    private JavaBitStorageTransposer() {
+    }
+}
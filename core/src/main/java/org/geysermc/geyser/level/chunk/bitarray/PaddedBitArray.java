@@ -82,6 +82,23 @@ public class PaddedBitArray implements BitArray {
         return this.size;
     }
 
+    @Override
+    public void setAll(int[] values) {
+        Preconditions.checkArgument(values.length >= this.size, "Expected at least %s values", this.size);
+        int bits = this.version.bits;
+        int entriesPerWord = this.version.entriesPerWord;
+        int mask = this.version.maxEntryValue;
+        int index = 0;
+        for (int i = 0; i < this.words.length; i++) {
+            int end = Math.min(index + entriesPerWord, this.size);
+            int word = 0;
+            for (int offset = 0; index < end; index++, offset += bits) {
+                word |= (values[index] & mask) << offset;
+            }
+            this.words[i] = word;
+        }
+    }
+
     @Override
     public int[] getWords() {
         return this.words;
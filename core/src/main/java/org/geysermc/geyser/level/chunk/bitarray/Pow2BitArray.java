@@ -81,6 +81,76 @@ public class Pow2BitArray implements BitArray {
         return this.words[arrayIndex] >>> wordOffset & this.version.maxEntryValue;
     }
 
+    /**
+     * Sets every entry at once, packing each word in one go. Each supported width has its own loop
+     * so the JIT can fully unroll the inner loop.
+     */
+    @Override
+    public void setAll(int[] values) {
+        Preconditions.checkArgument(values.length >= this.size, "Expected at least %s values", this.size);
+        if (this.size % this.version.entriesPerWord != 0) {
+            // Partial last word; not something chunk sections ever need
+            for (int i = 0; i < this.size; i++) {
+                set(i, values[i]);
+            }
+            return;
+        }
+
+        switch (this.version) {
+            case V1 -> setAll1(values);
+            case V2 -> setAll2(values);
+            case V4 -> setAll4(values);
+            case V8 -> setAll8(values);
+            case V16 -> setAll16(values);
+            default -> throw new IllegalStateException("Unexpected version for a power of two bit array: " + this.version);
+        }
+    }
+
+    private void setAll1(int[] values) {
+        for (int i = 0, index = 0; i < this.words.length; i++, index += 32) {
+            int word = 0;
+            for (int j = 0; j < 32; j++) {
+                word |= (values[index + j] & 0x1) << j;
+            }
+            this.words[i] = word;
+        }
+    }
+
+    private void setAll2(int[] values) {
+        for (int i = 0, index = 0; i < this.words.length; i++, index += 16) {
+            int word = 0;
+            for (int j = 0; j < 16; j++) {
+                word |= (values[index + j] & 0x3) << (j << 1);
+            }
+            this.words[i] = word;
+        }
+    }
+
+    private void setAll4(int[] values) {
+        for (int i = 0, index = 0; i < this.words.length; i++, index += 8) {
+            int word = 0;
+            for (int j = 0; j < 8; j++) {
+                word |= (values[index + j] & 0xF) << (j << 2);
+            }
+            this.words[i] = word;
+        }
+    }
+
+    private void setAll8(int[] values) {
+        for (int i = 0, index = 0; i < this.words.length; i++, index += 4) {
+            this.words[i] = (values[index] & 0xFF)
+                    | (values[index + 1] & 0xFF) << 8
+                    | (values[index + 2] & 0xFF) << 16
+                    | (values[index + 3] & 0xFF) << 24;
+        }
+    }
+
+    private void setAll16(int[] values) {
+        for (int i = 0, index = 0; i < this.words.length; i++, index += 2) {
+            this.words[i] = (values[index] & 0xFFFF) | (values[index + 1] & 0xFFFF) << 16;
+        }
+    }
+
     /**
      * Gets the long array that is used to store the data in this BitArray. This is useful for sending packet data.
      */
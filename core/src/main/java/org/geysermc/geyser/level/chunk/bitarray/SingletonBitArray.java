@@ -48,6 +48,10 @@ public class SingletonBitArray implements BitArray {
         return 1;
     }
 
+    @Override
+    public void setAll(int[] values) {
+    }
+
     @Override
     public void writeSizeToNetwork(ByteBuf buffer, int size) {
         // no-op - size is fixed
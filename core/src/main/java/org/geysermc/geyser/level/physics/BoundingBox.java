@@ -148,14 +148,14 @@ public class BoundingBox implements Cloneable {
             }
         }
         if (offset > 0) {
-            double min = axis.choose(getMin().add(xOffset, yOffset, zOffset));
-            double max = axis.choose(otherBoundingBox.getMax());
+            double min = getMin(axis) + axis.choose(xOffset, yOffset, zOffset);
+            double max = otherBoundingBox.getMax(axis);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.min(min - max, offset);
             }
         } else if (offset < 0) {
-            double min = axis.choose(otherBoundingBox.getMin());
-            double max = axis.choose(getMax().add(xOffset, yOffset, zOffset));
+            double min = otherBoundingBox.getMin(axis);
+            double max = getMax(axis) + axis.choose(xOffset, yOffset, zOffset);
             if ((min - max) >= -2.0 * CollisionManager.COLLISION_TOLERANCE) {
                 offset = Math.max(max - min, offset);
             }
@@ -172,15 +172,32 @@ public class BoundingBox implements Cloneable {
      */
     public double getIntersectionSize(BoundingBox otherBoundingBox, Direction side) {
         return switch (side) {
-            case DOWN -> getMax().getY() - otherBoundingBox.getMin().getY();
-            case UP -> otherBoundingBox.getMax().getY() - getMin().getY();
-            case NORTH -> getMax().getZ() - otherBoundingBox.getMin().getZ();
-            case SOUTH -> otherBoundingBox.getMax().getZ() - getMin().getZ();
-            case WEST -> getMax().getX() - otherBoundingBox.getMin().getX();
-            case EAST -> otherBoundingBox.getMax().getX() - getMin().getX();
+            case DOWN -> getMax(Axis.Y) - otherBoundingBox.getMin(Axis.Y);
+            case UP -> otherBoundingBox.getMax(Axis.Y) - getMin(Axis.Y);
+            case NORTH -> getMax(Axis.Z) - otherBoundingBox.getMin(Axis.Z);
+            case SOUTH -> otherBoundingBox.getMax(Axis.Z) - getMin(Axis.Z);
+            case WEST -> getMax(Axis.X) - otherBoundingBox.getMin(Axis.X);
+            case EAST -> otherBoundingBox.getMax(Axis.X) - getMin(Axis.X);
         };
     }
 
+    /**
+     * Copies the position and size of another bounding box into this one.
+     * Useful for reusing a scratch bounding box instead of calling {@link #clone()}.
+     *
+     * @return this bounding box
+     */
+    public BoundingBox copyFrom(BoundingBox other) {
+        this.middleX = other.middleX;
+        this.middleY = other.middleY;
+        this.middleZ = other.middleZ;
+
+        this.sizeX = other.sizeX;
+        this.sizeY = other.sizeY;
+        this.sizeZ = other.sizeZ;
+        return this;
+    }
+
     @SneakyThrows(CloneNotSupportedException.class)
     @Override
     public BoundingBox clone() {
@@ -32,7 +32,6 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.math.GenericMath;
 import org.cloudburstmc.math.vector.Vector3d;
 import org.cloudburstmc.math.vector.Vector3f;
-import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.data.entity.EntityFlag;
 import org.cloudburstmc.protocol.bedrock.packet.MovePlayerPacket;
 import org.geysermc.erosion.util.BlockPositionIterator;
@@ -96,6 +95,20 @@ public class CollisionManager {
      */
     private static final double INCORRECT_MOVEMENT_THRESHOLD = 0.08;
 
+    /**
+     * Reused block buffers, so that looking up blocks for collision does not allocate every movement packet.
+     * Position correction and movement correction each have their own, as the former's blocks are used across two passes.
+     */
+    private int[] positionBlocks = new int[0];
+    private int[] movementBlocks = new int[0];
+
+    /**
+     * Scratch bounding boxes used during movement correction instead of cloning the moving bounding box
+     */
+    private final BoundingBox movementBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private final BoundingBox stretchedBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+    private final BoundingBox stepUpBoundingBox = new BoundingBox(0, 0, 0, 0, 0, 0);
+
     public CollisionManager(GeyserSession session) {
         this.session = session;
         this.playerBoundingBox = new BoundingBox(0, 0, 0, 0.6, 1.8, 0.6);
@@ -236,19 +249,27 @@ public class CollisionManager {
                 box.getMiddleY() - (box.getSizeY() / 2),
                 box.getMiddleZ());
 
-        // Expand volume by 1 in each direction to include moving blocks
-        double pistonExpand = session.getPistonCache().getPistons().isEmpty() ? 0 : 1;
-
         // Loop through all blocks that could collide
-        int minCollisionX = (int) Math.floor(position.getX() - ((box.getSizeX() / 2) + COLLISION_TOLERANCE + pistonExpand));
-        int maxCollisionX = (int) Math.floor(position.getX() + (box.getSizeX() / 2) + COLLISION_TOLERANCE + pistonExpand);
+        int minCollisionX = (int) Math.floor(position.getX() - ((box.getSizeX() / 2) + COLLISION_TOLERANCE));
+        int maxCollisionX = (int) Math.floor(position.getX() + (box.getSizeX() / 2) + COLLISION_TOLERANCE);
 
         // Y extends 0.5 blocks down because of fence hitboxes
-        int minCollisionY = (int) Math.floor(position.getY() - 0.5 - COLLISION_TOLERANCE - pistonExpand / 2.0);
-        int maxCollisionY = (int) Math.floor(position.getY() + box.getSizeY() + pistonExpand);
-
-        int minCollisionZ = (int) Math.floor(position.getZ() - ((box.getSizeZ() / 2) + COLLISION_TOLERANCE + pistonExpand));
-        int maxCollisionZ = (int) Math.floor(position.getZ() + (box.getSizeZ() / 2) + COLLISION_TOLERANCE + pistonExpand);
+        int minCollisionY = (int) Math.floor(position.getY() - 0.5 - COLLISION_TOLERANCE);
+        int maxCollisionY = (int) Math.floor(position.getY() + box.getSizeY());
+
+        int minCollisionZ = (int) Math.floor(position.getZ() - ((box.getSizeZ() / 2) + COLLISION_TOLERANCE));
+        int maxCollisionZ = (int) Math.floor(position.getZ() + (box.getSizeZ() / 2) + COLLISION_TOLERANCE);
+
+        // Expand volume by 1 in each direction to include moving blocks, but only if any are close enough to matter
+        if (session.getPistonCache().isNearMovingBlocks(minCollisionX, minCollisionY, minCollisionZ, maxCollisionX, maxCollisionY, maxCollisionZ)) {
+            double pistonExpand = 1;
+            minCollisionX = (int) Math.floor(position.getX() - ((box.getSizeX() / 2) + COLLISION_TOLERANCE + pistonExpand));
+            maxCollisionX = (int) Math.floor(position.getX() + (box.getSizeX() / 2) + COLLISION_TOLERANCE + pistonExpand);
+            minCollisionY = (int) Math.floor(position.getY() - 0.5 - COLLISION_TOLERANCE - pistonExpand / 2.0);
+            maxCollisionY = (int) Math.floor(position.getY() + box.getSizeY() + pistonExpand);
+            minCollisionZ = (int) Math.floor(position.getZ() - ((box.getSizeZ() / 2) + COLLISION_TOLERANCE + pistonExpand));
+            maxCollisionZ = (int) Math.floor(position.getZ() + (box.getSizeZ() / 2) + COLLISION_TOLERANCE + pistonExpand);
+        }
 
         return BlockPositionIterator.fromMinMax(minCollisionX, minCollisionY, minCollisionZ, maxCollisionX, maxCollisionY, maxCollisionZ);
     }
@@ -269,8 +290,8 @@ public class CollisionManager {
         onScaffolding = false;
 
         // Used when correction code needs to be run before the main correction
-        BlockPositionIterator iter = session.getCollisionManager().playerCollidableBlocksIterator();
-        int[] blocks = session.getGeyser().getWorldManager().getBlocksAt(session, iter);
+        BlockPositionIterator iter = playerCollidableBlocksIterator();
+        int[] blocks = positionBlocks = session.getGeyser().getWorldManager().getBlocksAt(session, iter, positionBlocks);
         for (iter.reset(); iter.hasNext(); iter.next()) {
             BlockCollision blockCollision = BlockUtils.getCollision(blocks[iter.getIteration()]);
             if (blockCollision != null) {
@@ -296,7 +317,7 @@ public class CollisionManager {
     public Vector3d correctPlayerMovement(Vector3d movement, boolean checkWorld, boolean teleported) {
         // On the teleported check: see https://github.com/GeyserMC/Geyser/issues/2540
         // As of this commit we don't know how it happens but we don't need to check movement here anyway in that case
-        if (teleported || (!checkWorld && session.getPistonCache().getPistons().isEmpty())) { // There is nothing to check
+        if (teleported || (!checkWorld && !session.getPistonCache().hasPistons())) { // There is nothing to check
             return movement;
         }
         return correctMovement(movement, playerBoundingBox, session.getPlayerEntity().isOnGround(), PLAYER_STEP_UP, checkWorld, false);
@@ -314,14 +335,12 @@ public class CollisionManager {
         onGround = onGround || (verticalCollision && falling);
         if (onGround && horizontalCollision) {
             Vector3d horizontalMovement = Vector3d.from(movement.getX(), 0, movement.getZ());
-            Vector3d stepUpMovement = correctMovementForCollisions(horizontalMovement.up(stepUp), boundingBox, checkWorld, walkOnLava);
+            Vector3d stepUpMovement = correctMovementForCollisions(movement.getX(), stepUp, movement.getZ(), boundingBox, checkWorld, walkOnLava);
 
-            BoundingBox stretchedBoundingBox = boundingBox.clone();
-            stretchedBoundingBox.extend(horizontalMovement);
-            double maxStepUp = correctMovementForCollisions(Vector3d.from(0, stepUp, 0), stretchedBoundingBox, checkWorld, walkOnLava).getY();
+            stretchedBoundingBox.copyFrom(boundingBox).extend(horizontalMovement);
+            double maxStepUp = correctMovementForCollisions(0, stepUp, 0, stretchedBoundingBox, checkWorld, walkOnLava).getY();
             if (maxStepUp < stepUp) { // The player collided with a block above them
-                BoundingBox stepUpBoundingBox = boundingBox.clone();
-                stepUpBoundingBox.translate(0, maxStepUp, 0);
+                stepUpBoundingBox.copyFrom(boundingBox).translate(0, maxStepUp, 0);
 
                 Vector3d adjustedStepUpMovement = correctMovementForCollisions(horizontalMovement, stepUpBoundingBox, checkWorld, walkOnLava);
                 if (squaredHorizontalLength(adjustedStepUpMovement) > squaredHorizontalLength(stepUpMovement)) {
@@ -330,11 +349,10 @@ public class CollisionManager {
             }
 
             if (squaredHorizontalLength(stepUpMovement) > squaredHorizontalLength(adjustedMovement)) {
-                BoundingBox stepUpBoundingBox = boundingBox.clone();
-                stepUpBoundingBox.translate(stepUpMovement.getX(), stepUpMovement.getY(), stepUpMovement.getZ());
+                stepUpBoundingBox.copyFrom(boundingBox).translate(stepUpMovement.getX(), stepUpMovement.getY(), stepUpMovement.getZ());
 
                 // Apply the player's remaining vertical movement
-                double verticalMovement = correctMovementForCollisions(Vector3d.from(0, movement.getY() - stepUpMovement.getY(), 0), stepUpBoundingBox, checkWorld, walkOnLava).getY();
+                double verticalMovement = correctMovementForCollisions(0, movement.getY() - stepUpMovement.getY(), 0, stepUpBoundingBox, checkWorld, walkOnLava).getY();
 
                 stepUpMovement = stepUpMovement.up(verticalMovement);
                 adjustedMovement = stepUpMovement;
@@ -348,33 +366,37 @@ public class CollisionManager {
     }
 
     private Vector3d correctMovementForCollisions(Vector3d movement, BoundingBox boundingBox, boolean checkWorld, boolean walkOnLava) {
-        double movementX = movement.getX();
-        double movementY = movement.getY();
-        double movementZ = movement.getZ();
+        return correctMovementForCollisions(movement.getX(), movement.getY(), movement.getZ(), boundingBox, checkWorld, walkOnLava);
+    }
 
+    private Vector3d correctMovementForCollisions(double movementX, double movementY, double movementZ, BoundingBox boundingBox, boolean checkWorld, boolean walkOnLava) {
         // Position might change slightly due to floating point error
         double originalX = boundingBox.getMiddleX();
         double originalY = boundingBox.getMiddleY();
         double originalZ = boundingBox.getMiddleZ();
 
-        BoundingBox movementBoundingBox = boundingBox.clone();
-        movementBoundingBox.extend(movement);
+        movementBoundingBox.copyFrom(boundingBox).extend(movementX, movementY, movementZ);
         BlockPositionIterator iter = collidableBlocksIterator(movementBoundingBox);
+        // Look up every block once, instead of once per axis
+        int[] blocks = null;
+        if (checkWorld) {
+            blocks = movementBlocks = session.getGeyser().getWorldManager().getBlocksAt(session, iter, movementBlocks);
+        }
         if (Math.abs(movementY) > CollisionManager.COLLISION_TOLERANCE) {
-            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, checkWorld, walkOnLava);
+            movementY = computeCollisionOffset(boundingBox, Axis.Y, movementY, iter, blocks, walkOnLava);
             boundingBox.translate(0, movementY, 0);
         }
         boolean checkZFirst = Math.abs(movementZ) > Math.abs(movementX);
         if (checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
         if (Math.abs(movementX) > CollisionManager.COLLISION_TOLERANCE) {
-            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, checkWorld, walkOnLava);
+            movementX = computeCollisionOffset(boundingBox, Axis.X, movementX, iter, blocks, walkOnLava);
             boundingBox.translate(movementX, 0, 0);
         }
         if (!checkZFirst && Math.abs(movementZ) > CollisionManager.COLLISION_TOLERANCE) {
-            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, checkWorld, walkOnLava);
+            movementZ = computeCollisionOffset(boundingBox, Axis.Z, movementZ, iter, blocks, walkOnLava);
             boundingBox.translate(0, 0, movementZ);
         }
 
@@ -385,20 +407,27 @@ public class CollisionManager {
         return Vector3d.from(movementX, movementY, movementZ);
     }
 
-    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, boolean checkWorld, boolean walkOnLava) {
+    /**
+     * @param blocks the blocks at every position of the iterator, or null if the world should not be checked
+     */
+    private double computeCollisionOffset(BoundingBox boundingBox, Axis axis, double offset, BlockPositionIterator iter, int @Nullable [] blocks, boolean walkOnLava) {
+        PistonCache pistonCache = session.getPistonCache();
+        boolean checkPistons = pistonCache.hasMovingBlocks();
         for (iter.reset(); iter.hasNext(); iter.next()) {
             int x = iter.getX();
             int y = iter.getY();
             int z = iter.getZ();
-            if (checkWorld) {
-                int blockId = session.getGeyser().getWorldManager().getBlockAt(session, x, y, z);
+            if (blocks != null) {
+                int blockId = blocks[iter.getIteration()];
 
                 BlockCollision blockCollision = walkOnLava ? getCollisionLavaWalking(blockId, y, boundingBox) : BlockUtils.getCollision(blockId);
                 if (blockCollision != null && !(blockCollision instanceof ScaffoldingCollision)) {
                     offset = blockCollision.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
                 }
             }
-            offset = session.getPistonCache().computeCollisionOffset(Vector3i.from(x, y, z), boundingBox, axis, offset);
+            if (checkPistons) {
+                offset = pistonCache.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
+            }
             if (Math.abs(offset) < COLLISION_TOLERANCE) {
                 return 0;
             }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import org.cloudburstmc.protocol.bedrock.data.CompressionAlgorithm;
+import org.cloudburstmc.protocol.bedrock.data.PacketCompressionAlgorithm;
+import org.cloudburstmc.protocol.bedrock.netty.BedrockBatchWrapper;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.BatchCompression;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.CompressionStrategy;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.NoopCompression;
+import org.cloudburstmc.protocol.bedrock.netty.codec.compression.ZlibCompression;
+import org.cloudburstmc.protocol.common.util.Zlib;
+
+/**
+ * Picks the compression of each outgoing batch by its size.
+ * <ul>
+ *     <li>Batches below {@link #COMPRESSION_THRESHOLD} are sent uncompressed, as compressing them barely saves anything.</li>
+ *     <li>Bulk batches of at least {@link #BULK_THRESHOLD}, which are mostly chunks, use the configured compression level.</li>
+ *     <li>Everything in between (steady state movement, entity updates and so on) uses a fast compression level.</li>
+ * </ul>
+ */
+public final class AdaptiveCompressionStrategy implements CompressionStrategy {
+    /**
+     * Also sent to the client as the threshold for its own batches
+     */
+    public static final int COMPRESSION_THRESHOLD = 512;
+    private static final int BULK_THRESHOLD = Integer.getInteger("Geyser.BulkCompressionThreshold", 8192);
+
+    @Getter
+    private final CompressionStats stats = new CompressionStats();
+    private final BatchCompression none = new NoopCompression();
+    private final BatchCompression bulk;
+    private final BatchCompression realtime;
+
+    public AdaptiveCompressionStrategy(int compressionLevel) {
+        this.bulk = new MeasuredCompression(zlib(compressionLevel), stats);
+        // Small batches compress poorly at any level, so don't spend extra CPU on them
+        this.realtime = new MeasuredCompression(zlib(compressionLevel <= 0 ? compressionLevel : 1), stats);
+    }
+
+    @Override
+    public BatchCompression getCompression(BedrockBatchWrapper wrapper) {
+        int size = wrapper.getUncompressed().readableBytes();
+        if (size < COMPRESSION_THRESHOLD) {
+            stats.recordUncompressed(size);
+            return none;
+        }
+        return size >= BULK_THRESHOLD ? bulk : realtime;
+    }
+
+    @Override
+    public BatchCompression getCompression(CompressionAlgorithm algorithm) {
+        if (algorithm == PacketCompressionAlgorithm.NONE) {
+            return none;
+        }
+        if (algorithm == PacketCompressionAlgorithm.ZLIB) {
+            return bulk;
+        }
+        throw new IllegalArgumentException("Unsupported compression algorithm: " + algorithm);
+    }
+
+    @Override
+    public BatchCompression getDefaultCompression() {
+        return bulk;
+    }
+
+    private static ZlibCompression zlib(int level) {
+        ZlibCompression compression = new ZlibCompression(Zlib.RAW);
+        compression.setLevel(level);
+        return compression;
+    }
+
+    /**
+     * Records the size and time of every batch it compresses.
+     */
+    private record MeasuredCompression(BatchCompression delegate, CompressionStats stats) implements BatchCompression {
+        @Override
+        public ByteBuf encode(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
+            int input = msg.readableBytes();
+            long start = System.nanoTime();
+            ByteBuf compressed = delegate.encode(ctx, msg);
+            stats.record(input, compressed.readableBytes(), System.nanoTime() - start);
+            return compressed;
+        }
+
+        @Override
+        public ByteBuf decode(ChannelHandlerContext ctx, ByteBuf msg) throws Exception {
+            return delegate.decode(ctx, msg);
+        }
+
+        @Override
+        public CompressionAlgorithm getAlgorithm() {
+            return delegate.getAlgorithm();
+        }
+
+        @Override
+        public void setLevel(int level) {
+            delegate.setLevel(level);
+        }
+
+        @Override
+        public int getLevel() {
+            return delegate.getLevel();
+        }
+    }
+}
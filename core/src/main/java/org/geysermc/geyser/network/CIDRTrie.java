@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A binary trie over IPv4 and IPv6 prefixes, for checking an address against many CIDR ranges at once.
+ * Lookups walk at most one node per address bit, regardless of the number of ranges, and do not allocate
+ * for IPv4 addresses.
+ * <p>
+ * Instances are immutable once compiled and can be shared between threads.
+ */
+public final class CIDRTrie {
+    private static final CIDRTrie EMPTY = new CIDRTrie(new Builder());
+
+    /**
+     * Child node indices, two per node. Index 0 is always a root, so 0 also means "no child".
+     */
+    private final int[] children;
+    /**
+     * Whether a prefix ends at a node; every address below such a node matches.
+     */
+    private final boolean[] terminal;
+    private final int ipv4Root;
+    private final int ipv6Root;
+    private final int size;
+
+    private CIDRTrie(Builder builder) {
+        this.children = Arrays.copyOf(builder.children, builder.nodeCount * 2);
+        this.terminal = Arrays.copyOf(builder.terminal, builder.nodeCount);
+        this.ipv4Root = Builder.IPV4_ROOT;
+        this.ipv6Root = Builder.IPV6_ROOT;
+        this.size = builder.size;
+    }
+
+    public static CIDRTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compiles a trie from CIDR ranges (such as {@code 192.168.0.0/16}) or plain addresses, which only match themselves.
+     *
+     * @throws IllegalArgumentException if a range cannot be parsed
+     */
+    public static CIDRTrie compile(Collection<String> ranges) {
+        if (ranges.isEmpty()) {
+            return EMPTY;
+        }
+        Builder builder = new Builder();
+        for (String range : ranges) {
+            builder.add(range);
+        }
+        return new CIDRTrie(builder);
+    }
+
+    public boolean matches(InetAddress address) {
+        if (address instanceof Inet4Address) {
+            // Inet4Address#hashCode is the address itself, most significant byte first, which avoids the copy
+            // made by getAddress(). This has held for every JDK so far; CIDRTrieTest checks it.
+            return matchesIPv4(address.hashCode());
+        }
+        if (address instanceof Inet6Address) {
+            return matchesIPv6(address.getAddress());
+        }
+        return false;
+    }
+
+    /**
+     * @param address an IPv4 address, most significant byte first
+     */
+    public boolean matchesIPv4(int address) {
+        int node = ipv4Root;
+        for (int bit = 31; bit >= 0; bit--) {
+            if (terminal[node]) {
+                return true;
+            }
+            node = children[node * 2 + ((address >>> bit) & 1)];
+            if (node == 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * @param address the 16 bytes of an IPv6 address
+     */
+    public boolean matchesIPv6(byte[] address) {
+        int node = ipv6Root;
+        for (int bit = 0; bit < 128; bit++) {
+            if (terminal[node]) {
+                return true;
+            }
+            node = children[node * 2 + ((address[bit >>> 3] >>> (7 - (bit & 7))) & 1)];
+            if (node == 0) {
+                return false;
+            }
+        }
+        return terminal[node];
+    }
+
+    /**
+     * @return the number of ranges this trie was compiled from
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static final class Builder {
+        private static final int IPV4_ROOT = 0;
+        private static final int IPV6_ROOT = 1;
+
+        private int[] children = new int[64];
+        private boolean[] terminal = new boolean[32];
+        private int nodeCount = 2;
+        private int size;
+
+        void add(String range) {
+            String[] split = range.trim().split("/", 2);
+
+            InetAddress address;
+            try {
+                address = InetAddress.getByName(split[0]);
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Invalid address in range " + range, e);
+            }
+
+            byte[] bytes = address.getAddress();
+            int maxBits = bytes.length * 8;
+            int prefixLength = maxBits;
+            if (split.length == 2) {
+                try {
+                    prefixLength = Integer.parseInt(split[1]);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid prefix length in range " + range, e);
+                }
+                if (prefixLength < 0 || prefixLength > maxBits) {
+                    throw new IllegalArgumentException("Invalid prefix length in range " + range);
+                }
+            }
+
+            int node = address instanceof Inet4Address ? IPV4_ROOT : IPV6_ROOT;
+            for (int bit = 0; bit < prefixLength; bit++) {
+                if (terminal[node]) {
+                    // A shorter prefix already covers this range
+                    size++;
+                    return;
+                }
+                int slot = node * 2 + ((bytes[bit >>> 3] >>> (7 - (bit & 7))) & 1);
+                int child = children[slot];
+                if (child == 0) {
+                    child = newNode();
+                    children[slot] = child;
+                }
+                node = child;
+            }
+            terminal[node] = true;
+            size++;
+        }
+
+        private int newNode() {
+            if (nodeCount == terminal.length) {
+                terminal = Arrays.copyOf(terminal, nodeCount * 2);
+                children = Arrays.copyOf(children, nodeCount * 4);
+            }
+            return nodeCount++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how much outgoing data of a session was compressed, and how long compression took.
+ * Written from the session's network thread; reads from other threads are approximate.
+ */
+public final class CompressionStats {
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder uncompressedBatches = new LongAdder();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    void record(int input, int output, long nanos) {
+        batches.increment();
+        inputBytes.add(input);
+        outputBytes.add(output);
+        compressionNanos.add(nanos);
+    }
+
+    void recordUncompressed(int size) {
+        batches.increment();
+        uncompressedBatches.increment();
+        inputBytes.add(size);
+        outputBytes.add(size);
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of batches sent without compression because they were too small to benefit from it
+     */
+    public long getUncompressedBatches() {
+        return uncompressedBatches.sum();
+    }
+
+    public long getInputBytes() {
+        return inputBytes.sum();
+    }
+
+    public long getOutputBytes() {
+        return outputBytes.sum();
+    }
+
+    /**
+     * @return the size of the sent data relative to its uncompressed size; lower is better
+     */
+    public double getCompressionRatio() {
+        long input = inputBytes.sum();
+        return input == 0 ? 1 : (double) outputBytes.sum() / input;
+    }
+
+    public double getCompressionMillis() {
+        return compressionNanos.sum() / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d batches (%d uncompressed), %d -> %d bytes (ratio %.3f), %.1f ms compressing",
+            getBatches(), getUncompressedBatches(), getInputBytes(), getOutputBytes(), getCompressionRatio(), getCompressionMillis());
+    }
+}
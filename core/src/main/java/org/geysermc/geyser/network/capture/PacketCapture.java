@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.network.packet.PacketRegistry;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftCodec;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftPacket;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftTypes;
+import org.geysermc.mcprotocollib.protocol.data.ProtocolState;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the packets a session receives from the Java server, with timestamps, so the traffic can be replayed
+ * offline with {@link PacketReplayer}.
+ * <p>
+ * Capturing is enabled with the {@code Geyser.CapturePackets} system property, set to a comma-separated list of
+ * Bedrock usernames or {@code *} for every session. Captures are written to the {@code captures} folder in the
+ * config directory.
+ * <p>
+ * File format, gzip compressed: a header of magic, format version, Java protocol version and start time in epoch
+ * millis; then one record per packet of the microseconds since the previous record (VarLong), the protocol state
+ * ordinal (byte), the packet ID (VarInt), the payload length (VarInt) and the payload.
+ */
+public final class PacketCapture implements Closeable {
+    static final int MAGIC = 0x47435054; // GCPT
+    static final int FORMAT_VERSION = 1;
+
+    private static final Set<String> CAPTURED_USERS = Arrays.stream(System.getProperty("Geyser.CapturePackets", "").split(","))
+            .map(name -> name.trim().toLowerCase(Locale.ROOT))
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+
+    /**
+     * Compression and disk writes happen here, so the event loop only has to serialize the packet.
+     */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Geyser Packet Capture")
+            .setDaemon(true)
+            .build());
+
+    private final OutputStream out;
+    private long lastRecordNanos;
+    private volatile boolean closed;
+
+    PacketCapture(OutputStream out) throws IOException {
+        this.out = out;
+        this.lastRecordNanos = System.nanoTime();
+
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeInt(MinecraftCodec.CODEC.getProtocolVersion());
+        header.writeLong(System.currentTimeMillis());
+    }
+
+    /**
+     * @return a new capture if packets of this session should be captured, otherwise null
+     */
+    public static @Nullable PacketCapture open(GeyserSession session) {
+        if (CAPTURED_USERS.isEmpty()) {
+            return null;
+        }
+        String username = session.bedrockUsername();
+        if (!CAPTURED_USERS.contains("*") && !CAPTURED_USERS.contains(username.toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+
+        GeyserImpl geyser = GeyserImpl.getInstance();
+        try {
+            Path folder = geyser.getBootstrap().getConfigFolder().resolve("captures");
+            Files.createDirectories(folder);
+            Path file = folder.resolve(username + "_" + FILE_DATE_FORMAT.format(LocalDateTime.now()) + ".gcap");
+            geyser.getLogger().info("Capturing Java packets of " + username + " to " + file);
+            return new PacketCapture(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 65536), 65536));
+        } catch (IOException e) {
+            geyser.getLogger().error("Unable to start packet capture for " + username, e);
+            return null;
+        }
+    }
+
+    /**
+     * Records a packet received from the Java server. Must be called from the thread packets are received on.
+     *
+     * @param packet the received packet
+     * @param state the inbound protocol state at the time the packet was received
+     */
+    public void record(Packet packet, ProtocolState state) {
+        if (closed || !(packet instanceof MinecraftPacket minecraftPacket)) {
+            return;
+        }
+
+        // Translators may have moved the inbound state on before this packet was handed to us
+        ProtocolState packetState = findState(packet, state);
+        if (packetState == null) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long deltaMicros = TimeUnit.NANOSECONDS.toMicros(now - lastRecordNanos);
+        // Carry the sub-microsecond remainder over, so rounding does not add up over long captures
+        lastRecordNanos += TimeUnit.MICROSECONDS.toNanos(deltaMicros);
+
+        ByteBuf payload = Unpooled.buffer();
+        ByteBuf record = Unpooled.buffer();
+        try {
+            minecraftPacket.serialize(payload);
+
+            MinecraftTypes.writeVarLong(record, deltaMicros);
+            record.writeByte(packetState.ordinal());
+            MinecraftTypes.writeVarInt(record, registry(packetState).getClientboundId(packet.getClass()));
+            MinecraftTypes.writeVarInt(record, payload.readableBytes());
+            record.writeBytes(payload);
+
+            byte[] bytes = ByteBufUtil.getBytes(record);
+            WRITER.execute(() -> write(bytes));
+        } catch (Exception e) {
+            GeyserImpl.getInstance().getLogger().debug("Unable to capture " + packet.getClass().getSimpleName() + ": " + e.getMessage());
+        } finally {
+            payload.release();
+            record.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        WRITER.execute(() -> {
+            try {
+                out.close();
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().error("Unable to finish packet capture", e);
+            }
+        });
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().error("Unable to write packet capture; stopping capture", e);
+            closed = true;
+        }
+    }
+
+    private static @Nullable ProtocolState findState(Packet packet, ProtocolState expected) {
+        if (isRegistered(packet, expected)) {
+            return expected;
+        }
+        for (ProtocolState state : ProtocolState.values()) {
+            if (state != expected && isRegistered(packet, state)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRegistered(Packet packet, ProtocolState state) {
+        try {
+            registry(state).getClientboundId(packet.getClass());
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    static PacketRegistry registry(ProtocolState state) {
+        return MinecraftCodec.CODEC.getCodec(state);
+    }
+}
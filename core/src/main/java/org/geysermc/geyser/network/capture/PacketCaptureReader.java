@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.Getter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.protocol.data.ProtocolState;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads packet captures written by {@link PacketCapture}.
+ */
+public final class PacketCaptureReader implements Closeable {
+    private static final ProtocolState[] STATES = ProtocolState.values();
+
+    private final DataInputStream in;
+    @Getter
+    private final int protocolVersion;
+    @Getter
+    private final long startTimeMillis;
+    private long timeNanos;
+
+    public PacketCaptureReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in);
+        if (this.in.readInt() != PacketCapture.MAGIC) {
+            throw new IOException("Not a packet capture");
+        }
+        int formatVersion = this.in.readInt();
+        if (formatVersion != PacketCapture.FORMAT_VERSION) {
+            throw new IOException("Unsupported packet capture format version " + formatVersion);
+        }
+        this.protocolVersion = this.in.readInt();
+        this.startTimeMillis = this.in.readLong();
+    }
+
+    /**
+     * @return the next record, or null if the end of the capture has been reached
+     */
+    public @Nullable Record next() throws IOException {
+        long deltaMicros;
+        try {
+            deltaMicros = readVarLong();
+        } catch (EOFException e) {
+            return null;
+        }
+        timeNanos += TimeUnit.MICROSECONDS.toNanos(deltaMicros);
+
+        int state = in.readUnsignedByte();
+        if (state >= STATES.length) {
+            throw new IOException("Invalid protocol state " + state);
+        }
+        int packetId = (int) readVarLong();
+        byte[] payload = new byte[(int) readVarLong()];
+        in.readFully(payload);
+        return new Record(timeNanos, STATES[state], packetId, payload);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift >= 64) {
+                throw new IOException("VarLong too big");
+            }
+            b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * A single captured packet.
+     *
+     * @param timeNanos nanoseconds since the start of the capture
+     * @param state the protocol state the packet was received in
+     * @param packetId the clientbound packet ID in that state
+     * @param payload the serialized packet, without its ID
+     */
+    public record Record(long timeNanos, ProtocolState state, int packetId, byte[] payload) {
+
+        /**
+         * Deserializes the captured packet. This requires the same Java protocol version that the capture was made with.
+         */
+        public Packet decode() {
+            ByteBuf buf = Unpooled.wrappedBuffer(payload);
+            try {
+                return PacketCapture.registry(state).createClientboundPacket(packetId, buf);
+            } finally {
+                buf.release();
+            }
+        }
+    }
+}
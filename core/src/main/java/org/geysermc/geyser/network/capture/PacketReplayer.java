@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.impl.camera.CameraDefinitions;
+import org.geysermc.geyser.network.GameProtocol;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.Registries;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.protocol.PacketTranslator;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftCodec;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Feeds a {@link PacketCapture} through the Java packet translators against a session with no Bedrock client,
+ * and measures the CPU time, allocations and upstream traffic of every translator.
+ * <p>
+ * Set the {@code Geyser.ReplayCapture} system property to the path of a capture to replay it once Geyser has started;
+ * the report is written to the log. Packets are replayed as fast as possible, with a session tick for every 50ms of
+ * captured time. Tasks that translators schedule for later only run once the replay has finished.
+ */
+public final class PacketReplayer {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final GeyserImpl geyser;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final com.sun.management.ThreadMXBean allocations;
+    private final ByteBuf encodeBuffer = Unpooled.directBuffer(8192);
+
+    private PacketReplayer(GeyserImpl geyser) {
+        this.geyser = geyser;
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads && sunThreads.isThreadAllocatedMemorySupported()) {
+            sunThreads.setThreadAllocatedMemoryEnabled(true);
+            this.allocations = sunThreads;
+        } else {
+            this.allocations = null;
+        }
+        if (threads.isCurrentThreadCpuTimeSupported()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    /**
+     * Replays the capture given by the {@code Geyser.ReplayCapture} system property, if it is set.
+     */
+    public static void replayFromProperty(GeyserImpl geyser) {
+        String file = System.getProperty("Geyser.ReplayCapture");
+        if (file == null || file.isBlank()) {
+            return;
+        }
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                geyser.getLogger().info("Replaying packet capture " + file);
+                geyser.getLogger().info("\n" + replay(geyser, Path.of(file)).format());
+            } catch (Exception e) {
+                geyser.getLogger().error("Unable to replay packet capture " + file, e);
+            }
+        });
+    }
+
+    /**
+     * Replays a capture on a fresh event loop, and blocks until it has finished.
+     */
+    public static ReplayReport replay(GeyserImpl geyser, Path file) throws Exception {
+        DefaultEventLoop eventLoop = new DefaultEventLoop(new DefaultThreadFactory("Geyser Packet Replay", true));
+        try {
+            return eventLoop.submit(() -> new PacketReplayer(geyser).replay(file, eventLoop)).get();
+        } finally {
+            eventLoop.shutdownGracefully();
+        }
+    }
+
+    private ReplayReport replay(Path file, EventLoop eventLoop) throws IOException {
+        try (PacketCaptureReader reader = new PacketCaptureReader(new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file), 65536), 65536))) {
+            if (reader.getProtocolVersion() != MinecraftCodec.CODEC.getProtocolVersion()) {
+                throw new IOException("Capture was made with Java protocol version " + reader.getProtocolVersion()
+                        + ", but this build uses " + MinecraftCodec.CODEC.getProtocolVersion());
+            }
+
+            ReplayUpstreamSession upstream = new ReplayUpstreamSession(GameProtocol.DEFAULT_BEDROCK_CODEC);
+            GeyserSession session = new GeyserSession(geyser, upstream, eventLoop);
+            session.setBlockMappings(BlockRegistries.BLOCKS.forVersion(upstream.getProtocolVersion()));
+            session.setItemMappings(Registries.ITEMS.forVersion(upstream.getProtocolVersion()));
+            upstream.getCodecHelper().setItemDefinitions(session.getItemMappings());
+            upstream.getCodecHelper().setBlockDefinitions(session.getBlockMappings());
+            upstream.getCodecHelper().setCameraPresetDefinitions(CameraDefinitions.CAMERA_DEFINITIONS);
+
+            ReplayReport report = new ReplayReport();
+            long startNanos = System.nanoTime();
+            long nextTickNanos = TICK_NANOS;
+            long captureNanos = 0;
+
+            PacketCaptureReader.Record record;
+            while ((record = reader.next()) != null) {
+                captureNanos = record.timeNanos();
+                while (captureNanos >= nextTickNanos) {
+                    measure(report.stats(ReplayReport.TICK), upstream, session::tick);
+                    nextTickNanos += TICK_NANOS;
+                }
+
+                Packet packet = record.decode();
+                PacketTranslator<?> translator = Registries.JAVA_PACKET_TRANSLATORS.get(packet.getClass());
+                report.countPacket(translator != null);
+                if (translator == null) {
+                    continue;
+                }
+                measure(report.stats(translator.getClass().getSimpleName()), upstream,
+                        () -> Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, session, true));
+            }
+
+            report.finish(captureNanos, System.nanoTime() - startNanos);
+            return report;
+        } finally {
+            encodeBuffer.release();
+        }
+    }
+
+    private void measure(ReplayReport.Stats stats, ReplayUpstreamSession upstream, Runnable runnable) {
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long allocatedStart = allocations != null ? allocations.getCurrentThreadAllocatedBytes() : 0;
+
+        runnable.run();
+
+        stats.cpuNanos += threads.getCurrentThreadCpuTime() - cpuStart;
+        if (allocations != null) {
+            stats.allocatedBytes += allocations.getCurrentThreadAllocatedBytes() - allocatedStart;
+        }
+        stats.calls++;
+
+        // Encoded afterwards, as this is the network thread's work and not the translator's
+        for (BedrockPacket packet : upstream.sentPackets()) {
+            stats.upstreamPackets++;
+            stats.upstreamBytes += encodedSize(upstream, packet);
+        }
+        upstream.sentPackets().clear();
+    }
+
+    private int encodedSize(ReplayUpstreamSession upstream, BedrockPacket packet) {
+        encodeBuffer.clear();
+        try {
+            upstream.codec().tryEncode(upstream.getCodecHelper(), encodeBuffer, packet);
+            return encodeBuffer.readableBytes();
+        } catch (Exception e) {
+            geyser.getLogger().debug("Unable to encode " + packet.getClass().getSimpleName() + " during replay: " + e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of replaying a packet capture, per translator.
+ */
+@Getter
+public final class ReplayReport {
+    /**
+     * Key used for the work done in session ticks between packets.
+     */
+    public static final String TICK = "(session tick)";
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private long packets;
+    private long untranslatedPackets;
+    private long captureNanos;
+    private long wallNanos;
+
+    Stats stats(String name) {
+        return stats.computeIfAbsent(name, $ -> new Stats());
+    }
+
+    void countPacket(boolean translated) {
+        packets++;
+        if (!translated) {
+            untranslatedPackets++;
+        }
+    }
+
+    void finish(long captureNanos, long wallNanos) {
+        this.captureNanos = captureNanos;
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * @return a human-readable table of every translator, most CPU time first
+     */
+    public String format() {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().cpuNanos).reversed());
+
+        Stats total = new Stats();
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "Replayed %d packets (%d untranslated) covering %.1fs of traffic in %.1fs%n",
+                packets, untranslatedPackets, captureNanos / 1e9, wallNanos / 1e9));
+        builder.append(String.format(Locale.ROOT, "%-48s %10s %12s %12s %12s %14s%n",
+                "Translator", "Calls", "CPU (ms)", "Alloc (KiB)", "Upstream pk", "Upstream KiB"));
+        for (Map.Entry<String, Stats> entry : entries) {
+            appendRow(builder, entry.getKey(), entry.getValue());
+            total.add(entry.getValue());
+        }
+        appendRow(builder, "Total", total);
+        return builder.toString();
+    }
+
+    private static void appendRow(StringBuilder builder, String name, Stats stats) {
+        builder.append(String.format(Locale.ROOT, "%-48s %10d %12.2f %12d %12d %14d%n",
+                name, stats.calls, stats.cpuNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                stats.allocatedBytes / 1024, stats.upstreamPackets, stats.upstreamBytes / 1024));
+    }
+
+    @Getter
+    public static final class Stats {
+        long calls;
+        long cpuNanos;
+        long allocatedBytes;
+        long upstreamPackets;
+        long upstreamBytes;
+
+        private void add(Stats other) {
+            calls += other.calls;
+            cpuNanos += other.cpuNanos;
+            allocatedBytes += other.allocatedBytes;
+            upstreamPackets += other.upstreamPackets;
+            upstreamBytes += other.upstreamBytes;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import io.netty.channel.Channel;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodecHelper;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.geysermc.geyser.session.UpstreamSession;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An upstream without a Bedrock client behind it. Sent packets are collected, so that the replayer can
+ * measure them outside the time spent translating.
+ */
+final class ReplayUpstreamSession extends UpstreamSession {
+    private static final InetSocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 0);
+
+    private final BedrockCodec codec;
+    private final BedrockCodecHelper codecHelper;
+    private final List<BedrockPacket> sentPackets = new ArrayList<>();
+
+    ReplayUpstreamSession(BedrockCodec codec) {
+        super(null);
+        this.codec = codec;
+        this.codecHelper = codec.createHelper();
+    }
+
+    BedrockCodec codec() {
+        return codec;
+    }
+
+    /**
+     * @return the packets sent since this list was last cleared
+     */
+    List<BedrockPacket> sentPackets() {
+        return sentPackets;
+    }
+
+    @Override
+    public void sendPacket(@NonNull BedrockPacket packet) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public void sendPacketImmediately(@NonNull BedrockPacket packet) {
+        sentPackets.add(packet);
+    }
+
+    @Override
+    public void sendPostStartGamePackets() {
+    }
+
+    @Override
+    public void disconnect(String reason) {
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public @Nullable Channel getChannel() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getAddress() {
+        return ADDRESS;
+    }
+
+    @Override
+    public int getProtocolVersion() {
+        return codec.getProtocolVersion();
+    }
+
+    @Override
+    public BedrockCodecHelper getCodecHelper() {
+        return codecHelper;
+    }
+}
@@ -25,10 +25,13 @@
 
 package org.geysermc.geyser.network.netty;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
@@ -38,6 +41,9 @@ import io.netty.channel.kqueue.KQueueEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringDatagramChannel;
+import io.netty.channel.uring.IoUringIoHandler;
 import io.netty.util.concurrent.Future;
 import lombok.Getter;
 import net.jodah.expiringmap.ExpirationPolicy;
@@ -46,13 +52,14 @@ import org.cloudburstmc.netty.channel.raknet.RakChannelFactory;
 import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
 import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerOfflineHandler;
 import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerRateLimiter;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.BedrockPong;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.event.connection.ConnectionRequestEvent;
+import org.geysermc.geyser.api.event.connection.GeyserBedrockPingEvent;
 import org.geysermc.geyser.command.defaults.ConnectionTestCommand;
 import org.geysermc.geyser.configuration.GeyserConfiguration;
 import org.geysermc.geyser.event.type.GeyserBedrockPingEventImpl;
-import org.geysermc.geyser.network.CIDRMatcher;
 import org.geysermc.geyser.network.GameProtocol;
 import org.geysermc.geyser.network.GeyserServerInitializer;
 import org.geysermc.geyser.network.netty.handler.RakConnectionRequestHandler;
@@ -67,9 +74,10 @@ import org.geysermc.geyser.translator.text.MessageTranslator;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
@@ -90,6 +98,10 @@ public final class GeyserServer {
      */
     private static final int MAGIC_RAKNET_LENGTH = 338;
 
+    /**
+     * Whether the io_uring transport should be used when it is available. Falls back to the next best transport otherwise.
+     */
+    private static final boolean IO_URING_REQUESTED = Boolean.parseBoolean(System.getProperty("Geyser.io_uring"));
     private static final Transport TRANSPORT = compatibleTransport();
 
     /**
@@ -120,6 +132,15 @@ public final class GeyserServer {
      */
     private final int broadcastPort;
 
+    /**
+     * How long ping passthrough information is reused for before it is requested again.
+     */
+    private final long pingInfoRefreshNanos;
+    /**
+     * Ping passthrough information per pinging address, as platforms may answer pings differently per address.
+     */
+    private final Cache<InetSocketAddress, CachedPingInfo> pingInfoCache;
+
     public GeyserServer(GeyserImpl geyser, int threadCount) {
         this.geyser = geyser;
         this.listenCount = Bootstraps.isReusePortAvailable() ?  Integer.getInteger("Geyser.ListenCount", 2) : 1;
@@ -143,6 +164,11 @@ public final class GeyserServer {
         }
 
         this.broadcastPort = geyser.getConfig().getBedrock().broadcastPort();
+        this.pingInfoRefreshNanos = TimeUnit.MILLISECONDS.toNanos(positivePropOrDefault("Geyser.PingCacheMillis", 1000));
+        this.pingInfoCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(this.pingInfoRefreshNanos, TimeUnit.NANOSECONDS)
+                .maximumSize(1024)
+                .build();
     }
 
     public CompletableFuture<Void> bind(InetSocketAddress address) {
@@ -169,12 +195,10 @@ public final class GeyserServer {
             channel.pipeline().addFirst("proxy-protocol-decoder", new ProxyServerHandler());
         }
 
-        boolean isWhitelistedProxyProtocol = isProxyProtocol && !this.geyser.getConfig().getBedrock().getProxyProtocolWhitelistedIPs().isEmpty();
-        if (Boolean.parseBoolean(System.getProperty("Geyser.RakRateLimitingDisabled", "false")) || isWhitelistedProxyProtocol) {
-            // We would already block any non-whitelisted IP addresses in onConnectionRequest so we can remove the rate limiter
+        if (Boolean.parseBoolean(System.getProperty("Geyser.RakRateLimitingDisabled", "false"))) {
             channel.pipeline().remove(RakServerRateLimiter.NAME);
         } else {
-            // Use our own rate limiter to allow multiple players from the same IP
+            // Use our own rate limiter to allow multiple players from the same IP, and to exempt whitelisted proxies
             channel.pipeline().replace(RakServerRateLimiter.NAME, RakGeyserRateLimiter.NAME, new RakGeyserRateLimiter(channel));
         }
     }
@@ -204,6 +228,10 @@ public final class GeyserServer {
     private ServerBootstrap createBootstrap() {
         if (this.geyser.getConfig().isDebugMode()) {
             this.geyser.getLogger().debug("EventLoop type: " + TRANSPORT.datagramChannel());
+            if (IO_URING_REQUESTED && !TRANSPORT.datagramChannel().getSimpleName().startsWith("IoUring")) {
+                // Use lambda here, not method reference, or else NoClassDefFoundError for IoUring will not be caught
+                this.geyser.getLogger().debug("Reason for no io_uring: " + throwableOrCaught(() -> IoUring.unavailabilityCause()));
+            }
             if (TRANSPORT.datagramChannel() == NioDatagramChannel.class) {
                 if (System.getProperties().contains("disableNativeEventLoop")) {
                     this.geyser.getLogger().debug("EventLoop type is NIO because native event loops are disabled.");
@@ -240,17 +268,8 @@ public final class GeyserServer {
     }
 
     public boolean onConnectionRequest(InetSocketAddress inetSocketAddress) {
-        List<String> allowedProxyIPs = geyser.getConfig().getBedrock().getProxyProtocolWhitelistedIPs();
-        if (geyser.getConfig().getBedrock().isEnableProxyProtocol() && !allowedProxyIPs.isEmpty()) {
-            boolean isWhitelistedIP = false;
-            for (CIDRMatcher matcher : geyser.getConfig().getBedrock().getWhitelistedIPsMatchers()) {
-                if (matcher.matches(inetSocketAddress.getAddress())) {
-                    isWhitelistedIP = true;
-                    break;
-                }
-            }
-
-            if (!isWhitelistedIP) {
+        if (geyser.getConfig().getBedrock().isEnableProxyProtocol() && !geyser.getConfig().getBedrock().getProxyProtocolWhitelistedIPs().isEmpty()) {
+            if (!geyser.getConfig().getBedrock().getProxyProtocolWhitelist().matches(inetSocketAddress.getAddress())) {
                 connectionAttempts++;
                 return false;
             }
@@ -283,7 +302,10 @@ public final class GeyserServer {
         return true;
     }
 
-    public BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress) {
+    /**
+     * Prints the ping to the debug log, if enabled.
+     */
+    public void logPing(InetSocketAddress inetSocketAddress) {
         if (geyser.getConfig().isDebugMode() && PRINT_DEBUG_PINGS) {
             String ip;
             if (geyser.getConfig().isLogPlayerIpAddresses()) {
@@ -297,16 +319,86 @@ public final class GeyserServer {
             }
             geyser.getLogger().debug(GeyserLocale.getLocaleStringLog("geyser.network.pinged", ip));
         }
+    }
+
+    /**
+     * @return true if pongs can't be cached and have to be created for every ping, e.g. as an extension
+     *         listens for {@link GeyserBedrockPingEvent}.
+     */
+    public boolean requiresFreshPong() {
+        return ConnectionTestCommand.CONNECTION_TEST_MOTD != null
+            || geyser.eventBus().hasSubscribers(GeyserBedrockPingEvent.class);
+    }
+
+    /**
+     * Creates a pong for the given ping, firing {@link GeyserBedrockPingEvent}.
+     */
+    public BedrockPong onQuery(Channel channel, InetSocketAddress inetSocketAddress) {
+        BedrockPong pong = createBasePong(channel, pingSnapshot(inetSocketAddress));
+        this.geyser.eventBus().fire(new GeyserBedrockPingEventImpl(pong, inetSocketAddress));
+        return finishPong(pong);
+    }
+
+    /**
+     * Creates a pong that can be reused for every ping until the given snapshot changes.
+     * This does not fire {@link GeyserBedrockPingEvent}; see {@link #requiresFreshPong()}.
+     */
+    public BedrockPong createCachedPong(Channel channel, PingSnapshot snapshot) {
+        return finishPong(createBasePong(channel, snapshot));
+    }
 
+    /**
+     * Returns everything that may change the content of a pong. Ping passthrough information is not requested
+     * for every ping; see {@link #cachedPingInfo(IGeyserPingPassthrough, InetSocketAddress)}.
+     */
+    public PingSnapshot pingSnapshot(InetSocketAddress inetSocketAddress) {
         GeyserConfiguration config = geyser.getConfig();
 
         GeyserPingInfo pingInfo = null;
         if (config.isPassthroughMotd() || config.isPassthroughPlayerCounts()) {
             IGeyserPingPassthrough pingPassthrough = geyser.getBootstrap().getGeyserPingPassthrough();
             if (pingPassthrough != null) {
-                pingInfo = pingPassthrough.getPingInformation(inetSocketAddress);
+                pingInfo = cachedPingInfo(pingPassthrough, inetSocketAddress);
+            }
+        }
+        return new PingSnapshot(pingInfo, geyser.getSessionManager().getSessions().size());
+    }
+
+    /**
+     * Returns the ping passthrough information for the given address. The first ping of an address waits for the
+     * information. After that, it is refreshed in the background once it is half as old as {@link #pingInfoRefreshNanos},
+     * so pings never get information older than that while an address keeps pinging.
+     */
+    private @Nullable GeyserPingInfo cachedPingInfo(IGeyserPingPassthrough pingPassthrough, InetSocketAddress inetSocketAddress) {
+        CachedPingInfo cached = pingInfoCache.getIfPresent(inetSocketAddress);
+        if (cached == null) {
+            cached = new CachedPingInfo(fetchPingInfo(pingPassthrough, inetSocketAddress, null), System.nanoTime());
+            pingInfoCache.put(inetSocketAddress, cached);
+        } else if (System.nanoTime() - cached.fetchedAt() > pingInfoRefreshNanos / 2 && cached.refreshing().compareAndSet(false, true)) {
+            GeyserPingInfo previous = cached.info();
+            try {
+                // Platform passthroughs may fire server events or wait on the proxy, which should not happen on the network threads
+                geyser.getScheduledThread().execute(() -> pingInfoCache.put(inetSocketAddress,
+                    new CachedPingInfo(fetchPingInfo(pingPassthrough, inetSocketAddress, previous), System.nanoTime())));
+            } catch (RejectedExecutionException ignored) {
+                // Shutting down
             }
         }
+        return cached.info();
+    }
+
+    private @Nullable GeyserPingInfo fetchPingInfo(IGeyserPingPassthrough pingPassthrough, InetSocketAddress inetSocketAddress, @Nullable GeyserPingInfo fallback) {
+        try {
+            return pingPassthrough.getPingInformation(inetSocketAddress);
+        } catch (Throwable t) {
+            geyser.getLogger().debug("Unable to get ping passthrough information: " + t);
+            return fallback;
+        }
+    }
+
+    private BedrockPong createBasePong(Channel channel, PingSnapshot snapshot) {
+        GeyserConfiguration config = geyser.getConfig();
+        GeyserPingInfo pingInfo = snapshot.pingInfo();
 
         BedrockPong pong = new BedrockPong()
                 .edition("MCPE")
@@ -335,12 +427,16 @@ public final class GeyserServer {
             pong.playerCount(pingInfo.getPlayers().getOnline());
             pong.maximumPlayerCount(pingInfo.getPlayers().getMax());
         } else {
-            pong.playerCount(geyser.getSessionManager().getSessions().size());
+            pong.playerCount(snapshot.playerCount());
             pong.maximumPlayerCount(config.getMaxPlayers());
         }
+        return pong;
+    }
 
-        this.geyser.eventBus().fire(new GeyserBedrockPingEventImpl(pong, inetSocketAddress));
-
+    /**
+     * Sanitizes the pong so the Bedrock client will display it.
+     */
+    private BedrockPong finishPong(BedrockPong pong) {
         // https://github.com/GeyserMC/Geyser/issues/3388
         pong.motd(pong.motd().replace(';', ':'));
         pong.subMotd(pong.subMotd().replace(';', ':'));
@@ -431,12 +527,12 @@ public final class GeyserServer {
     }
 
     private static Transport compatibleTransport() {
-        // FIXME supporting io_uring post 4.2 requires more changes
-//        if (isClassAvailable("io.netty.incubator.channel.uring.IOUring")
-//                && IOUring.isAvailable()
-//                && Boolean.parseBoolean(System.getProperty("Geyser.io_uring"))) {
-//            return new Transport(IOUringDatagramChannel.class, IOUringEventLoopGroup::new);
-//        }
+        // io_uring is opt-in, since it is commonly blocked by container seccomp profiles
+        if (IO_URING_REQUESTED
+                && isClassAvailable("io.netty.channel.uring.IoUring")
+                && IoUring.isAvailable()) {
+            return new Transport(IoUringDatagramChannel.class, threads -> new MultiThreadIoEventLoopGroup(threads, IoUringIoHandler.newFactory()));
+        }
 
         if (isClassAvailable("io.netty.channel.epoll.Epoll") && Epoll.isAvailable()) {
             return new Transport(EpollDatagramChannel.class, EpollEventLoopGroup::new);
@@ -449,6 +545,18 @@ public final class GeyserServer {
         return new Transport(NioDatagramChannel.class, NioEventLoopGroup::new);
     }
 
+    /**
+     * Everything besides static configuration that goes into a pong.
+     */
+    public record PingSnapshot(@Nullable GeyserPingInfo pingInfo, int playerCount) {
+    }
+
+    private record CachedPingInfo(@Nullable GeyserPingInfo info, long fetchedAt, AtomicBoolean refreshing) {
+        CachedPingInfo(@Nullable GeyserPingInfo info, long fetchedAt) {
+            this(info, fetchedAt, new AtomicBoolean());
+        }
+    }
+
     private record Transport(Class<? extends DatagramChannel> datagramChannel, IntFunction<EventLoopGroup> eventLoopGroupFactory) {
     }
 
@@ -29,6 +29,8 @@ import io.netty.channel.Channel;
 import org.cloudburstmc.netty.channel.raknet.RakServerChannel;
 import org.cloudburstmc.netty.handler.codec.raknet.server.RakServerRateLimiter;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.network.CIDRTrie;
 import org.geysermc.geyser.session.SessionManager;
 
 import java.net.InetAddress;
@@ -36,14 +38,25 @@ import java.net.InetAddress;
 public class RakGeyserRateLimiter extends RakServerRateLimiter {
     public static final String NAME = "rak-geyser-rate-limiter";
     private final SessionManager sessionManager;
+    /**
+     * Whitelisted proxies forward the traffic of many players from a single address, so they are not rate limited
+     */
+    private final CIDRTrie exemptAddresses;
 
     public RakGeyserRateLimiter(Channel channel) {
         super((RakServerChannel) channel);
-        this.sessionManager = GeyserImpl.getInstance().getSessionManager();
+        GeyserImpl geyser = GeyserImpl.getInstance();
+        this.sessionManager = geyser.getSessionManager();
+
+        GeyserConfiguration.IBedrockConfiguration bedrock = geyser.getConfig().getBedrock();
+        this.exemptAddresses = bedrock.isEnableProxyProtocol() ? bedrock.getProxyProtocolWhitelist() : CIDRTrie.empty();
     }
 
     @Override
     protected int getAddressMaxPacketCount(InetAddress address) {
+        if (!exemptAddresses.isEmpty() && exemptAddresses.matches(address)) {
+            return Integer.MAX_VALUE;
+        }
         return super.getAddressMaxPacketCount(address) * sessionManager.getAddressMultiplier(address);
     }
 }
@@ -25,7 +25,8 @@
 
 package org.geysermc.geyser.network.netty.handler;
 
-import io.netty.channel.ChannelHandler;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.RequiredArgsConstructor;
@@ -34,18 +35,56 @@ import org.cloudburstmc.netty.channel.raknet.RakPong;
 import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
 import org.geysermc.geyser.network.netty.GeyserServer;
 
-@ChannelHandler.Sharable
+import java.net.InetSocketAddress;
+
+/**
+ * Replies to unconnected pings. Not sharable: a new instance is added to each listening channel, as the encoded pong
+ * is cached per channel and only recreated once its {@link GeyserServer.PingSnapshot} changes.
+ */
 @RequiredArgsConstructor
 public class RakPingHandler extends SimpleChannelInboundHandler<RakPing> {
     public static final String NAME = "rak-ping-handler";
 
     private final GeyserServer server;
 
+    private ByteBuf cachedPong;
+    private GeyserServer.PingSnapshot cachedSnapshot;
+
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, RakPing msg) {
+        this.server.logPing(msg.getSender());
         long guid = ctx.channel().config().getOption(RakChannelOption.RAK_GUID);
 
-        RakPong pong = msg.reply(guid, this.server.onQuery(ctx.channel(), msg.getSender()).toByteBuf());
+        ByteBuf pongData;
+        if (this.server.requiresFreshPong()) {
+            pongData = this.server.onQuery(ctx.channel(), msg.getSender()).toByteBuf();
+        } else {
+            pongData = cachedPong(ctx.channel(), msg.getSender()).retainedDuplicate();
+        }
+
+        RakPong pong = msg.reply(guid, pongData);
         ctx.writeAndFlush(pong);
     }
+
+    private ByteBuf cachedPong(Channel channel, InetSocketAddress sender) {
+        GeyserServer.PingSnapshot snapshot = this.server.pingSnapshot(sender);
+        if (this.cachedPong == null || !snapshot.equals(this.cachedSnapshot)) {
+            releaseCachedPong();
+            this.cachedPong = this.server.createCachedPong(channel, snapshot).toByteBuf();
+            this.cachedSnapshot = snapshot;
+        }
+        return this.cachedPong;
+    }
+
+    private void releaseCachedPong() {
+        if (this.cachedPong != null) {
+            this.cachedPong.release();
+            this.cachedPong = null;
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releaseCachedPong();
+    }
 }
@@ -36,6 +36,7 @@ import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import org.cloudburstmc.protocol.bedrock.BedrockPeer;
 import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.network.CIDRTrie;
 import org.geysermc.geyser.network.GeyserBedrockPeer;
 
 import java.net.InetSocketAddress;
@@ -59,6 +60,13 @@ public class ProxyServerHandler extends SimpleChannelInboundHandler<DatagramPack
         }
 
         if (presentAddress == null) {
+            CIDRTrie whitelist = GeyserImpl.getInstance().getConfig().getBedrock().getProxyProtocolWhitelist();
+            if (!whitelist.isEmpty() && !whitelist.matches(packet.sender().getAddress())) {
+                // Only trust PROXY headers from whitelisted proxies
+                log.debug("{} sent a PROXY header but is not whitelisted", packet.sender());
+                return;
+            }
+
             final HAProxyMessage decoded;
             try {
                 if ((decoded = ProxyProtocolDecoder.decode(content, detectedVersion)) == null) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.pack;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the hash and manifest of every resource pack we loaded, keyed by its path, size and modification time.
+ * Packs that have not changed since the last startup don't need to be read and hashed again.
+ */
+public final class ResourcePackIndex {
+    private static final String FILE_NAME = "resource_pack_index.json";
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+    private volatile boolean dirty;
+
+    private ResourcePackIndex(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the index from the given cache directory. If it is missing or can't be read, an empty index is returned.
+     */
+    public static ResourcePackIndex load(Path cacheDirectory) {
+        Path file = cacheDirectory.resolve(FILE_NAME);
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (Files.exists(file)) {
+            try {
+                IndexFile indexFile = GeyserImpl.JSON_MAPPER.readValue(file.toFile(), IndexFile.class);
+                if (indexFile.version() == VERSION && indexFile.packs() != null) {
+                    entries.putAll(indexFile.packs());
+                }
+            } catch (IOException e) {
+                GeyserImpl.getInstance().getLogger().debug("Could not read the resource pack index; packs will be hashed again: " + e.getMessage());
+            }
+        }
+        return new ResourcePackIndex(file, entries);
+    }
+
+    /**
+     * @return the stored entry for this pack, if the pack file has not changed since
+     */
+    public @Nullable Entry get(Path path, long size, long lastModified) {
+        Entry entry = entries.get(key(path));
+        if (entry != null && entry.size() == size && entry.lastModified() == lastModified) {
+            return entry;
+        }
+        return null;
+    }
+
+    public void put(Path path, Entry entry) {
+        entries.put(key(path), entry);
+        dirty = true;
+    }
+
+    /**
+     * Forgets every pack that isn't in the given collection.
+     */
+    public void retain(Collection<Path> paths) {
+        Set<String> keys = new HashSet<>();
+        for (Path path : paths) {
+            keys.add(key(path));
+        }
+        if (entries.keySet().retainAll(keys)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Writes the index to disk, if anything changed.
+     */
+    public void save() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            GeyserImpl.JSON_MAPPER.writeValue(file.toFile(), new IndexFile(VERSION, Map.copyOf(entries)));
+            dirty = false;
+        } catch (IOException e) {
+            GeyserImpl.getInstance().getLogger().debug("Could not save the resource pack index: " + e.getMessage());
+        }
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * @param sha256 the hex encoded SHA-256 hash of the pack file
+     * @param manifest the raw manifest JSON found in the pack
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Entry(long size, long lastModified, String sha256, String manifest) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record IndexFile(int version, Map<String, Entry> packs) {
+    }
+}
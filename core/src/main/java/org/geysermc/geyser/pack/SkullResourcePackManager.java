@@ -25,6 +25,7 @@
 
 package org.geysermc.geyser.pack;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import it.unimi.dsi.fastutil.Pair;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -44,13 +45,22 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
@@ -61,12 +71,23 @@ public class SkullResourcePackManager {
 
     private static final long RESOURCE_PACK_VERSION = 8;
 
+    /**
+     * Skins are fetched from the Minecraft skin server; keep the amount of concurrent requests reasonable.
+     */
+    private static final int SKIN_FETCH_THREADS = 8;
+
     private static final Path SKULL_SKIN_CACHE_PATH = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache").resolve("player_skulls");
 
     public static final Map<String, Path> SKULL_SKINS = new Object2ObjectOpenHashMap<>();
 
+    /**
+     * Creates the skull resource pack, unless the pack for the current set of skulls already exists.
+     *
+     * @param index if the pack is (re)created, its hash is calculated while writing it and stored here,
+     *              so the pack does not need to be read again to be hashed
+     */
     @SuppressWarnings("ResultOfMethodCallIgnored")
-    public static @Nullable Path createResourcePack() {
+    public static @Nullable Path createResourcePack(ResourcePackIndex index) {
         Path cachePath = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache");
         try {
             Files.createDirectories(cachePath);
@@ -90,34 +111,85 @@ public class SkullResourcePackManager {
         // We need to create the resource pack from scratch
         GeyserImpl.getInstance().getLogger().info("Creating skull resource pack.");
         packFile.delete();
-        try (ZipOutputStream zipOS = new ZipOutputStream(Files.newOutputStream(packPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE))) {
-            addBaseResources(zipOS);
-            addSkinTextures(zipOS);
-            addAttachables(zipOS);
+        // Written elsewhere first, so an interrupted write never leaves a broken pack behind
+        Path tempPath = cachePath.resolve("player_skulls.mcpack.tmp");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String manifest = fillManifestJson(FileUtils.readToString("bedrock/skull_resource_pack/manifest.json"));
+            try (ZipOutputStream zipOS = new ZipOutputStream(new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)), digest))) {
+                addBaseResources(zipOS, manifest);
+                addSkinTextures(zipOS);
+                addAttachables(zipOS);
+            }
+            Files.move(tempPath, packPath, StandardCopyOption.REPLACE_EXISTING);
+
+            index.put(packPath, new ResourcePackIndex.Entry(Files.size(packPath), Files.getLastModifiedTime(packPath).toMillis(),
+                HexFormat.of().formatHex(digest.digest()), manifest));
             GeyserImpl.getInstance().getLogger().info("Finished creating skull resource pack.");
             return packPath;
-        } catch (IOException e) {
+        } catch (IOException | NoSuchAlgorithmException e) {
             GeyserImpl.getInstance().getLogger().severe("Unable to create player skull resource pack!", e);
             GeyserImpl.getInstance().getLogger().severe("Bedrock players will see dirt blocks instead of custom skull blocks.");
+            tempPath.toFile().delete();
             packFile.delete();
         }
         return null;
     }
 
     public static void cacheSkullSkin(String skinHash) throws IOException {
-        String skinUrl = Constants.MINECRAFT_SKIN_SERVER_URL + skinHash;
-        Path skinPath = SKULL_SKINS.get(skinHash);
-        if (skinPath != null) {
+        if (SKULL_SKINS.containsKey(skinHash)) {
             return;
         }
+        SKULL_SKINS.put(skinHash, fetchSkullSkin(skinHash));
+    }
+
+    /**
+     * Caches the skins for all given skin hashes. Skins that are not on disk yet are downloaded in parallel.
+     *
+     * @return the skin hashes that could not be cached, with the reason why
+     */
+    public static Map<String, IOException> cacheSkullSkins(Collection<String> skinHashes) {
+        Map<String, CompletableFuture<Path>> fetches = new LinkedHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(SKIN_FETCH_THREADS,
+            new ThreadFactoryBuilder().setNameFormat("Geyser Skull Skin Fetcher #%d").setDaemon(true).build());
+        try {
+            for (String skinHash : skinHashes) {
+                if (!SKULL_SKINS.containsKey(skinHash) && !fetches.containsKey(skinHash)) {
+                    fetches.put(skinHash, CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return fetchSkullSkin(skinHash);
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor));
+                }
+            }
+
+            Map<String, IOException> failures = new HashMap<>();
+            for (Map.Entry<String, CompletableFuture<Path>> entry : fetches.entrySet()) {
+                try {
+                    SKULL_SKINS.put(entry.getKey(), entry.getValue().join());
+                } catch (CompletionException e) {
+                    failures.put(entry.getKey(), e.getCause() instanceof IOException io ? io : new IOException(e.getCause()));
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdown();
+        }
+    }
 
+    /**
+     * Returns the path of the cached skull texture of this skin, downloading and converting it if needed.
+     */
+    private static Path fetchSkullSkin(String skinHash) throws IOException {
         Files.createDirectories(SKULL_SKIN_CACHE_PATH);
-        skinPath = SKULL_SKIN_CACHE_PATH.resolve(skinHash + ".png");
+        Path skinPath = SKULL_SKIN_CACHE_PATH.resolve(skinHash + ".png");
         if (Files.exists(skinPath)) {
-            SKULL_SKINS.put(skinHash, skinPath);
-            return;
+            return skinPath;
         }
 
+        String skinUrl = Constants.MINECRAFT_SKIN_SERVER_URL + skinHash;
         BufferedImage image = SkinProvider.requestImage(skinUrl, false);
         // Resize skins to 48x16 to save on space and memory
         BufferedImage skullTexture = new BufferedImage(48, 16, image.getType());
@@ -137,8 +209,8 @@ public class SkullResourcePackManager {
         image.flush();
 
         ImageIO.write(skullTexture, "png", skinPath.toFile());
-        SKULL_SKINS.put(skinHash, skinPath);
         GeyserImpl.getInstance().getLogger().debug("Cached player skull to " + skinPath + " for " + skinHash);
+        return skinPath;
     }
 
     public static void cleanSkullSkinCache() {
@@ -167,7 +239,7 @@ public class SkullResourcePackManager {
         }
     }
 
-    private static void addBaseResources(ZipOutputStream zipOS) throws IOException {
+    private static void addBaseResources(ZipOutputStream zipOS, String manifest) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(GeyserImpl.getInstance().getBootstrap().getResourceOrThrow("bedrock/skull_resource_pack_files.txt")))) {
             List<String> lines = reader.lines().toList();
             for (String path : lines) {
@@ -176,8 +248,7 @@ public class SkullResourcePackManager {
                 zipOS.putNextEntry(entry);
                 String resourcePath = "bedrock/" + path;
                 switch (path) {
-                    case "skull_resource_pack/manifest.json" ->
-                            fillTemplate(zipOS, resourcePath, SkullResourcePackManager::fillManifestJson);
+                    case "skull_resource_pack/manifest.json" -> zipOS.write(manifest.getBytes(StandardCharsets.UTF_8));
                     case "skull_resource_pack/textures/terrain_texture.json" ->
                             fillTemplate(zipOS, resourcePath, SkullResourcePackManager::fillTerrainTextureJson);
                     default -> zipOS.write(FileUtils.readAllBytes(resourcePath));
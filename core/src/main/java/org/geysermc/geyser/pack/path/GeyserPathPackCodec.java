@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.pack.path;
 
-import lombok.RequiredArgsConstructor;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.pack.PathPackCodec;
@@ -39,14 +38,35 @@ import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class GeyserPathPackCodec extends PathPackCodec {
+    /**
+     * How often the pack file is checked for changes. Without this, every chunk request would stat the file.
+     */
+    private static final long STALENESS_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
     private final Path path;
-    private FileTime lastModified;
+    private volatile FileTime lastModified;
+    private volatile long nextStalenessCheck;
+
+    private volatile byte[] sha256;
+    private volatile long size = -1;
 
-    private byte[] sha256;
-    private long size = -1;
+    public GeyserPathPackCodec(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Creates a codec for a pack whose hash and size are already known, e.g. from the {@link org.geysermc.geyser.pack.ResourcePackIndex}.
+     */
+    public GeyserPathPackCodec(Path path, byte[] sha256, long size, FileTime lastModified) {
+        this.path = path;
+        this.sha256 = sha256;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.nextStalenessCheck = System.nanoTime() + STALENESS_CHECK_INTERVAL;
+    }
 
     @Override
     public @NonNull Path path() {
@@ -94,6 +114,12 @@ public class GeyserPathPackCodec extends PathPackCodec {
     }
 
     private void checkLastModified() {
+        long now = System.nanoTime();
+        if (this.lastModified != null && now - this.nextStalenessCheck < 0) {
+            return;
+        }
+        this.nextStalenessCheck = now + STALENESS_CHECK_INTERVAL;
+
         try {
             FileTime lastModified = Files.getLastModifiedTime(this.path);
             if (this.lastModified == null) {
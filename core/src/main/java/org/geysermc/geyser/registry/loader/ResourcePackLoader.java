@@ -27,6 +27,7 @@ package org.geysermc.geyser.registry.loader;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.geysermc.geyser.GeyserImpl;
@@ -39,6 +40,7 @@ import org.geysermc.geyser.event.type.GeyserDefineResourcePacksEventImpl;
 import org.geysermc.geyser.pack.GeyserResourcePack;
 import org.geysermc.geyser.pack.GeyserResourcePackManifest;
 import org.geysermc.geyser.pack.ResourcePackHolder;
+import org.geysermc.geyser.pack.ResourcePackIndex;
 import org.geysermc.geyser.pack.SkullResourcePackManager;
 import org.geysermc.geyser.pack.path.GeyserPathPackCodec;
 import org.geysermc.geyser.pack.url.GeyserUrlPackCodec;
@@ -48,20 +50,26 @@ import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.util.FileUtils;
 import org.geysermc.geyser.util.WebUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -115,8 +123,10 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
             resourcePacks = new ArrayList<>();
         }
 
+        ResourcePackIndex index = ResourcePackIndex.load(GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("cache"));
+
         // Add custom skull pack
-        Path skullResourcePack = SkullResourcePackManager.createResourcePack();
+        Path skullResourcePack = SkullResourcePackManager.createResourcePack(index);
         if (skullResourcePack != null) {
             resourcePacks.add(skullResourcePack);
         }
@@ -125,15 +135,31 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         GeyserLoadResourcePacksEvent event = new GeyserLoadResourcePacksEvent(resourcePacks);
         GeyserImpl.getInstance().eventBus().fire(event);
 
-        for (Path path : event.resourcePacks()) {
-            try {
-                GeyserResourcePack pack = readPack(path).build();
-                packMap.put(pack.uuid(), ResourcePackHolder.of(pack));
-            } catch (Exception e) {
-                e.printStackTrace();
+        // Reading and hashing packs is mostly I/O; do it for all packs at once
+        List<Path> packPaths = event.resourcePacks();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(packPaths.size(), Runtime.getRuntime().availableProcessors())),
+            new ThreadFactoryBuilder().setNameFormat("Geyser Resource Pack Loader #%d").setDaemon(true).build());
+        try {
+            List<CompletableFuture<GeyserResourcePack>> futures = new ArrayList<>(packPaths.size());
+            for (Path path : packPaths) {
+                futures.add(CompletableFuture.supplyAsync(() -> readIndexedPack(path, index), executor));
             }
+
+            for (CompletableFuture<GeyserResourcePack> future : futures) {
+                try {
+                    GeyserResourcePack pack = future.join();
+                    packMap.put(pack.uuid(), ResourcePackHolder.of(pack));
+                } catch (CompletionException e) {
+                    e.getCause().printStackTrace();
+                }
+            }
+        } finally {
+            executor.shutdown();
         }
 
+        index.retain(packPaths);
+        index.save();
+
         // Load all remote resource packs from the config before firing the new event
         // TODO configurate
         //packMap.putAll(loadRemotePacks());
@@ -161,19 +187,60 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         }
 
         ResourcePackManifest manifest = readManifest(path, path.getFileName().toString());
-        String contentKey;
+        return new GeyserResourcePack.Builder(new GeyserPathPackCodec(path), manifest, readContentKey(path));
+    }
 
+    /**
+     * Reads a resource pack, using the hash and manifest stored in the index if the pack file has not changed.
+     * Otherwise, the pack is read and hashed, and the index is updated.
+     */
+    private static GeyserResourcePack readIndexedPack(Path path, ResourcePackIndex index) {
+        if (!PACK_MATCHER.matches(path)) {
+            throw new IllegalArgumentException("Resource pack " + path.getFileName() + " must be a .zip or .mcpack file!");
+        }
+
+        long size;
+        FileTime lastModified;
+        try {
+            size = Files.size(path);
+            lastModified = Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(GeyserLocale.getLocaleStringLog("geyser.resource_pack.broken", path.getFileName()), e);
+        }
+
+        ResourcePackIndex.Entry entry = index.get(path, size, lastModified.toMillis());
+        if (entry != null) {
+            try {
+                GeyserResourcePackManifest manifest = FileUtils.loadJson(new ByteArrayInputStream(entry.manifest().getBytes(StandardCharsets.UTF_8)), GeyserResourcePackManifest.class);
+                GeyserPathPackCodec codec = new GeyserPathPackCodec(path, HexFormat.of().parseHex(entry.sha256()), size, lastModified);
+                return new GeyserResourcePack.Builder(codec, manifest, readContentKey(path)).build();
+            } catch (IOException | IllegalArgumentException e) {
+                GeyserImpl.getInstance().getLogger().debug("Ignoring invalid resource pack index entry for " + path.getFileName());
+            }
+        }
+
+        String packLocation = path.getFileName().toString();
+        ManifestData manifestData = readManifestData(path, packLocation);
+        byte[] sha256 = FileUtils.calculateSHA256(path);
+        index.put(path, new ResourcePackIndex.Entry(size, lastModified.toMillis(), HexFormat.of().formatHex(sha256),
+            new String(manifestData.json(), StandardCharsets.UTF_8)));
+
+        GeyserPathPackCodec codec = new GeyserPathPackCodec(path, sha256, size, lastModified);
+        return new GeyserResourcePack.Builder(codec, manifestData.manifest(), readContentKey(path)).build();
+    }
+
+    /**
+     * Checks if a file exists with the same name as the resource pack suffixed by .key, and returns its contents.
+     * (e.g. test.zip, key file would be test.zip.key)
+     */
+    private static String readContentKey(Path path) {
         try {
-            // Check if a file exists with the same name as the resource pack suffixed by .key,
-            // and set this as content key. (e.g. test.zip, key file would be test.zip.key)
             Path keyFile = path.resolveSibling(path.getFileName().toString() + ".key");
-            contentKey = Files.exists(keyFile) ? Files.readString(keyFile, StandardCharsets.UTF_8) : "";
+            return Files.exists(keyFile) ? Files.readString(keyFile, StandardCharsets.UTF_8) : "";
         } catch (IOException e) {
             GeyserImpl.getInstance().getLogger().error("Failed to read content key for resource pack " + path.getFileName(), e);
-            contentKey = "";
+            return "";
         }
-
-        return new GeyserResourcePack.Builder(new GeyserPathPackCodec(path), manifest, contentKey);
     }
 
     /**
@@ -191,7 +258,11 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
     }
 
     private static ResourcePackManifest readManifest(Path path, String packLocation) throws IllegalArgumentException {
-        AtomicReference<GeyserResourcePackManifest> manifestReference = new AtomicReference<>();
+        return readManifestData(path, packLocation).manifest();
+    }
+
+    private static ManifestData readManifestData(Path path, String packLocation) throws IllegalArgumentException {
+        AtomicReference<ManifestData> manifestReference = new AtomicReference<>();
 
         try (ZipFile zip = new ZipFile(path.toFile());
              Stream<? extends ZipEntry> stream = zip.stream()) {
@@ -204,10 +275,11 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
                             " Please rename it to be shorter, or reduce the amount of folders needed to get to the file.");
                 }
                 if (name.contains("manifest.json")) {
-                    try {
-                        GeyserResourcePackManifest manifest = FileUtils.loadJson(zip.getInputStream(x), GeyserResourcePackManifest.class);
+                    try (InputStream inputStream = zip.getInputStream(x)) {
+                        byte[] json = inputStream.readAllBytes();
+                        GeyserResourcePackManifest manifest = FileUtils.loadJson(new ByteArrayInputStream(json), GeyserResourcePackManifest.class);
                         if (manifest.header().uuid() != null) {
-                            manifestReference.set(manifest);
+                            manifestReference.set(new ManifestData(manifest, json));
                         }
                     } catch (IOException e) {
                         e.printStackTrace();
@@ -215,7 +287,7 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
                 }
             });
 
-            GeyserResourcePackManifest manifest = manifestReference.get();
+            ManifestData manifest = manifestReference.get();
             if (manifest == null) {
                 throw new IllegalArgumentException(packLocation + " does not contain a valid pack_manifest.json or manifest.json");
             }
@@ -226,6 +298,12 @@ public class ResourcePackLoader implements RegistryLoader<Path, Map<UUID, Resour
         }
     }
 
+    /**
+     * @param json the manifest as found in the pack, so it can be stored in the {@link ResourcePackIndex}
+     */
+    private record ManifestData(GeyserResourcePackManifest manifest, byte[] json) {
+    }
+
     private Map<UUID, ResourcePackHolder> loadRemotePacks() {
         GeyserImpl instance = GeyserImpl.getInstance();
         // Unable to make this a static variable, as the test would fail
@@ -25,7 +25,10 @@
 
 package org.geysermc.geyser.registry.mappings;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -38,9 +41,24 @@ import org.geysermc.geyser.registry.mappings.versions.MappingsReader_v1;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 public class MappingsConfigReader {
+    /**
+     * The only top level fields of a mappings file we read into trees; everything else is skipped while parsing.
+     */
+    private static final Set<String> ROOT_FIELDS = Set.of("format_version", "items", "blocks");
+
+    /**
+     * Mappings files are parsed once, then shared by the item and block registry populators.
+     * Cleared with {@link #clearCache()} once the registries are populated.
+     */
+    private static @Nullable List<MappingsFile> cachedMappingsFiles;
+
     private final Int2ObjectMap<MappingsReader> mappingReaders = new Int2ObjectOpenHashMap<>();
     private final Path customMappingsDirectory = GeyserImpl.getInstance().getBootstrap().getConfigFolder().resolve("custom_mappings");
 
@@ -78,9 +96,8 @@ public class MappingsConfigReader {
             return;
         }
 
-        Path[] mappingsFiles = this.getCustomMappingsFiles();
-        for (Path mappingsFile : mappingsFiles) {
-            this.readItemMappingsFromJson(mappingsFile, consumer);
+        for (MappingsFile mappingsFile : this.getMappingsFiles()) {
+            this.mappingReaders.get(mappingsFile.formatVersion()).readItemMappings(mappingsFile.path(), mappingsFile.root(), consumer);
         }
     }
 
@@ -89,16 +106,69 @@ public class MappingsConfigReader {
             return;
         }
 
-        Path[] mappingsFiles = this.getCustomMappingsFiles();
-        for (Path mappingsFile : mappingsFiles) {
-            this.readBlockMappingsFromJson(mappingsFile, consumer);
+        for (MappingsFile mappingsFile : this.getMappingsFiles()) {
+            this.mappingReaders.get(mappingsFile.formatVersion()).readBlockMappings(mappingsFile.path(), mappingsFile.root(), consumer);
+        }
+    }
+
+    /**
+     * Forgets the parsed mappings files. Should be called once both item and block mappings are loaded.
+     */
+    public static synchronized void clearCache() {
+        cachedMappingsFiles = null;
+    }
+
+    /**
+     * @return every valid mappings file in the custom mappings directory, in a stable order. Files are parsed in parallel,
+     * and only on the first call until {@link #clearCache()}.
+     */
+    private List<MappingsFile> getMappingsFiles() {
+        synchronized (MappingsConfigReader.class) {
+            if (cachedMappingsFiles == null) {
+                cachedMappingsFiles = Arrays.stream(this.getCustomMappingsFiles())
+                        .parallel()
+                        .map(this::readMappingsFile)
+                        .filter(Objects::nonNull)
+                        .toList();
+            }
+            return cachedMappingsFiles;
         }
     }
 
+    private @Nullable MappingsFile readMappingsFile(Path file) {
+        JsonNode mappingsRoot = getMappingsRoot(file);
+        if (mappingsRoot == null) {
+            return null;
+        }
+
+        int formatVersion = getFormatVersion(mappingsRoot, file);
+        if (formatVersion < 0) {
+            return null;
+        }
+        return new MappingsFile(file, formatVersion, mappingsRoot);
+    }
+
+    /**
+     * Reads a mappings file in a single pass. The item and block sections are read as trees, since that is what
+     * {@link MappingsReader} works on; every other top level field is skipped without building a tree.
+     */
     public @Nullable JsonNode getMappingsRoot(Path file) {
-        JsonNode mappingsRoot;
-        try {
-            mappingsRoot = GeyserImpl.JSON_MAPPER.readTree(file.toFile());
+        ObjectNode mappingsRoot = GeyserImpl.JSON_MAPPER.createObjectNode();
+        try (JsonParser parser = GeyserImpl.JSON_MAPPER.createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                GeyserImpl.getInstance().getLogger().error("Mappings file " + file + " is not a JSON object!");
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (ROOT_FIELDS.contains(field)) {
+                    mappingsRoot.set(field, parser.<JsonNode>readValueAsTree());
+                } else {
+                    parser.skipChildren();
+                }
+            }
         } catch (IOException e) {
             GeyserImpl.getInstance().getLogger().error("Failed to read custom mapping file: " + file, e);
             return null;
@@ -122,34 +192,19 @@ public class MappingsConfigReader {
     }
 
     public void readItemMappingsFromJson(Path file, BiConsumer<String, CustomItemData> consumer) {
-        JsonNode mappingsRoot = getMappingsRoot(file);
-
-        if (mappingsRoot == null) {
-            return;
+        MappingsFile mappingsFile = readMappingsFile(file);
+        if (mappingsFile != null) {
+            this.mappingReaders.get(mappingsFile.formatVersion()).readItemMappings(file, mappingsFile.root(), consumer);
         }
-
-        int formatVersion = getFormatVersion(mappingsRoot, file);
-
-        if (formatVersion < 0) {
-            return;
-        }
-
-        this.mappingReaders.get(formatVersion).readItemMappings(file, mappingsRoot, consumer);
     }
 
     public void readBlockMappingsFromJson(Path file, BiConsumer<String, CustomBlockMapping> consumer) {
-        JsonNode mappingsRoot = getMappingsRoot(file);
-
-        if (mappingsRoot == null) {
-            return;
-        }
-
-        int formatVersion = getFormatVersion(mappingsRoot, file);
-
-        if (formatVersion < 0) {
-            return;
+        MappingsFile mappingsFile = readMappingsFile(file);
+        if (mappingsFile != null) {
+            this.mappingReaders.get(mappingsFile.formatVersion()).readBlockMappings(file, mappingsFile.root(), consumer);
         }
+    }
 
-        this.mappingReaders.get(formatVersion).readBlockMappings(file, mappingsRoot, consumer);
+    private record MappingsFile(Path path, int formatVersion, JsonNode root) {
     }
 }
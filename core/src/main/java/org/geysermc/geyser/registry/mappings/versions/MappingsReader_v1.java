@@ -89,21 +89,41 @@ public class MappingsReader_v1 extends MappingsReader {
         JsonNode itemsNode = mappingsRoot.get("items");
 
         if (itemsNode != null && itemsNode.isObject()) {
+            List<Map.Entry<String, JsonNode>> entries = new ArrayList<>();
             itemsNode.fields().forEachRemaining(entry -> {
                 if (entry.getValue().isArray()) {
-                    entry.getValue().forEach(data -> {
+                    entry.getValue().forEach(data -> entries.add(Map.entry(entry.getKey(), data)));
+                }
+            });
+
+            // Entries don't depend on each other, so they can be read in parallel; they are still registered in file order
+            List<ItemMappingResult> results = entries.parallelStream()
+                    .map(entry -> {
                         try {
-                            CustomItemData customItemData = this.readItemMappingEntry(data);
-                            consumer.accept(entry.getKey(), customItemData);
+                            return new ItemMappingResult(this.readItemMappingEntry(entry.getValue()), null);
                         } catch (InvalidCustomMappingsFileException e) {
-                            GeyserImpl.getInstance().getLogger().error("Error in registering items for custom mapping file: " + file.toString(), e);
+                            return new ItemMappingResult(null, e);
                         }
-                    });
+                    })
+                    .toList();
+
+            for (int i = 0; i < entries.size(); i++) {
+                ItemMappingResult result = results.get(i);
+                if (result.error() == null) {
+                    consumer.accept(entries.get(i).getKey(), result.data());
+                } else {
+                    GeyserImpl.getInstance().getLogger().error("Error in registering items for custom mapping file: " + file.toString(), result.error());
                 }
-            });
+            }
         }
     }
 
+    /**
+     * The outcome of reading one item mapping entry: either its data, or why it could not be read.
+     */
+    private record ItemMappingResult(@Nullable CustomItemData data, @Nullable InvalidCustomMappingsFileException error) {
+    }
+
     /**
      * Read block mappings from a JSON node
      * 
@@ -62,6 +62,7 @@ import org.geysermc.geyser.registry.populator.conversion.Conversion776_766;
 import org.geysermc.geyser.registry.populator.conversion.Conversion786_776;
 import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
 
 import java.io.DataInputStream;
 import java.io.InputStream;
@@ -385,6 +386,29 @@ public final class BlockRegistryPopulator {
 
             javaToBedrockIdentifiers.trim();
 
+            // Pack everything chunk encoding needs to know about a block state into one int
+            BitSet waterloggedStates = BlockRegistries.WATERLOGGED.get();
+            int[] javaToBedrockChunkData = new int[javaToBedrockBlocks.length];
+            for (int i = 0; i < javaToBedrockBlocks.length; i++) {
+                GeyserBedrockBlock bedrockDefinition = javaToBedrockBlocks[i] == null ? airDefinition : javaToBedrockBlocks[i];
+                int runtimeId = bedrockDefinition.getRuntimeId();
+                if ((runtimeId & ~BlockMappings.CHUNK_DATA_RUNTIME_ID_MASK) != 0) {
+                    throw new AssertionError("Bedrock runtime ID " + runtimeId + " is too large to pack into chunk data");
+                }
+
+                int chunkData = runtimeId;
+                if (waterloggedStates.get(i)) {
+                    chunkData |= BlockMappings.CHUNK_DATA_WATERLOGGED;
+                }
+                if (extendedCollisionBoxes.containsKey(i)) {
+                    chunkData |= BlockMappings.CHUNK_DATA_EXTENDED_COLLISION;
+                }
+                if (BlockState.of(i).block() instanceof BedrockChunkWantsBlockEntityTag) {
+                    chunkData |= BlockMappings.CHUNK_DATA_BLOCK_ENTITY;
+                }
+                javaToBedrockChunkData[i] = chunkData;
+            }
+
             // Loop around again to find all item frame runtime IDs
             Object2ObjectMaps.fastForEach(blockStateOrderedMap, entry -> {
                 String name = entry.getKey().getString("name");
@@ -406,6 +430,7 @@ public final class BlockRegistryPopulator {
                     .blockProperties(customBlockProperties)
                     .customBlockStateDefinitions(customBlockStateDefinitions)
                     .extendedCollisionBoxes(extendedCollisionBoxes)
+                    .javaToBedrockChunkData(javaToBedrockChunkData)
                     .build());
         }
     }
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
@@ -116,19 +117,24 @@ public class CustomSkullRegistryPopulator {
             }
         });
 
-        skinHashes.forEach((skinHash) -> {
+        List<String> validSkinHashes = new ArrayList<>(skinHashes.size());
+        for (String skinHash : skinHashes) {
             if (!skinHash.matches("^[a-fA-F0-9]+$")) {
                 GeyserImpl.getInstance().getLogger().error("Skin hash " + skinHash + " does not match required format ^[a-fA-F0-9]{64}$ and will not be added as a custom block.");
-                return;
+                continue;
             }
+            validSkinHashes.add(skinHash);
+        }
 
-            try {
-                SkullResourcePackManager.cacheSkullSkin(skinHash);
-                BlockRegistries.CUSTOM_SKULLS.register(skinHash, new CustomSkull(skinHash));
-            } catch (IOException e) {
-                GeyserImpl.getInstance().getLogger().error("Failed to cache skin for skull texture " + skinHash + " This skull will not be added as a custom block.", e);
+        Map<String, IOException> failures = SkullResourcePackManager.cacheSkullSkins(validSkinHashes);
+        for (String skinHash : validSkinHashes) {
+            IOException failure = failures.get(skinHash);
+            if (failure != null) {
+                GeyserImpl.getInstance().getLogger().error("Failed to cache skin for skull texture " + skinHash + " This skull will not be added as a custom block.", failure);
+                continue;
             }
-        });
+            BlockRegistries.CUSTOM_SKULLS.register(skinHash, new CustomSkull(skinHash));
+        }
 
         if (!BlockRegistries.CUSTOM_SKULLS.get().isEmpty()) {
             GeyserImpl.getInstance().getLogger().info("Registered " + BlockRegistries.CUSTOM_SKULLS.get().size() + " custom skulls as custom blocks.");
@@ -45,6 +45,23 @@ import java.util.Set;
 @Builder
 @Value
 public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
+    /**
+     * Mask for the Bedrock runtime ID in {@link #getChunkData(int)}.
+     */
+    public static final int CHUNK_DATA_RUNTIME_ID_MASK = 0xFFFFFF;
+    /**
+     * Set in {@link #getChunkData(int)} if the Java block state is waterlogged.
+     */
+    public static final int CHUNK_DATA_WATERLOGGED = 1 << 24;
+    /**
+     * Set in {@link #getChunkData(int)} if the Java block state has an extended collision box above it.
+     */
+    public static final int CHUNK_DATA_EXTENDED_COLLISION = 1 << 25;
+    /**
+     * Set in {@link #getChunkData(int)} if the Java block state needs a Bedrock-only block entity.
+     */
+    public static final int CHUNK_DATA_BLOCK_ENTITY = 1 << 26;
+
     GeyserBedrockBlock bedrockAir;
     BlockDefinition bedrockWater;
     BlockDefinition bedrockMovingBlock;
@@ -76,6 +93,22 @@ public class BlockMappings implements DefinitionRegistry<BlockDefinition> {
     Object2ObjectMap<CustomBlockState, GeyserBedrockBlock> customBlockStateDefinitions;
     Int2ObjectMap<GeyserBedrockBlock> extendedCollisionBoxes;
 
+    /**
+     * Java block state ID -> Bedrock runtime ID, with the CHUNK_DATA flags packed into the upper bits.
+     * Used when encoding chunks so every block state only needs one array lookup.
+     */
+    int[] javaToBedrockChunkData;
+
+    /**
+     * @return the Bedrock runtime ID of this Java block state, along with the CHUNK_DATA flags that apply to it
+     */
+    public int getChunkData(int javaState) {
+        if (javaState < 0 || javaState >= this.javaToBedrockChunkData.length) {
+            return bedrockAir.getRuntimeId();
+        }
+        return this.javaToBedrockChunkData[javaState];
+    }
+
     public int getBedrockBlockId(int javaState) {
         return getBedrockBlock(javaState).getRuntimeId();
     }
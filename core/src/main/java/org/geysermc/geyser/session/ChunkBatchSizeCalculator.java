@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.channel.Channel;
+import org.cloudburstmc.math.GenericMath;
+import org.cloudburstmc.netty.channel.raknet.RakChildChannel;
+import org.cloudburstmc.netty.handler.codec.raknet.common.RakSessionCodec;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates how many chunks per tick the Java server should send us, similar to the Java client's
+ * ChunkBatchSizeCalculator.
+ * <p>
+ * The base estimate comes from how long it takes us to receive and translate each chunk of a batch. That is then
+ * lowered when the Bedrock client falls behind: when the upstream channel has a send backlog, or when the round trip
+ * time (from RakNet acks, or from forwarded keep alives) is high.
+ */
+public final class ChunkBatchSizeCalculator {
+    /**
+     * Time per tick the Java client aims to spend on chunks; we do the same for translating them.
+     */
+    private static final double TARGET_NANOS_PER_TICK = 7_000_000.0;
+    private static final int MAX_OLD_SAMPLES_WEIGHT = 49;
+    private static final int CLAMP_COEFFICIENT = 3;
+    /**
+     * Round trip times up to this are considered healthy and don't lower the rate.
+     */
+    private static final double HEALTHY_RTT_MILLIS = 150.0;
+    /**
+     * The most the rate is lowered due to latency.
+     */
+    private static final double MIN_RTT_FACTOR = 0.25;
+    /**
+     * Applied while the upstream channel can't keep up with what we are writing.
+     */
+    private static final double BACKLOG_FACTOR = 0.25;
+    private static final double MIN_CHUNKS_PER_TICK = 0.01;
+    private static final double MAX_CHUNKS_PER_TICK = 64.0;
+
+    private final GeyserSession session;
+
+    private double aggregatedNanosPerChunk = 2_000_000.0;
+    private int oldSamplesWeight = 1;
+    private long batchStartTime = System.nanoTime();
+
+    /**
+     * Send times of forwarded keep alives that the client has not answered yet.
+     */
+    private final Queue<Long> pendingLatencyProbes = new ConcurrentLinkedQueue<>();
+    private volatile double latencyProbeRttMillis = -1;
+
+    private volatile float desiredChunksPerTick = 20f;
+
+    public ChunkBatchSizeCalculator(GeyserSession session) {
+        this.session = session;
+    }
+
+    public void onBatchStart() {
+        this.batchStartTime = System.nanoTime();
+    }
+
+    /**
+     * @return the new desired amount of chunks per tick, to send back to the server
+     */
+    public float onBatchFinished(int batchSize) {
+        if (batchSize > 0) {
+            double nanosPerChunk = (double) (System.nanoTime() - batchStartTime) / batchSize;
+            double clamped = GenericMath.clamp(nanosPerChunk, aggregatedNanosPerChunk / CLAMP_COEFFICIENT, aggregatedNanosPerChunk * CLAMP_COEFFICIENT);
+            aggregatedNanosPerChunk = (aggregatedNanosPerChunk * oldSamplesWeight + clamped) / (oldSamplesWeight + 1);
+            oldSamplesWeight = Math.min(MAX_OLD_SAMPLES_WEIGHT, oldSamplesWeight + 1);
+        }
+
+        double chunksPerTick = TARGET_NANOS_PER_TICK / aggregatedNanosPerChunk;
+
+        double rtt = roundTripMillis();
+        if (rtt > HEALTHY_RTT_MILLIS) {
+            chunksPerTick *= Math.max(MIN_RTT_FACTOR, HEALTHY_RTT_MILLIS / rtt);
+        }
+
+        Channel channel = upstreamChannel();
+        if (channel != null && !channel.isWritable()) {
+            chunksPerTick *= BACKLOG_FACTOR;
+        }
+
+        return desiredChunksPerTick = (float) GenericMath.clamp(chunksPerTick, MIN_CHUNKS_PER_TICK, MAX_CHUNKS_PER_TICK);
+    }
+
+    /**
+     * Called when a forwarded keep alive is sent to the client.
+     */
+    public void onLatencyProbeSent() {
+        pendingLatencyProbes.add(System.nanoTime());
+    }
+
+    /**
+     * Called when the client answers a forwarded keep alive. Replies come back in order.
+     */
+    public void onLatencyProbeAnswered() {
+        Long sentTime = pendingLatencyProbes.poll();
+        if (sentTime == null) {
+            return;
+        }
+        double rtt = (System.nanoTime() - sentTime) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        double previous = latencyProbeRttMillis;
+        latencyProbeRttMillis = previous < 0 ? rtt : previous * 0.75 + rtt * 0.25;
+    }
+
+    public float getDesiredChunksPerTick() {
+        return desiredChunksPerTick;
+    }
+
+    public double getNanosPerChunk() {
+        return aggregatedNanosPerChunk;
+    }
+
+    /**
+     * @return the higher of the RakNet round trip time and the forwarded keep alive round trip time, in milliseconds
+     */
+    public double roundTripMillis() {
+        double rtt = latencyProbeRttMillis;
+        Channel channel = upstreamChannel();
+        if (channel instanceof RakChildChannel rakChannel) {
+            RakSessionCodec rakSessionCodec = rakChannel.rakPipeline().get(RakSessionCodec.class);
+            if (rakSessionCodec != null) {
+                rtt = Math.max(rtt, rakSessionCodec.getPing());
+            }
+        }
+        return Math.max(0, rtt);
+    }
+
+    private Channel upstreamChannel() {
+        if (session.getUpstream().isClosed()) {
+            return null;
+        }
+        return session.getUpstream().getChannel();
+    }
+}
@@ -161,12 +161,15 @@ import org.geysermc.geyser.session.cache.AdvancementsCache;
 import org.geysermc.geyser.session.cache.BookEditCache;
 import org.geysermc.geyser.session.cache.BundleCache;
 import org.geysermc.geyser.session.cache.ChunkCache;
+import org.geysermc.geyser.session.cache.ChunkIndexedMap;
 import org.geysermc.geyser.session.cache.EntityCache;
 import org.geysermc.geyser.session.cache.EntityEffectCache;
+import org.geysermc.geyser.session.cache.EntityInterestCache;
 import org.geysermc.geyser.session.cache.FormCache;
 import org.geysermc.geyser.session.cache.InputCache;
 import org.geysermc.geyser.session.cache.LodestoneCache;
 import org.geysermc.geyser.session.cache.PistonCache;
+import org.geysermc.geyser.session.cache.PlayerListSkinCache;
 import org.geysermc.geyser.session.cache.PreferencesCache;
 import org.geysermc.geyser.session.cache.RegistryCache;
 import org.geysermc.geyser.session.cache.SkullCache;
@@ -265,6 +268,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     @Setter
     private RemoteServer remoteServer;
 
+    /**
+     * The {@link System#nanoTime()} the downstream connection was started at, for login metrics.
+     */
+    private long downstreamConnectStart;
+
     private final SessionPlayerEntity playerEntity;
 
     private final AdvancementsCache advancementsCache;
@@ -273,10 +281,14 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private final ChunkCache chunkCache;
     private final EntityCache entityCache;
     private final EntityEffectCache effectCache;
+    private final EntityInterestCache entityInterestCache;
+    private final ChunkBatchSizeCalculator chunkBatchSizeCalculator;
+    private final UpstreamPressure upstreamPressure;
     private final FormCache formCache;
     private final InputCache inputCache;
     private final LodestoneCache lodestoneCache;
     private final PistonCache pistonCache;
+    private final PlayerListSkinCache playerListSkinCache;
     private final PreferencesCache preferencesCache;
     private final RegistryCache registryCache;
     private final SkullCache skullCache;
@@ -348,10 +360,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private ItemMappings itemMappings;
 
     /**
-     * A map of Vector3i positions to Java entities.
+     * A map of Vector3i positions to Java entities, indexed by chunk.
      * Used for translating Bedrock block actions to Java entity actions.
      */
-    private final Map<Vector3i, ItemFrameEntity> itemFrameCache = new Object2ObjectOpenHashMap<>();
+    private final ChunkIndexedMap<ItemFrameEntity> itemFrameCache = new ChunkIndexedMap<>();
 
     /**
      * A map of all players (and their heads) that are wearing a player head with a custom texture.
@@ -626,9 +638,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private boolean advancedTooltips = false;
 
     /**
-     * The thread that will run every game tick.
+     * Runs {@link #tick()} every game tick, as part of the event loop's {@link SessionTicker}.
      */
-    private ScheduledFuture<?> tickThread = null;
+    private SessionTicker.Handle tickHandle = null;
 
     /**
      * The number of ticks that have elapsed since the start of this session
@@ -690,8 +702,16 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     private int stepTicks = 0;
 
     public GeyserSession(GeyserImpl geyser, BedrockServerSession bedrockServerSession, EventLoop tickEventLoop) {
+        this(geyser, new UpstreamSession(bedrockServerSession), tickEventLoop);
+    }
+
+    /**
+     * Creates a session around the given upstream, which may not have a Bedrock client behind it;
+     * for example when replaying captured Java traffic.
+     */
+    public GeyserSession(GeyserImpl geyser, UpstreamSession upstream, EventLoop tickEventLoop) {
         this.geyser = geyser;
-        this.upstream = new UpstreamSession(bedrockServerSession);
+        this.upstream = upstream;
         this.tickEventLoop = tickEventLoop;
 
         this.erosionHandler = new GeyserboundHandshakePacketHandler(this);
@@ -701,11 +721,15 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.bundleCache = new BundleCache(this);
         this.chunkCache = new ChunkCache(this);
         this.entityCache = new EntityCache(this);
+        this.entityInterestCache = new EntityInterestCache(this);
+        this.chunkBatchSizeCalculator = new ChunkBatchSizeCalculator(this);
+        this.upstreamPressure = new UpstreamPressure(this);
         this.effectCache = new EntityEffectCache();
         this.formCache = new FormCache(this);
         this.inputCache = new InputCache(this);
         this.lodestoneCache = new LodestoneCache();
         this.pistonCache = new PistonCache(this);
+        this.playerListSkinCache = new PlayerListSkinCache(this);
         this.preferencesCache = new PreferencesCache(this);
         this.registryCache = new RegistryCache(this);
         this.skullCache = new SkullCache(this);
@@ -998,7 +1022,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         this.remoteServer = loginEvent.remoteServer();
 
         // Start ticking
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        tickHandle = geyser.getSessionManager().registerTick(tickEventLoop, this::tick, nanosecondsPerTick);
 
         ClientSession downstream;
         if (geyser.getBootstrap().getSocketAddress() != null) {
@@ -1045,6 +1069,7 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
         downstream.addListener(new GeyserSessionAdapter(this));
 
         downstream.setFlag(BuiltinFlags.CLIENT_TRANSFERRING, loginEvent.transferring());
+        downstreamConnectStart = System.nanoTime();
         downstream.connect(false);
 
         if (!daylightCycle) {
@@ -1084,6 +1109,10 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
                 upstream.disconnect(disconnectEvent.disconnectReason());
             }
 
+            if (authData != null && upstream.getCompressionStats() != null) {
+                geyser.getLogger().debug("Upstream compression for " + bedrockUsername() + ": " + upstream.getCompressionStats());
+            }
+
             // Remove from session manager
             geyser.getSessionManager().removeSession(this);
             if (authData != null) {
@@ -1094,8 +1123,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
             }
         }
 
-        if (tickThread != null) {
-            tickThread.cancel(false);
+        if (tickHandle != null) {
+            tickHandle.cancel();
         }
 
         // Mark session as closed before cancelling erosion futures
@@ -1138,13 +1167,14 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     }
 
     public void updateTickingState(float tickRate, boolean frozen) {
-        tickThread.cancel(false);
         this.tickingFrozen = frozen;
 
         tickRate = MathUtils.clamp(tickRate, 1.0f, 10000.0f);
         millisecondsPerTick = 1000.0f / tickRate;
         nanosecondsPerTick = MathUtils.ceil(1000000000.0f / tickRate);
-        tickThread = tickEventLoop.scheduleAtFixedRate(this::tick, nanosecondsPerTick, nanosecondsPerTick, TimeUnit.NANOSECONDS);
+        if (tickHandle != null) {
+            tickHandle.setNanosPerTick(nanosecondsPerTick);
+        }
     }
 
     private void executeRunnable(Runnable runnable) {
@@ -1160,8 +1190,9 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
     /**
      * Called every Minecraft tick.
      */
-    protected void tick() {
+    public void tick() {
         try {
+            upstreamPressure.tick();
             pistonCache.tick();
 
             if (worldBorder.isResizing()) {
@@ -1230,6 +1261,8 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
             }
 
             this.bundleCache.tick();
+            this.playerListSkinCache.tick();
+            this.entityInterestCache.tick();
 
             if (spawned && protocol.getOutboundState() == ProtocolState.GAME) {
                 // Could move this to the PlayerAuthInput translator, in the event the player lags
@@ -2187,7 +2220,11 @@ public class GeyserSession implements GeyserConnection, GeyserCommandSource {
 
     @Override
     public int ping() {
-        RakSessionCodec rakSessionCodec = ((RakChildChannel) getUpstream().getSession().getPeer().getChannel()).rakPipeline().get(RakSessionCodec.class);
+        if (!(upstream.getChannel() instanceof RakChildChannel channel)) {
+            // Replayed sessions have no connection
+            return 0;
+        }
+        RakSessionCodec rakSessionCodec = channel.rakPipeline().get(RakSessionCodec.class);
         return (int) Math.floor(rakSessionCodec.getPing());
     }
 
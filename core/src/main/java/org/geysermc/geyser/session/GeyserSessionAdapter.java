@@ -25,15 +25,18 @@
 
 package org.geysermc.geyser.session;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.floodgate.crypto.FloodgateCipher;
 import org.geysermc.floodgate.util.BedrockData;
 import org.geysermc.geyser.Constants;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.api.network.AuthType;
 import org.geysermc.geyser.api.util.PlatformType;
+import org.geysermc.geyser.network.capture.PacketCapture;
 import org.geysermc.geyser.network.netty.LocalSession;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.auth.BedrockClientData;
+import org.geysermc.geyser.session.auth.LoginStage;
 import org.geysermc.geyser.skin.FloodgateSkinUploader;
 import org.geysermc.geyser.text.GeyserLocale;
 import org.geysermc.geyser.text.MinecraftLocale;
@@ -58,12 +61,14 @@ public class GeyserSessionAdapter extends SessionAdapter {
     private final GeyserSession session;
     private final boolean floodgate;
     private final String locale;
+    private final @Nullable PacketCapture capture;
 
     public GeyserSessionAdapter(GeyserSession session) {
         this.session = session;
         this.floodgate = session.remoteServer().authType() == AuthType.FLOODGATE;
         this.geyser = GeyserImpl.getInstance();
         this.locale = session.locale();
+        this.capture = PacketCapture.open(session);
     }
 
     @Override
@@ -125,6 +130,8 @@ public class GeyserSessionAdapter extends SessionAdapter {
         session.loggingIn = false;
         session.loggedIn = true;
 
+        geyser.getLoginCryptoExecutor().getMetrics().record(LoginStage.DOWNSTREAM_CONNECT, session.getDownstreamConnectStart());
+
         if (session.getDownstream().getSession() instanceof LocalSession) {
             // Connected directly to the server
             geyser.getLogger().info(GeyserLocale.getLocaleStringLog("geyser.network.remote.connect_internal",
@@ -151,18 +158,21 @@ public class GeyserSessionAdapter extends SessionAdapter {
 
         // Let the user know there locale may take some time to download
         // as it has to be extracted from a JAR
-        if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.LOCALE_MAPPINGS.containsKey("en_us")) {
+        if (locale.equalsIgnoreCase("en_us") && !MinecraftLocale.isLocaleLoaded("en_us")) {
             // This should probably be left hardcoded as it will only show for en_us clients
             session.sendMessage("Loading your locale (en_us); if this isn't already downloaded, this may take some time");
         }
 
-        // Download and load the language for the player
+        // Download and load the language for the player in the background
         MinecraftLocale.downloadAndLoadLocale(locale);
     }
 
     @Override
     public void disconnected(DisconnectedEvent event) {
         session.loggingIn = false;
+        if (capture != null) {
+            capture.close();
+        }
 
         String disconnectMessage, customDisconnectMessage = null;
         Throwable cause = event.getCause();
@@ -224,6 +234,9 @@ public class GeyserSessionAdapter extends SessionAdapter {
 
     @Override
     public void packetReceived(Session session, Packet packet) {
+        if (capture != null) {
+            capture.record(packet, this.session.getProtocol().getInboundState());
+        }
         Registries.JAVA_PACKET_TRANSLATORS.translate(packet.getClass(), packet, this.session, true);
     }
 
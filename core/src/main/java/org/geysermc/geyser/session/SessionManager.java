@@ -26,15 +26,18 @@
 package org.geysermc.geyser.session;
 
 import com.google.common.collect.ImmutableList;
+import io.netty.channel.EventLoop;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.text.GeyserLocale;
+import org.geysermc.geyser.text.MinecraftLocale;
 
 import java.net.InetAddress;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -61,6 +64,49 @@ public final class SessionManager {
     @Getter(AccessLevel.PACKAGE)
     private final Map<InetAddress, AtomicInteger> connectedClients = new ConcurrentHashMap<>();
 
+    /**
+     * Stores the number of pending and active sessions per lowercase locale.
+     * A locale is unloaded once its last session leaves.
+     */
+    private final Map<String, AtomicInteger> localeUsers = new ConcurrentHashMap<>();
+
+    /**
+     * One ticker per event loop that sessions are ticked on. Tickers are removed once their last session stops ticking or their event loop terminates.
+     */
+    private final Map<EventLoop, SessionTicker> tickers = new ConcurrentHashMap<>();
+
+    /**
+     * Starts ticking the given task on the ticker of the given event loop.
+     *
+     * @see SessionTicker#register(Runnable, long)
+     */
+    public SessionTicker.Handle registerTick(EventLoop eventLoop, Runnable tick, long nanosPerTick) {
+        // Registered while holding the map entry, so an idle ticker can't be removed in between
+        SessionTicker.Handle[] handle = new SessionTicker.Handle[1];
+        SessionTicker[] created = new SessionTicker[1];
+        tickers.compute(eventLoop, (loop, ticker) -> {
+            if (ticker == null) {
+                ticker = created[0] = new SessionTicker(loop, idle -> removeTicker(loop, idle));
+            }
+            handle[0] = ticker.register(tick, nanosPerTick);
+            return ticker;
+        });
+        if (created[0] != null) {
+            // Outside of compute, since the listener runs immediately if the loop has already terminated
+            eventLoop.terminationFuture().addListener(future -> removeTicker(eventLoop, created[0]));
+        }
+        return handle[0];
+    }
+
+    private void removeTicker(EventLoop eventLoop, SessionTicker ticker) {
+        tickers.computeIfPresent(eventLoop, (loop, current) ->
+            current == ticker && (ticker.isIdle() || loop.isTerminated()) ? null : current);
+    }
+
+    public Collection<SessionTicker> getTickers() {
+        return tickers.values();
+    }
+
     /**
      * Called once the player has successfully authenticated to the Geyser server.
      */
@@ -74,6 +120,7 @@ public final class SessionManager {
             count.incrementAndGet();
             return count;
         });
+        localeUsers.computeIfAbsent(session.locale().toLowerCase(Locale.ROOT), key -> new AtomicInteger()).incrementAndGet();
     }
 
     /**
@@ -86,9 +133,10 @@ public final class SessionManager {
 
     public void removeSession(GeyserSession session) {
         UUID uuid = session.getPlayerEntity().getUuid();
-        if (uuid == null || sessions.remove(uuid) == null) {
+        boolean removed = uuid != null && sessions.remove(uuid) != null;
+        if (!removed) {
             // Connection was likely pending
-            pendingSessions.remove(session);
+            removed = pendingSessions.remove(session);
         }
         connectedClients.computeIfPresent(session.getSocketAddress().getAddress(), (key, count) -> {
             if (count.decrementAndGet() <= 0) {
@@ -96,6 +144,16 @@ public final class SessionManager {
             }
             return count;
         });
+        if (removed) {
+            // Only sessions that were added hold a locale
+            localeUsers.computeIfPresent(session.locale().toLowerCase(Locale.ROOT), (locale, count) -> {
+                if (count.decrementAndGet() <= 0) {
+                    MinecraftLocale.unloadLocale(locale);
+                    return null;
+                }
+                return count;
+            });
+        }
     }
 
     public int getAddressMultiplier(InetAddress ip) {
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import lombok.Getter;
+import org.geysermc.geyser.GeyserImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Ticks every session of one event loop from a single scheduled task, instead of each session scheduling its own.
+ * <p>
+ * Sessions with the same tick rate share a phase, so they are ticked together in one batch. Sessions may still use
+ * their own tick rate (for example after {@code /tick rate}); the ticker wakes up for whichever session is due first.
+ * Like {@link EventLoop#scheduleAtFixedRate(Runnable, long, long, TimeUnit)}, ticks that fell behind are caught up on.
+ */
+public final class SessionTicker {
+    private final EventLoop eventLoop;
+    /**
+     * Called once every handle has been cancelled
+     */
+    private final Consumer<SessionTicker> onIdle;
+    /**
+     * Only accessed from {@link #eventLoop}
+     */
+    private final List<Handle> handles = new ObjectArrayList<>();
+    /**
+     * Number of handles that have not been cancelled yet
+     */
+    private final AtomicInteger activeHandles = new AtomicInteger();
+    private ScheduledFuture<?> wakeup;
+    private long wakeupAt;
+
+    /**
+     * Number of tick batches that ran
+     */
+    @Getter
+    private volatile long batches;
+    /**
+     * Number of session ticks that ran
+     */
+    @Getter
+    private volatile long ticks;
+    /**
+     * Number of batches that took longer than the shortest tick period of their sessions
+     */
+    @Getter
+    private volatile long overruns;
+    @Getter
+    private volatile long lastBatchNanos;
+    @Getter
+    private volatile long maxBatchNanos;
+    /**
+     * Total time spent running tick batches; compare against wall time to see how busy ticking keeps the event loop
+     */
+    @Getter
+    private volatile long totalBatchNanos;
+
+    public SessionTicker(EventLoop eventLoop, Consumer<SessionTicker> onIdle) {
+        this.eventLoop = eventLoop;
+        this.onIdle = onIdle;
+    }
+
+    /**
+     * Starts ticking the given task. Can be called from any thread.
+     *
+     * @param tick the task to run every tick
+     * @param nanosPerTick the period between ticks
+     * @return a handle to change the tick rate with, or to stop ticking
+     */
+    public Handle register(Runnable tick, long nanosPerTick) {
+        Handle handle = new Handle(tick, nanosPerTick);
+        activeHandles.incrementAndGet();
+        runInEventLoop(() -> {
+            if (handle.cancelled) {
+                return;
+            }
+            handle.nextTick = alignedTick(System.nanoTime(), handle.nanosPerTick);
+            handles.add(handle);
+            scheduleWakeup(handle.nextTick);
+        });
+        return handle;
+    }
+
+    /**
+     * @return the number of tasks currently being ticked; approximate when called outside the event loop
+     */
+    public int size() {
+        return handles.size();
+    }
+
+    /**
+     * @return true if every handle of this ticker has been cancelled
+     */
+    public boolean isIdle() {
+        return activeHandles.get() == 0;
+    }
+
+    public double getAverageTicksPerBatch() {
+        long batches = this.batches;
+        return batches == 0 ? 0 : (double) ticks / batches;
+    }
+
+    private void runBatch() {
+        wakeup = null;
+        long start = System.nanoTime();
+        long nextWakeup = Long.MAX_VALUE;
+        long shortestPeriod = Long.MAX_VALUE;
+        int ran = 0;
+
+        // Iterate over a fixed size, since ticks may register new sessions
+        for (int i = 0, size = handles.size(); i < size; i++) {
+            Handle handle = handles.get(i);
+            if (handle.cancelled) {
+                continue;
+            }
+            if (handle.nextTick - start <= 0) {
+                try {
+                    handle.tick.run();
+                } catch (Throwable throwable) {
+                    GeyserImpl.getInstance().getLogger().error("Error thrown while ticking a session!", throwable);
+                }
+                handle.nextTick += handle.nanosPerTick;
+                shortestPeriod = Math.min(shortestPeriod, handle.nanosPerTick);
+                ran++;
+            }
+            if (handle.nextTick < nextWakeup) {
+                nextWakeup = handle.nextTick;
+            }
+        }
+        handles.removeIf(handle -> handle.cancelled);
+
+        long duration = System.nanoTime() - start;
+        if (ran > 0) {
+            batches++;
+            ticks += ran;
+            lastBatchNanos = duration;
+            totalBatchNanos += duration;
+            if (duration > maxBatchNanos) {
+                maxBatchNanos = duration;
+            }
+            if (duration > shortestPeriod) {
+                overruns++;
+            }
+        }
+
+        for (int i = 0; i < handles.size(); i++) {
+            // Handles registered during this batch were not part of the loop above
+            nextWakeup = Math.min(nextWakeup, handles.get(i).nextTick);
+        }
+        if (nextWakeup != Long.MAX_VALUE) {
+            scheduleWakeup(nextWakeup);
+        }
+    }
+
+    private void scheduleWakeup(long at) {
+        if (wakeup != null) {
+            if (wakeupAt - at <= 0) {
+                // Already waking up early enough
+                return;
+            }
+            wakeup.cancel(false);
+        }
+        wakeupAt = at;
+        wakeup = eventLoop.schedule(this::runBatch, Math.max(0, at - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    private void runInEventLoop(Runnable runnable) {
+        if (eventLoop.inEventLoop()) {
+            runnable.run();
+        } else {
+            eventLoop.execute(runnable);
+        }
+    }
+
+    /**
+     * Rounds up to the next multiple of the period, so handles with the same period share a batch.
+     */
+    private static long alignedTick(long now, long nanosPerTick) {
+        return now + nanosPerTick - Math.floorMod(now, nanosPerTick);
+    }
+
+    public final class Handle {
+        private final Runnable tick;
+        private long nanosPerTick;
+        private long nextTick;
+        private volatile boolean cancelled;
+
+        private Handle(Runnable tick, long nanosPerTick) {
+            this.tick = tick;
+            this.nanosPerTick = nanosPerTick;
+        }
+
+        /**
+         * Changes the tick rate. The next tick happens one new period from now. Can be called from any thread.
+         */
+        public void setNanosPerTick(long nanosPerTick) {
+            runInEventLoop(() -> {
+                if (cancelled) {
+                    return;
+                }
+                this.nanosPerTick = nanosPerTick;
+                this.nextTick = alignedTick(System.nanoTime(), nanosPerTick);
+                scheduleWakeup(this.nextTick);
+            });
+        }
+
+        /**
+         * Stops ticking. Can be called from any thread; no tick will start after this call.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+            }
+            if (activeHandles.decrementAndGet() == 0) {
+                onIdle.accept(SessionTicker.this);
+            }
+        }
+    }
+}
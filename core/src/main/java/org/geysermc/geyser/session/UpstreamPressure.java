@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import io.netty.channel.Channel;
+import lombok.Getter;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how far behind the Bedrock client is in receiving what we send it, and decides which non-essential
+ * packets to thin out or drop so that essential ones (chunks, inventories, chat) are not delayed behind them.
+ * <p>
+ * RakNet does not tell us how much of its send queue is still waiting for the client, so the queue depth is
+ * estimated from two signals: the upstream channel becoming unwritable, and the round trip time rising above the
+ * lowest round trip time seen for this session. The latter is the time packets spend queued on the way to the client.
+ * <p>
+ * Written from the session's event loop; counters may be read from any thread.
+ */
+public final class UpstreamPressure {
+    /**
+     * How many ticks the queueing delay has to stay below a tier before the session drops back from it.
+     */
+    private static final int RECOVERY_TICKS = 40;
+    /**
+     * A tier is only left once the queueing delay is below this fraction of its threshold.
+     */
+    private static final double RECOVERY_FACTOR = 0.75;
+    /**
+     * How fast the baseline round trip time creeps up, so that a permanently slower route is not mistaken for a backlog.
+     */
+    private static final double BASELINE_DRIFT_MILLIS_PER_TICK = 0.05;
+    /**
+     * When thinning, only one in this many packets of a burst is kept.
+     */
+    private static final int THIN_DIVISOR = 4;
+
+    private final GeyserSession session;
+    private final double elevatedDelayMillis;
+    private final double highDelayMillis;
+
+    @Getter
+    private volatile Tier tier = Tier.NONE;
+    private int ticksBelowTier;
+    private double baselineRoundTripMillis = -1;
+
+    /**
+     * The current estimated time packets spend queued before reaching the client, in milliseconds
+     */
+    @Getter
+    private volatile double queueDelayMillis;
+    @Getter
+    private volatile double peakQueueDelayMillis;
+    /**
+     * How many bytes have to be drained from the upstream channel before it is writable again
+     */
+    @Getter
+    private volatile long queuedBytes;
+    @Getter
+    private volatile long peakQueuedBytes;
+
+    private final LongAdder[] dropped = adders(Traffic.VALUES.length);
+    private final LongAdder[] ticksInTier = adders(Tier.VALUES.length);
+
+    public UpstreamPressure(GeyserSession session) {
+        this.session = session;
+
+        GeyserConfiguration config = session.getGeyser().getConfig();
+        int elevated = Math.max(0, config.getUpstreamPressureElevatedDelay());
+        this.elevatedDelayMillis = elevated == 0 ? Double.MAX_VALUE : elevated;
+        this.highDelayMillis = elevated == 0 ? Double.MAX_VALUE : Math.max(elevated, config.getUpstreamPressureHighDelay());
+    }
+
+    public void tick() {
+        if (elevatedDelayMillis == Double.MAX_VALUE) {
+            return;
+        }
+
+        long queuedBytes = 0;
+        Channel channel = session.getUpstream().isClosed() ? null : session.getUpstream().getChannel();
+        if (channel != null && !channel.isWritable()) {
+            queuedBytes = Math.max(1, channel.bytesBeforeWritable());
+        }
+        this.queuedBytes = queuedBytes;
+        if (queuedBytes > peakQueuedBytes) {
+            peakQueuedBytes = queuedBytes;
+        }
+
+        double rtt = session.getChunkBatchSizeCalculator().roundTripMillis();
+        if (rtt > 0) {
+            if (baselineRoundTripMillis < 0 || rtt < baselineRoundTripMillis) {
+                baselineRoundTripMillis = rtt;
+            } else {
+                baselineRoundTripMillis += BASELINE_DRIFT_MILLIS_PER_TICK;
+            }
+        }
+        double delay = baselineRoundTripMillis < 0 ? 0 : Math.max(0, rtt - baselineRoundTripMillis);
+        this.queueDelayMillis = delay;
+        if (delay > peakQueueDelayMillis) {
+            peakQueueDelayMillis = delay;
+        }
+
+        Tier measured;
+        if (queuedBytes > 0 || delay >= highDelayMillis) {
+            // The channel can't take anything more right now; nothing non-essential should be added to it
+            measured = Tier.HIGH;
+        } else if (delay >= elevatedDelayMillis) {
+            measured = Tier.ELEVATED;
+        } else {
+            measured = Tier.NONE;
+        }
+
+        Tier current = this.tier;
+        if (measured.ordinal() >= current.ordinal()) {
+            // Back off right away...
+            ticksBelowTier = 0;
+            this.tier = measured;
+        } else if (delay >= threshold(current) * RECOVERY_FACTOR) {
+            // Not caught up enough; recovery has to start over
+            ticksBelowTier = 0;
+        } else if (++ticksBelowTier >= RECOVERY_TICKS) {
+            // ...but only recover one tier at a time, once the client has caught up for a while
+            ticksBelowTier = 0;
+            this.tier = Tier.VALUES[current.ordinal() - 1];
+        }
+        ticksInTier[this.tier.ordinal()].increment();
+    }
+
+    /**
+     * Call before sending a single non-essential packet.
+     *
+     * @return true if the packet should be sent
+     */
+    public boolean allow(Traffic traffic) {
+        return limit(traffic, 1) == 1;
+    }
+
+    /**
+     * Call before sending a burst of non-essential packets, such as the particles of one Java particle packet.
+     *
+     * @return how many of the packets should be sent
+     */
+    public int limit(Traffic traffic, int amount) {
+        Tier tier = this.tier;
+        int allowed;
+        if (tier.ordinal() >= traffic.dropFrom.ordinal()) {
+            allowed = 0;
+        } else if (tier.ordinal() >= traffic.thinFrom.ordinal()) {
+            allowed = Math.max(1, amount / THIN_DIVISOR);
+        } else {
+            return amount;
+        }
+        dropped[traffic.ordinal()].add(amount - allowed);
+        return allowed;
+    }
+
+    /**
+     * @return how many packets of the given kind were not sent because of upstream pressure
+     */
+    public long getDropped(Traffic traffic) {
+        return dropped[traffic.ordinal()].sum();
+    }
+
+    /**
+     * @return for how many ticks this session has been in the given tier
+     */
+    public long getTicksInTier(Tier tier) {
+        return ticksInTier[tier.ordinal()].sum();
+    }
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private double threshold(Tier tier) {
+        return tier == Tier.HIGH ? highDelayMillis : elevatedDelayMillis;
+    }
+
+    public enum Tier {
+        NONE,
+        /**
+         * Bursts of non-essential packets are thinned out, and distant entities are updated less often.
+         */
+        ELEVATED,
+        /**
+         * Non-essential packets are dropped, and only nearby entities are updated at full rate.
+         */
+        HIGH;
+
+        private static final Tier[] VALUES = values();
+    }
+
+    /**
+     * Kinds of packets that may be thinned out or dropped under pressure.
+     */
+    public enum Traffic {
+        PARTICLES(Tier.ELEVATED, Tier.HIGH),
+        WORLD_BORDER_PARTICLES(Tier.ELEVATED, Tier.ELEVATED),
+        SOUNDS(Tier.HIGH, Tier.HIGH);
+
+        private static final Traffic[] VALUES = values();
+
+        private final Tier thinFrom;
+        private final Tier dropFrom;
+
+        Traffic(Tier thinFrom, Tier dropFrom) {
+            this.thinFrom = thinFrom;
+            this.dropFrom = dropFrom;
+        }
+    }
+}
@@ -25,13 +25,16 @@
 
 package org.geysermc.geyser.session;
 
+import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.protocol.bedrock.BedrockServerSession;
 import org.cloudburstmc.protocol.bedrock.codec.BedrockCodecHelper;
 import org.cloudburstmc.protocol.bedrock.packet.BedrockPacket;
+import org.geysermc.geyser.network.CompressionStats;
 import org.geysermc.geyser.network.GeyserBedrockPeer;
 
 import java.net.InetSocketAddress;
@@ -44,6 +47,11 @@ public class UpstreamSession {
     @Getter @Setter
     private boolean initialized = false;
     private Queue<BedrockPacket> postStartGamePackets = new ArrayDeque<>();
+    /**
+     * Statistics of the compression of outgoing batches, or null until compression has been negotiated
+     */
+    @Getter @Setter
+    private @Nullable CompressionStats compressionStats;
 
     public void sendPacket(@NonNull BedrockPacket packet) {
         if (!isClosed()) {
@@ -84,6 +92,13 @@ public class UpstreamSession {
         return !session.getPeer().isConnected() && !session.getPeer().isConnecting();
     }
 
+    /**
+     * @return the channel of the Bedrock connection, or null if there is none
+     */
+    public @Nullable Channel getChannel() {
+        return session.getPeer().getChannel();
+    }
+
     public InetSocketAddress getAddress() {
         // Will always be an InetSocketAddress. See ProxyChannel#remoteAddress
         return (InetSocketAddress) ((GeyserBedrockPeer) session.getPeer()).getRealAddress();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.Getter;
+import org.cloudburstmc.protocol.bedrock.util.ChainValidationResult;
+import org.cloudburstmc.protocol.bedrock.util.EncryptionUtils;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the expensive parts of a Bedrock login (chain validation and key agreement) off the network threads.
+ * <p>
+ * Only a fixed amount of logins are processed at once, and only a bounded amount may wait for their turn;
+ * anything beyond that is rejected so a reconnect storm can't pile up unbounded work.
+ */
+public final class LoginCryptoExecutor {
+    /**
+     * How long a validated certificate chain is remembered for. Kept short as the chain itself expires.
+     */
+    private static final long CHAIN_CACHE_SECONDS = 60;
+
+    private final ThreadPoolExecutor executor;
+    /**
+     * Certificate chains that have recently passed validation. A player that reconnects presents
+     * the exact same chain, so there is no need to verify every signature of it again.
+     */
+    private final Cache<List<String>, ChainValidationResult> validatedChains = CacheBuilder.newBuilder()
+        .expireAfterWrite(CHAIN_CACHE_SECONDS, TimeUnit.SECONDS)
+        .maximumSize(1024)
+        .build();
+    @Getter
+    private final LoginMetrics metrics = new LoginMetrics();
+
+    public LoginCryptoExecutor(GeyserConfiguration config) {
+        int threads = config.getLoginCryptoThreads();
+        if (threads <= 0) {
+            threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        }
+        int queueSize = Math.max(1, config.getLoginQueueSize());
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize), new DefaultThreadFactory("Geyser Login Crypto Thread", true));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return false if too many logins are already queued, in which case the task will not run
+     */
+    public boolean submit(Runnable task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates the given certificate chain, reusing the result of a recent validation of the same chain.
+     */
+    public ChainValidationResult validateChain(List<String> chain) throws Exception {
+        ChainValidationResult result = validatedChains.getIfPresent(chain);
+        if (result != null) {
+            return result;
+        }
+
+        result = EncryptionUtils.validateChain(chain);
+        if (result.signed()) {
+            // Unsigned chains are cheap to validate anyway
+            validatedChains.put(List.copyOf(chain), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return how many logins are waiting for a thread
+     */
+    public int getQueuedLogins() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        validatedChains.invalidateAll();
+    }
+}
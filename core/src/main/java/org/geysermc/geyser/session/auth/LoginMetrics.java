@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.auth;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of how long each {@link LoginStage} takes across all logins.
+ */
+public final class LoginMetrics {
+    private final Map<LoginStage, StageCounter> stages = new EnumMap<>(LoginStage.class);
+
+    public LoginMetrics() {
+        for (LoginStage stage : LoginStage.values()) {
+            stages.put(stage, new StageCounter());
+        }
+    }
+
+    /**
+     * @param startNanos the {@link System#nanoTime()} the stage was started at
+     * @return the current {@link System#nanoTime()}, so consecutive stages can be chained
+     */
+    public long record(LoginStage stage, long startNanos) {
+        long now = System.nanoTime();
+        StageCounter counter = stages.get(stage);
+        long elapsed = now - startNanos;
+        counter.count.increment();
+        counter.totalNanos.add(elapsed);
+        counter.maxNanos.accumulate(elapsed);
+        return now;
+    }
+
+    public Map<LoginStage, StageSnapshot> snapshot() {
+        Map<LoginStage, StageSnapshot> snapshot = new EnumMap<>(LoginStage.class);
+        stages.forEach((stage, counter) -> {
+            long count = counter.count.sum();
+            double averageMillis = count == 0 ? 0 : toMillis(counter.totalNanos.sum()) / count;
+            snapshot.put(stage, new StageSnapshot(count, averageMillis, toMillis(counter.maxNanos.get())));
+        });
+        return snapshot;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public record StageSnapshot(long count, double averageMillis, double maxMillis) {
+    }
+
+    private static final class StageCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
@@ -28,12 +28,16 @@ package org.geysermc.geyser.session.cache;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import lombok.Setter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.geysermc.erosion.util.BlockPositionIterator;
 import org.geysermc.geyser.level.block.type.Block;
 import org.geysermc.geyser.level.chunk.GeyserChunk;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
 
+import java.util.Arrays;
+
 public class ChunkCache {
     private final boolean cache;
     private final Long2ObjectMap<GeyserChunk> chunks;
@@ -43,12 +47,23 @@ public class ChunkCache {
     @Setter
     private int heightY;
 
+    /**
+     * The owner of the watched block area, see {@link #watchBlocks(Object, int, int, int, int, int, int)}
+     */
+    private @Nullable Object watcher;
+    /**
+     * Inclusive bounds of the watched block area
+     */
+    private int watchMinX, watchMinY, watchMinZ, watchMaxX, watchMaxY, watchMaxZ;
+    private boolean watchedBlocksChanged;
+
     public ChunkCache(GeyserSession session) {
         this.cache = !session.getGeyser().getWorldManager().hasOwnChunkCache(); // To prevent Spigot from initializing
         chunks = cache ? new Long2ObjectOpenHashMap<>() : null;
     }
 
     public void addToCache(int x, int z, DataPalette[] chunks) {
+        chunkChanged(x, z);
         if (!cache) {
             return;
         }
@@ -67,6 +82,10 @@ public class ChunkCache {
     }
 
     public void updateBlock(int x, int y, int z, int block) {
+        if (watcher != null && x >= watchMinX && x <= watchMaxX && y >= watchMinY && y <= watchMaxY
+                && z >= watchMinZ && z <= watchMaxZ) {
+            watchedBlocksChanged = true;
+        }
         if (!cache) {
             return;
         }
@@ -121,7 +140,49 @@ public class ChunkCache {
         return Block.JAVA_AIR_ID;
     }
 
+    /**
+     * Fills {@code blocks} with the Java block state of every position in the iterator, indexed by
+     * {@link BlockPositionIterator#getIteration()}. The current chunk column is remembered between positions,
+     * so only crossing into another chunk costs a map lookup.
+     */
+    public void getBlocksAt(BlockPositionIterator iter, int[] blocks) {
+        if (!cache) {
+            Arrays.fill(blocks, 0, iter.getMaxIterations(), Block.JAVA_AIR_ID);
+            return;
+        }
+
+        int columnX = 0;
+        int columnZ = 0;
+        GeyserChunk column = null;
+        boolean hasColumn = false;
+        for (; iter.hasNext(); iter.next()) {
+            int x = iter.getX();
+            int y = iter.getY();
+            int z = iter.getZ();
+            if (!hasColumn || (x >> 4) != columnX || (z >> 4) != columnZ) {
+                columnX = x >> 4;
+                columnZ = z >> 4;
+                column = getChunk(columnX, columnZ);
+                hasColumn = true;
+            }
+
+            int block = Block.JAVA_AIR_ID;
+            if (column != null && y >= minY) {
+                int sectionIndex = (y - minY) >> 4;
+                DataPalette[] sections = column.sections();
+                if (sectionIndex < sections.length) {
+                    DataPalette section = sections[sectionIndex];
+                    if (section != null) {
+                        block = section.get(x & 0xF, y & 0xF, z & 0xF);
+                    }
+                }
+            }
+            blocks[iter.getIteration()] = block;
+        }
+    }
+
     public void removeChunk(int chunkX, int chunkZ) {
+        chunkChanged(chunkX, chunkZ);
         if (!cache) {
             return;
         }
@@ -136,6 +197,7 @@ public class ChunkCache {
      * but it is the client that must clear sections in the event of proxy switches.
      */
     public void clear() {
+        watchedBlocksChanged = true;
         if (!cache) {
             return;
         }
@@ -143,6 +205,39 @@ public class ChunkCache {
         chunks.clear();
     }
 
+    /**
+     * Starts watching the given inclusive block area for changes, for callers that keep their own copy of its blocks.
+     * Only one area is watched at a time; this replaces the area watched before, even if it had another owner.
+     *
+     * @param owner the owner of the copy of the blocks
+     */
+    public void watchBlocks(Object owner, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.watcher = owner;
+        this.watchMinX = minX;
+        this.watchMinY = minY;
+        this.watchMinZ = minZ;
+        this.watchMaxX = maxX;
+        this.watchMaxY = maxY;
+        this.watchMaxZ = maxZ;
+        this.watchedBlocksChanged = false;
+    }
+
+    /**
+     * @param owner the owner that started watching the area
+     * @return true if blocks in the area may have changed since {@link #watchBlocks(Object, int, int, int, int, int, int)}
+     *         was called by this owner, or if another area has been watched since
+     */
+    public boolean haveWatchedBlocksChanged(Object owner) {
+        return watcher != owner || watchedBlocksChanged;
+    }
+
+    private void chunkChanged(int chunkX, int chunkZ) {
+        if (watcher != null && chunkX >= watchMinX >> 4 && chunkX <= watchMaxX >> 4
+                && chunkZ >= watchMinZ >> 4 && chunkZ <= watchMaxZ >> 4) {
+            watchedBlocksChanged = true;
+        }
+    }
+
     public int getChunkMinY() {
         return minY >> 4;
     }
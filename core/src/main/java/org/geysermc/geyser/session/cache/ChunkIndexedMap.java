@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.geysermc.geyser.util.MathUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A map of block positions to values, bucketed by the chunk column each position is in.
+ * This lets chunk loads and unloads only touch the entries of that chunk, instead of
+ * iterating over every cached position.
+ *
+ * @param <V> the value type
+ */
+public final class ChunkIndexedMap<V> {
+    private final Long2ObjectMap<Object2ObjectMap<Vector3i, V>> chunks = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    public @Nullable V get(Vector3i position) {
+        Object2ObjectMap<Vector3i, V> chunk = chunks.get(chunkKey(position));
+        return chunk == null ? null : chunk.get(position);
+    }
+
+    public boolean containsKey(Vector3i position) {
+        Object2ObjectMap<Vector3i, V> chunk = chunks.get(chunkKey(position));
+        return chunk != null && chunk.containsKey(position);
+    }
+
+    public @Nullable V put(Vector3i position, V value) {
+        V previous = chunks.computeIfAbsent(chunkKey(position), $ -> new Object2ObjectOpenHashMap<>(4)).put(position, value);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    public V computeIfAbsent(Vector3i position, Function<Vector3i, V> mappingFunction) {
+        Object2ObjectMap<Vector3i, V> chunk = chunks.computeIfAbsent(chunkKey(position), $ -> new Object2ObjectOpenHashMap<>(4));
+        V value = chunk.get(position);
+        if (value == null) {
+            value = mappingFunction.apply(position);
+            chunk.put(position, value);
+            size++;
+        }
+        return value;
+    }
+
+    public @Nullable V remove(Vector3i position) {
+        long key = chunkKey(position);
+        Object2ObjectMap<Vector3i, V> chunk = chunks.get(key);
+        if (chunk == null) {
+            return null;
+        }
+        V value = chunk.remove(position);
+        if (value != null) {
+            size--;
+            if (chunk.isEmpty()) {
+                chunks.remove(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes the entry at the given position only if it is currently mapped to the given value.
+     */
+    public boolean remove(Vector3i position, V value) {
+        long key = chunkKey(position);
+        Object2ObjectMap<Vector3i, V> chunk = chunks.get(key);
+        if (chunk == null || !chunk.remove(position, value)) {
+            return false;
+        }
+        size--;
+        if (chunk.isEmpty()) {
+            chunks.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * @return a view of all values in the given chunk column. Should not be modified while this map is.
+     */
+    public Collection<V> getChunk(int chunkX, int chunkZ) {
+        Object2ObjectMap<Vector3i, V> chunk = chunks.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        return chunk == null ? Collections.emptyList() : chunk.values();
+    }
+
+    /**
+     * Removes every entry in the given chunk column.
+     *
+     * @return the removed values
+     */
+    public Collection<V> removeChunk(int chunkX, int chunkZ) {
+        Object2ObjectMap<Vector3i, V> chunk = chunks.remove(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+        if (chunk == null) {
+            return Collections.emptyList();
+        }
+        size -= chunk.size();
+        return chunk.values();
+    }
+
+    /**
+     * Runs the consumer for every value in the chunk columns within the given inclusive chunk bounds.
+     */
+    public void forEachInChunks(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, Consumer<V> consumer) {
+        long area = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (area > chunks.size()) {
+            // Fewer populated chunks than there are chunks in the area; check every populated chunk instead
+            for (Long2ObjectMap.Entry<Object2ObjectMap<Vector3i, V>> entry : chunks.long2ObjectEntrySet()) {
+                long key = entry.getLongKey();
+                int chunkX = (int) (key >> 32);
+                int chunkZ = (int) key;
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    entry.getValue().values().forEach(consumer);
+                }
+            }
+            return;
+        }
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Object2ObjectMap<Vector3i, V> chunk = chunks.get(MathUtils.chunkPositionToLong(chunkX, chunkZ));
+                if (chunk != null) {
+                    chunk.values().forEach(consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a snapshot of all values in this map
+     */
+    public List<V> values() {
+        List<V> values = new ObjectArrayList<>(size);
+        for (Object2ObjectMap<Vector3i, V> chunk : chunks.values()) {
+            values.addAll(chunk.values());
+        }
+        return values;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        chunks.clear();
+        size = 0;
+    }
+
+    private static long chunkKey(Vector3i position) {
+        return MathUtils.chunkPositionToLong(position.getX() >> 4, position.getZ() >> 4);
+    }
+}
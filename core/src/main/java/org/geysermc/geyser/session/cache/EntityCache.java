@@ -74,7 +74,9 @@ public class EntityCache {
             // empty) with the entity spawn packet (which also includes metadata). Resulting in 1 less packet sent.
             session.getWorldCache().getScoreboard().entityRegistered(entity);
 
-            entity.spawnEntity();
+            if (!session.getEntityInterestCache().deferSpawn(entity)) {
+                entity.spawnEntity();
+            }
 
             if (entity instanceof Tickable) {
                 // Start ticking it
@@ -105,6 +107,7 @@ public class EntityCache {
         if (entity.isValid()) {
             entity.despawnEntity();
         }
+        session.getEntityInterestCache().entityRemoved(entity);
         entities.remove(entityIdTranslations.remove(entity.getEntityId()));
 
         // don't track the entity anymore, now that it's removed
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import org.cloudburstmc.math.vector.Vector3f;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.entity.type.Entity;
+import org.geysermc.geyser.entity.type.ItemFrameEntity;
+import org.geysermc.geyser.entity.type.LivingEntity;
+import org.geysermc.geyser.entity.type.Tickable;
+import org.geysermc.geyser.entity.type.living.monster.EnderDragonPartEntity;
+import org.geysermc.geyser.entity.type.player.PlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure;
+
+/**
+ * Decides how often the Bedrock client hears about each entity, based on how far away it is.
+ * <p>
+ * Entities close to the player have every movement forwarded. Movement of entities further away (or close by,
+ * but behind the player) is coalesced and sent as a single absolute move every few ticks, which the client
+ * interpolates. Entities spawned outside the spawn distance are not sent to the client until the player comes near.
+ * While the client can't keep up with what we send it, see {@link UpstreamPressure}, fewer entities are updated at full rate.
+ */
+public final class EntityInterestCache {
+    /**
+     * How often, in ticks, deferred entities are checked for being in range.
+     */
+    private static final int SPAWN_CHECK_INTERVAL = 10;
+    /**
+     * The full rate distance used under upstream pressure when none is configured.
+     */
+    private static final int PRESSURE_FULL_RATE_DISTANCE = 64;
+
+    private final GeyserSession session;
+
+    private final int configuredFullRateDistance;
+    private final int configuredReducedRateInterval;
+
+    private double fullRateDistanceSquared;
+    /**
+     * Entities behind the player are only updated at full rate within this distance.
+     */
+    private double behindFullRateDistanceSquared;
+    private int reducedRateInterval;
+    private final double spawnDistanceSquared;
+
+    /**
+     * Entities that are tracked by the Java server, but not yet spawned on the client.
+     */
+    private final Long2ObjectMap<Entity> deferredSpawns = new Long2ObjectOpenHashMap<>();
+    /**
+     * Entities that have moved since their last movement was sent to the client.
+     */
+    private final Long2ObjectMap<Entity> pendingMoves = new Long2ObjectOpenHashMap<>();
+
+    private long ticks;
+    private Vector3f center = Vector3f.ZERO;
+    private float forwardX;
+    private float forwardZ;
+
+    public EntityInterestCache(GeyserSession session) {
+        this.session = session;
+
+        GeyserConfiguration config = session.getGeyser().getConfig();
+        this.configuredFullRateDistance = Math.max(0, config.getEntityFullRateDistance());
+        this.configuredReducedRateInterval = Math.max(1, config.getEntityReducedRateInterval());
+        applyRates(configuredFullRateDistance, configuredReducedRateInterval);
+        int spawnDistance = Math.max(0, config.getEntitySpawnDistance());
+        this.spawnDistanceSquared = spawnDistance == 0 ? Double.MAX_VALUE : (double) spawnDistance * spawnDistance;
+    }
+
+    /**
+     * @return true if the entity should not be spawned on the client yet. It will be spawned once the player is close enough.
+     */
+    public boolean deferSpawn(Entity entity) {
+        if (spawnDistanceSquared == Double.MAX_VALUE || !canDefer(entity)) {
+            return false;
+        }
+        if (entity.getPosition().distanceSquared(session.getPlayerEntity().getPosition()) <= spawnDistanceSquared) {
+            return false;
+        }
+        deferredSpawns.put(entity.getGeyserId(), entity);
+        return true;
+    }
+
+    /**
+     * Spawns the entity on the client right away if it was deferred; for example, because it is now a passenger.
+     */
+    public void ensureSpawned(Entity entity) {
+        if (!deferredSpawns.isEmpty() && deferredSpawns.remove(entity.getGeyserId()) != null) {
+            spawnDeferred(entity);
+        }
+    }
+
+    /**
+     * Called whenever a non-teleport movement of this entity is about to be sent.
+     *
+     * @return true if the movement should not be sent now. The entity is then marked so its latest position is sent later.
+     */
+    public boolean deferMove(Entity entity) {
+        if (!deferredSpawns.isEmpty() && deferredSpawns.containsKey(entity.getGeyserId())) {
+            // The client doesn't know about this entity yet; it'll be spawned at its latest position
+            return true;
+        }
+        if (reducedRateInterval == 1 || fullRateDistanceSquared == Double.MAX_VALUE || isFullRate(entity)) {
+            return false;
+        }
+        pendingMoves.put(entity.getGeyserId(), entity);
+        return true;
+    }
+
+    /**
+     * @return true if the entity had a coalesced movement waiting. Its next movement should then be sent in full,
+     * since the client may have missed changes on any axis.
+     */
+    public boolean consumePendingMove(Entity entity) {
+        return !pendingMoves.isEmpty() && pendingMoves.remove(entity.getGeyserId()) != null;
+    }
+
+    public void entityRemoved(Entity entity) {
+        deferredSpawns.remove(entity.getGeyserId());
+        pendingMoves.remove(entity.getGeyserId());
+    }
+
+    public void tick() {
+        ticks++;
+        applyPressure(session.getUpstreamPressure().getTier());
+
+        PlayerEntity player = session.getPlayerEntity();
+        center = player.getPosition();
+        double yaw = Math.toRadians(player.getYaw());
+        forwardX = (float) -Math.sin(yaw);
+        forwardZ = (float) Math.cos(yaw);
+
+        if (!pendingMoves.isEmpty()) {
+            ObjectIterator<Long2ObjectMap.Entry<Entity>> it = pendingMoves.long2ObjectEntrySet().iterator();
+            while (it.hasNext()) {
+                Long2ObjectMap.Entry<Entity> entry = it.next();
+                // Stagger entities across ticks, so they don't all get sent at once
+                if ((entry.getLongKey() + ticks) % reducedRateInterval == 0) {
+                    Entity entity = entry.getValue();
+                    it.remove();
+                    entity.sendCoalescedMove();
+                }
+            }
+        }
+
+        if (!deferredSpawns.isEmpty() && ticks % SPAWN_CHECK_INTERVAL == 0) {
+            ObjectIterator<Entity> it = deferredSpawns.values().iterator();
+            while (it.hasNext()) {
+                Entity entity = it.next();
+                if (entity.getPosition().distanceSquared(center) <= spawnDistanceSquared) {
+                    it.remove();
+                    spawnDeferred(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Narrows the full rate distance and stretches the reduced rate interval while the client can't keep up.
+     */
+    private void applyPressure(UpstreamPressure.Tier tier) {
+        if (tier == UpstreamPressure.Tier.NONE) {
+            applyRates(configuredFullRateDistance, configuredReducedRateInterval);
+            return;
+        }
+        int factor = tier == UpstreamPressure.Tier.HIGH ? 4 : 2;
+        int distance = configuredFullRateDistance == 0 ? PRESSURE_FULL_RATE_DISTANCE : configuredFullRateDistance;
+        applyRates(Math.max(1, distance / factor), configuredReducedRateInterval * factor);
+    }
+
+    private void applyRates(int fullRateDistance, int reducedRateInterval) {
+        this.fullRateDistanceSquared = fullRateDistance == 0 ? Double.MAX_VALUE : (double) fullRateDistance * fullRateDistance;
+        this.behindFullRateDistanceSquared = fullRateDistance == 0 ? Double.MAX_VALUE : fullRateDistanceSquared / 4;
+        this.reducedRateInterval = reducedRateInterval;
+    }
+
+    private boolean isFullRate(Entity entity) {
+        if (entity == session.getPlayerEntity() || entity.getVehicle() != null || !entity.getPassengers().isEmpty()) {
+            // Riding entities are positioned relative to each other; keep them in sync
+            return true;
+        }
+        Vector3f position = entity.getPosition();
+        float dx = position.getX() - center.getX();
+        float dy = position.getY() - center.getY();
+        float dz = position.getZ() - center.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > fullRateDistanceSquared) {
+            return false;
+        }
+        // Rough view cone: entities behind the player only get full-rate updates when they're quite close
+        return distanceSquared <= behindFullRateDistanceSquared || dx * forwardX + dz * forwardZ >= 0;
+    }
+
+    private void spawnDeferred(Entity entity) {
+        entity.spawnEntity();
+        if (entity instanceof LivingEntity living) {
+            // Equipment is only sent to spawned entities
+            living.updateArmor(session);
+            living.updateMainHand(session);
+            living.updateOffHand(session);
+        }
+    }
+
+    private static boolean canDefer(Entity entity) {
+        // Ticked entities and players may be interacted with regardless of distance; item frames are blocks on Bedrock
+        return !(entity instanceof PlayerEntity) && !(entity instanceof Tickable)
+            && !(entity instanceof ItemFrameEntity) && !(entity instanceof EnderDragonPartEntity);
+    }
+}
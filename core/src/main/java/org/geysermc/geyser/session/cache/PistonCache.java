@@ -25,11 +25,13 @@
 
 package org.geysermc.geyser.session.cache;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import org.cloudburstmc.math.vector.Vector3d;
 import org.cloudburstmc.math.vector.Vector3f;
 import org.cloudburstmc.math.vector.Vector3i;
 import org.cloudburstmc.protocol.bedrock.packet.SetEntityMotionPacket;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -40,8 +42,9 @@ import org.geysermc.geyser.level.physics.Axis;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.level.block.entity.PistonBlockEntity;
+import org.geysermc.geyser.util.MathUtils;
 
-import java.util.Map;
+import java.util.function.Function;
 
 @Getter
 public class PistonCache {
@@ -49,15 +52,28 @@ public class PistonCache {
     private final GeyserSession session;
 
     /**
-     * Maps the position of a piston to its block entity
+     * Maps the packed position of a piston to its block entity
+     *
+     * @see MathUtils#blockPositionToLong(int, int, int)
      */
-    private final Map<Vector3i, PistonBlockEntity> pistons = new Object2ObjectOpenHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Long2ObjectMap<PistonBlockEntity> pistons = new Long2ObjectOpenHashMap<>();
 
     /**
-     * Maps the position of a moving block to the piston moving it
+     * Maps the packed position of a moving block to the piston moving it
      * Positions in this map represent the starting position of the block
      */
-    private final Map<Vector3i, PistonBlockEntity> movingBlocksMap = new Object2ObjectOpenHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final Long2ObjectMap<PistonBlockEntity> movingBlocksMap = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The bounds of all positions in {@link #movingBlocksMap}, used to skip collision checks that are nowhere near
+     * a moving block. Only valid while {@link #movingBlockBoundsDirty} is false.
+     */
+    @Getter(AccessLevel.NONE)
+    private int minMovingX, minMovingY, minMovingZ, maxMovingX, maxMovingY, maxMovingZ;
+    @Getter(AccessLevel.NONE)
+    private boolean movingBlockBoundsDirty;
 
     private Vector3d playerDisplacement = Vector3d.ZERO;
 
@@ -93,18 +109,24 @@ public class PistonCache {
     public void tick() {
         resetPlayerMovement();
         if (!pistons.isEmpty()) {
-            pistons.values().forEach(PistonBlockEntity::updateMovement);
+            for (PistonBlockEntity piston : pistons.values()) {
+                piston.updateMovement();
+            }
             sendPlayerMovement();
             sendPlayerMotion();
             // Update blocks after movement, so that players don't get stuck inside blocks
-            pistons.values().forEach(PistonBlockEntity::updateBlocks);
+            for (PistonBlockEntity piston : pistons.values()) {
+                piston.updateBlocks();
+            }
 
-            pistons.entrySet().removeIf((entry) -> entry.getValue().canBeRemoved());
+            pistons.values().removeIf(PistonBlockEntity::canBeRemoved);
 
             if (pistons.isEmpty() && !movingBlocksMap.isEmpty()) {
                 session.getGeyser().getLogger().error("The moving block map has de-synced!");
-                for (Map.Entry<Vector3i, PistonBlockEntity> entry : movingBlocksMap.entrySet()) {
-                    session.getGeyser().getLogger().error("Moving Block at " + entry.getKey() + " was previously owned by the piston at " + entry.getValue().getPosition());
+                for (Long2ObjectMap.Entry<PistonBlockEntity> entry : Long2ObjectMaps.fastIterable(movingBlocksMap)) {
+                    long key = entry.getLongKey();
+                    Vector3i position = Vector3i.from(MathUtils.blockPositionX(key), MathUtils.blockPositionY(key), MathUtils.blockPositionZ(key));
+                    session.getGeyser().getLogger().error("Moving Block at " + position + " was previously owned by the piston at " + entry.getValue().getPosition());
                 }
             }
         }
@@ -178,24 +200,86 @@ public class PistonCache {
     }
 
     /**
-     * @param blockPos The block position to test
+     * Gets the piston at the given position, creating it if there is none yet.
+     */
+    public PistonBlockEntity getOrCreatePiston(Vector3i position, Function<Vector3i, PistonBlockEntity> factory) {
+        return pistons.computeIfAbsent(MathUtils.blockPositionToLong(position.getX(), position.getY(), position.getZ()),
+            $ -> factory.apply(position));
+    }
+
+    public boolean hasPistons() {
+        return !pistons.isEmpty();
+    }
+
+    public boolean hasMovingBlocks() {
+        return !movingBlocksMap.isEmpty();
+    }
+
+    public void addMovingBlock(long packedPosition, PistonBlockEntity piston) {
+        movingBlocksMap.put(packedPosition, piston);
+        movingBlockBoundsDirty = true;
+    }
+
+    public void removeMovingBlock(long packedPosition) {
+        if (movingBlocksMap.remove(packedPosition) != null) {
+            movingBlockBoundsDirty = true;
+        }
+    }
+
+    /**
+     * Checks if the given inclusive block bounds come close to any moving block. As moving blocks travel up
+     * to one block away from their starting position, the bounds of the moving blocks are expanded by one.
+     */
+    public boolean isNearMovingBlocks(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        if (movingBlocksMap.isEmpty()) {
+            return false;
+        }
+        if (movingBlockBoundsDirty) {
+            updateMovingBlockBounds();
+        }
+        return maxX >= minMovingX - 1 && minX <= maxMovingX + 1
+            && maxY >= minMovingY - 1 && minY <= maxMovingY + 1
+            && maxZ >= minMovingZ - 1 && minZ <= maxMovingZ + 1;
+    }
+
+    private void updateMovingBlockBounds() {
+        minMovingX = minMovingY = minMovingZ = Integer.MAX_VALUE;
+        maxMovingX = maxMovingY = maxMovingZ = Integer.MIN_VALUE;
+        for (long key : movingBlocksMap.keySet()) {
+            int x = MathUtils.blockPositionX(key);
+            int y = MathUtils.blockPositionY(key);
+            int z = MathUtils.blockPositionZ(key);
+            minMovingX = Math.min(minMovingX, x);
+            minMovingY = Math.min(minMovingY, y);
+            minMovingZ = Math.min(minMovingZ, z);
+            maxMovingX = Math.max(maxMovingX, x);
+            maxMovingY = Math.max(maxMovingY, y);
+            maxMovingZ = Math.max(maxMovingZ, z);
+        }
+        movingBlockBoundsDirty = false;
+    }
+
+    /**
+     * @param x The X coordinate of the block to test
+     * @param y The Y coordinate of the block to test
+     * @param z The Z coordinate of the block to test
      * @param boundingBox The bounding box that moves
      * @param axis The axis to apply the offset
      * @param offset The current maximum distance the bounding box can travel
      * @return The new maximum distance the bounding box can travel without colliding with the tested moving block
      */
-    public double computeCollisionOffset(Vector3i blockPos, BoundingBox boundingBox, Axis axis, double offset) {
-        PistonBlockEntity piston = movingBlocksMap.get(blockPos);
+    public double computeCollisionOffset(int x, int y, int z, BoundingBox boundingBox, Axis axis, double offset) {
+        PistonBlockEntity piston = movingBlocksMap.get(MathUtils.blockPositionToLong(x, y, z));
         if (piston != null) {
-            return piston.computeCollisionOffset(blockPos, boundingBox, axis, offset);
+            return piston.computeCollisionOffset(x, y, z, boundingBox, axis, offset);
         }
         return offset;
     }
 
-    public boolean checkCollision(Vector3i blockPos, BoundingBox boundingBox) {
-        PistonBlockEntity piston = movingBlocksMap.get(blockPos);
+    public boolean checkCollision(int x, int y, int z, BoundingBox boundingBox) {
+        PistonBlockEntity piston = movingBlocksMap.get(MathUtils.blockPositionToLong(x, y, z));
         if (piston != null) {
-            return piston.checkCollision(blockPos, boundingBox);
+            return piston.checkCollision(x, y, z, boundingBox);
         }
         return false;
     }
@@ -203,5 +287,6 @@ public class PistonCache {
     public void clear() {
         pistons.clear();
         movingBlocksMap.clear();
+        movingBlockBoundsDirty = false;
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.cloudburstmc.protocol.bedrock.data.entity.EntityFlag;
+import org.geysermc.geyser.entity.type.player.PlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.skin.SkinManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * When lazy player list skins are enabled, players are added to the player list with a placeholder skin.
+ * Their actual skins are only fetched once they are spawned near us and visible, a few at a time, closest first.
+ * Players that only ever appear in the player list keep the placeholder, and are never tracked here.
+ */
+public final class PlayerListSkinCache {
+    /**
+     * The most skins that will be requested per tick.
+     */
+    private static final int SKINS_PER_TICK = 4;
+
+    private final GeyserSession session;
+    private final boolean enabled;
+
+    /**
+     * Spawned players that still need their actual skin sent.
+     */
+    private final Map<UUID, PlayerEntity> pending = new LinkedHashMap<>();
+
+    private final PlayerEntity[] selected = new PlayerEntity[SKINS_PER_TICK];
+    private final double[] selectedPriorities = new double[SKINS_PER_TICK];
+
+    public PlayerListSkinCache(GeyserSession session) {
+        this.session = session;
+        this.enabled = session.getGeyser().getConfig().isLazyPlayerListSkins();
+    }
+
+    /**
+     * @return if player list entries should be sent with a placeholder skin
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Called when this player is listed with the placeholder skin. If the player is already spawned, its actual skin
+     * is sent soon; otherwise, it is sent once the player spawns.
+     */
+    public void listed(PlayerEntity entity) {
+        if (entity.isValid()) {
+            pending.put(entity.getUuid(), entity);
+        }
+    }
+
+    /**
+     * Called when this player spawns. Its actual skin is sent soon, along with other players that are close by.
+     */
+    public void spawned(PlayerEntity entity) {
+        pending.put(entity.getUuid(), entity);
+    }
+
+    /**
+     * Called when this player is removed from the player list.
+     */
+    public void remove(UUID uuid) {
+        pending.remove(uuid);
+    }
+
+    public void tick() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Vector3f position = session.getPlayerEntity().getPosition();
+        int count = 0;
+        Iterator<PlayerEntity> it = pending.values().iterator();
+        while (it.hasNext()) {
+            PlayerEntity entity = it.next();
+            if (!entity.isValid()) {
+                // Despawned before its skin was sent; queued again once it spawns
+                it.remove();
+                continue;
+            }
+
+            if (entity.getFlag(EntityFlag.INVISIBLE)) {
+                // Not something we can see yet; keep the placeholder until we can
+                continue;
+            }
+
+            double priority = entity.getPosition().distanceSquared(position);
+            if (count < SKINS_PER_TICK) {
+                insert(entity, priority, count++);
+            } else if (priority < selectedPriorities[count - 1]) {
+                insert(entity, priority, count - 1);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            PlayerEntity entity = selected[i];
+            selected[i] = null;
+            pending.remove(entity.getUuid());
+            SkinManager.requestAndHandleSkinAndCape(entity, session, null);
+        }
+    }
+
+    /**
+     * @return the number of spawned players whose skins have not been sent yet
+     */
+    int size() {
+        return pending.size();
+    }
+
+    public void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Inserts the entity into the selection, which is sorted by ascending priority, dropping whatever is at {@code last}.
+     */
+    private void insert(PlayerEntity entity, double priority, int last) {
+        int i = last;
+        while (i > 0 && selectedPriorities[i - 1] > priority) {
+            selected[i] = selected[i - 1];
+            selectedPriorities[i] = selectedPriorities[i - 1];
+            i--;
+        }
+        selected[i] = entity;
+        selectedPriorities[i] = priority;
+    }
+}
@@ -25,7 +25,6 @@
 
 package org.geysermc.geyser.session.cache;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -51,10 +50,11 @@ public class SkullCache {
     private final int maxVisibleSkulls;
     private final boolean cullingEnabled;
 
+    private final int skullRenderDistance;
     private final int skullRenderDistanceSquared;
 
     @Getter
-    private final Map<Vector3i, Skull> skulls = new Object2ObjectOpenHashMap<>();
+    private final ChunkIndexedMap<Skull> skulls = new ChunkIndexedMap<>();
 
     private final List<Skull> inRangeSkulls = new ArrayList<>();
 
@@ -70,8 +70,8 @@ public class SkullCache {
         this.cullingEnabled = this.maxVisibleSkulls != -1;
 
         // Normal skulls are not rendered beyond 64 blocks
-        int distance = Math.min(session.getGeyser().getConfig().getCustomSkullRenderDistance(), 64);
-        this.skullRenderDistanceSquared = distance * distance;
+        this.skullRenderDistance = Math.min(session.getGeyser().getConfig().getCustomSkullRenderDistance(), 64);
+        this.skullRenderDistanceSquared = skullRenderDistance * skullRenderDistance;
     }
 
     public Skull putSkull(Vector3i position, UUID uuid, String texturesProperty, BlockState blockState) {
@@ -141,6 +141,15 @@ public class SkullCache {
         }
     }
 
+    /**
+     * Removes all skulls in the given chunk column.
+     */
+    public void removeChunk(int chunkX, int chunkZ) {
+        for (Skull skull : skulls.removeChunk(chunkX, chunkZ)) {
+            reassignSkullEntity(skull);
+        }
+    }
+
     public Skull updateSkull(Vector3i position, BlockState blockState) {
         Skull skull = skulls.get(position);
         if (skull != null) {
@@ -156,20 +165,33 @@ public class SkullCache {
                 return;
             }
             lastPlayerPosition = session.getPlayerEntity().getPosition();
+            Vector3f position = lastPlayerPosition;
 
+            // Only skulls that were previously in range can have an entity that now needs to be freed
+            for (Skull skull : inRangeSkulls) {
+                if (skull.position.distanceSquared(position.getX(), position.getY(), position.getZ()) > skullRenderDistanceSquared) {
+                    freeSkullEntity(skull);
+                }
+            }
+
+            // Only check the chunks that can contain skulls in render distance
             inRangeSkulls.clear();
-            for (Skull skull : skulls.values()) {
+            int minChunkX = (position.getFloorX() - skullRenderDistance) >> 4;
+            int minChunkZ = (position.getFloorZ() - skullRenderDistance) >> 4;
+            int maxChunkX = (position.getFloorX() + skullRenderDistance) >> 4;
+            int maxChunkZ = (position.getFloorZ() + skullRenderDistance) >> 4;
+            skulls.forEachInChunks(minChunkX, minChunkZ, maxChunkX, maxChunkZ, skull -> {
                 if (skull.blockDefinition != null) {
-                    continue;
+                    return;
                 }
 
-                skull.distanceSquared = skull.position.distanceSquared(lastPlayerPosition.getX(), lastPlayerPosition.getY(), lastPlayerPosition.getZ());
+                skull.distanceSquared = skull.position.distanceSquared(position.getX(), position.getY(), position.getZ());
                 if (skull.distanceSquared > skullRenderDistanceSquared) {
                     freeSkullEntity(skull);
                 } else {
                     inRangeSkulls.add(skull);
                 }
-            }
+            });
             inRangeSkulls.sort(Comparator.comparingInt(Skull::getDistanceSquared));
 
             for (int i = inRangeSkulls.size() - 1; i >= 0; i--) {
@@ -40,6 +40,7 @@ import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.level.physics.Axis;
 import org.geysermc.geyser.level.physics.BoundingBox;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure.Traffic;
 
 import static org.geysermc.geyser.level.physics.CollisionManager.COLLISION_TOLERANCE;
 
@@ -305,6 +306,9 @@ public class WorldBorder {
             return;
         }
         currentWallTick = 0;
+        if (!session.getUpstreamPressure().allow(Traffic.WORLD_BORDER_PARTICLES)) {
+            return;
+        }
         Vector3f entityPosition = session.getPlayerEntity().getPosition();
         float particlePosX = entityPosition.getX();
         float particlePosY = entityPosition.getY();
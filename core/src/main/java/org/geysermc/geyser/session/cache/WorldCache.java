@@ -182,6 +182,18 @@ public final class WorldCache {
         ChunkUtils.updateBlock(session, blockState, position);
     }
 
+    /**
+     * Same as {@link #updateServerCorrectBlockState(Vector3i, int)}, but the caller is responsible for sending
+     * the block to the client.
+     */
+    public void cacheServerCorrectBlockState(Vector3i position, int blockState) {
+        if (!this.unverifiedPredictions.isEmpty()) {
+            this.unverifiedPredictions.removeInt(position);
+        }
+
+        session.getChunkCache().updateBlock(position.getX(), position.getY(), position.getZ(), blockState);
+    }
+
     public void endPredictionsUpTo(int sequence) {
         if (this.unverifiedPredictions.isEmpty()) {
             return;
@@ -64,6 +64,14 @@ public final class ProvidedSkins {
         return PROVIDED_SKINS[Math.floorMod(uuid.hashCode(), PROVIDED_SKINS.length)];
     }
 
+    /**
+     * @return the skin used for every player list entry until the actual skin is sent. The same skin is used for
+     *         everyone so large player lists compress well.
+     */
+    public static ProvidedSkin getPlaceholderSkin() {
+        return PROVIDED_SKINS[15]; // Wide Steve
+    }
+
     private ProvidedSkins() {
     }
 
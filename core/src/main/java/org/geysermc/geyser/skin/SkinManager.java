@@ -26,6 +26,8 @@
 package org.geysermc.geyser.skin;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.cloudburstmc.nbt.NbtMap;
 import org.cloudburstmc.nbt.NbtType;
@@ -42,6 +44,7 @@ import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.entity.type.player.SkullPlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.auth.BedrockClientData;
+import org.geysermc.geyser.session.cache.PlayerListSkinCache;
 import org.geysermc.geyser.text.GeyserLocale;
 
 import java.awt.*;
@@ -50,10 +53,38 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class SkinManager {
 
+    /**
+     * Serialized skins are the same for every session, so player list entries and skin packets can share them
+     * instead of every session holding its own copy. Bounded by the size of the skin and cape images they hold.
+     */
+    private static final Cache<SerializedSkinKey, SerializedSkin> SERIALIZED_SKINS = CacheBuilder.newBuilder()
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .maximumWeight(64 * 1024 * 1024)
+            .weigher((SerializedSkinKey key, SerializedSkin skin) -> key.weight())
+            .build();
+
+    /**
+     * Builds a Bedrock player list entry with a placeholder skin. The actual skin is sent later by the
+     * {@link PlayerListSkinCache}.
+     */
+    public static PlayerListPacket.Entry buildPlaceholderEntry(GeyserSession session, PlayerEntity playerEntity) {
+        ProvidedSkins.ProvidedSkin placeholder = ProvidedSkins.getPlaceholderSkin();
+        return buildEntryManually(
+                session,
+                playerEntity.getUuid(),
+                playerEntity.getUsername(),
+                playerEntity.getGeyserId(),
+                placeholder.getData(),
+                SkinProvider.EMPTY_CAPE,
+                placeholder.isSlim() ? SkinGeometry.SLIM : SkinGeometry.WIDE
+        );
+    }
+
     /**
      * Builds a Bedrock player list entry from our existing, cached Bedrock skin information
      */
@@ -166,17 +197,34 @@ public class SkinManager {
     }
 
     private static SerializedSkin getSkin(GeyserSession session, String skinId, Skin skin, Cape cape, SkinGeometry geometry) {
-        return SerializedSkin.builder()
-            .skinId(skinId)
-            .skinResourcePatch(geometry.geometryName())
-            .skinData(ImageData.of(skin.skinData()))
-            .capeData(ImageData.of(cape.capeData()))
-            .geometryData(geometry.geometryData())
-            .premium(true)
-            .capeId(cape.capeId())
-            .fullSkinId(skinId)
-            .geometryDataEngineVersion(session.getClientData().getGameVersion())
-            .build();
+        String engineVersion = session.getClientData().getGameVersion();
+        SerializedSkinKey key = new SerializedSkinKey(skinId, skin, cape, geometry, engineVersion);
+        SerializedSkin serializedSkin = SERIALIZED_SKINS.getIfPresent(key);
+        if (serializedSkin == null) {
+            serializedSkin = SerializedSkin.builder()
+                .skinId(skinId)
+                .skinResourcePatch(geometry.geometryName())
+                .skinData(ImageData.of(skin.skinData()))
+                .capeData(ImageData.of(cape.capeData()))
+                .geometryData(geometry.geometryData())
+                .premium(true)
+                .capeId(cape.capeId())
+                .fullSkinId(skinId)
+                .geometryDataEngineVersion(engineVersion)
+                .build();
+            SERIALIZED_SKINS.put(key, serializedSkin);
+        }
+        return serializedSkin;
+    }
+
+    /**
+     * {@link Skin} and {@link Cape} compare their texture data by reference, so this only matches
+     * the exact same cached textures.
+     */
+    private record SerializedSkinKey(String skinId, Skin skin, Cape cape, SkinGeometry geometry, String engineVersion) {
+        int weight() {
+            return skin.skinData().length + cape.capeData().length + geometry.geometryData().length();
+        }
     }
 
     public static void requestAndHandleSkinAndCape(PlayerEntity entity, GeyserSession session,
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.text;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.HashCommon;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+
+/**
+ * An immutable, compact table of translation strings for a single locale.
+ * <p>
+ * Keys are shared between every loaded locale, and all values are stored back to back in one
+ * char buffer. Lookups go through an open-addressed index, so no per-entry objects are kept alive
+ * for translations that are never used. Values are turned into strings on first use and kept from then on,
+ * so frequently used translations don't allocate on every lookup.
+ */
+public final class LocaleTable {
+    /**
+     * Translation keys are nearly identical across locales, so only keep one copy of each around.
+     */
+    private static final Interner<String> KEYS = Interners.newWeakInterner();
+
+    private final String[] keys;
+    /**
+     * Start of each value in {@link #values}; the entry after the last value holds the total length.
+     */
+    private final int[] offsets;
+    private final char[] values;
+    /**
+     * Values that have been looked up before. Racing lookups may both decode a value, which is harmless.
+     */
+    private final String[] decoded;
+    /**
+     * Open-addressed index into {@link #keys}, offset by one so that zero means an empty slot.
+     */
+    private final int[] slots;
+    private final int mask;
+
+    private LocaleTable(String[] keys, int[] offsets, char[] values, int[] slots) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.values = values;
+        this.decoded = new String[keys.length];
+        this.slots = slots;
+        this.mask = slots.length - 1;
+    }
+
+    public static LocaleTable of(Map<String, String> translations) {
+        int size = translations.size();
+        String[] keys = new String[size];
+        int[] offsets = new int[size + 1];
+
+        int length = 0;
+        for (String value : translations.values()) {
+            length += value.length();
+        }
+        char[] values = new char[length];
+
+        // Keep the load factor at or below 0.5 so probe sequences stay short
+        int[] slots = new int[HashCommon.arraySize(size, 0.5f)];
+        int mask = slots.length - 1;
+
+        int index = 0;
+        int offset = 0;
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            String key = KEYS.intern(entry.getKey());
+            String value = entry.getValue();
+
+            keys[index] = key;
+            offsets[index] = offset;
+            value.getChars(0, value.length(), values, offset);
+            offset += value.length();
+
+            int slot = HashCommon.mix(key.hashCode()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+            index++;
+        }
+        offsets[size] = offset;
+
+        return new LocaleTable(keys, offsets, values, slots);
+    }
+
+    /**
+     * @return the translation for the given key, or null if this locale does not have it
+     */
+    public @Nullable String get(String key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        String value = decoded[index];
+        if (value == null) {
+            int start = offsets[index];
+            value = new String(values, start, offsets[index + 1] - start);
+            decoded[index] = value;
+        }
+        return value;
+    }
+
+    public String getOrDefault(String key, String defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    private int indexOf(String key) {
+        int slot = HashCommon.mix(key.hashCode()) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
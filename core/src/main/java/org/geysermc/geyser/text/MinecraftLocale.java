@@ -26,6 +26,7 @@
 package org.geysermc.geyser.text;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.util.AssetUtils;
@@ -42,10 +43,25 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class MinecraftLocale {
 
-    public static final Map<String, Map<String, String>> LOCALE_MAPPINGS = new HashMap<>();
+    /**
+     * Loaded locales, keyed by their lowercase Bedrock locale code. Tables are immutable and only ever replaced as a whole.
+     */
+    private static final Map<String, LocaleTable> LOCALE_MAPPINGS = new ConcurrentHashMap<>();
+    /**
+     * Locales that are loading or have been loaded, so each is only downloaded once.
+     */
+    private static final Map<String, CompletableFuture<Void>> LOADING = new ConcurrentHashMap<>();
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Geyser Locale Loader")
+            .setDaemon(true)
+            .build());
 
     // Check instance availability to avoid exception during testing
     private static final boolean IN_INSTANCE = GeyserImpl.getInstance() != null;
@@ -76,13 +92,27 @@ public class MinecraftLocale {
     }
 
     /**
-     * Downloads a locale from Mojang if it's not already loaded
+     * Downloads and loads a locale off-thread if it isn't already loaded or loading.
+     * Until it is loaded, translations into this locale fall back to the default locale.
      *
      * @param locale Locale to download and load
+     * @return a future that completes once the locale has been loaded, or failed to load
      */
-    public static void downloadAndLoadLocale(String locale) {
-        locale = locale.toLowerCase(Locale.ROOT);
+    public static CompletableFuture<Void> downloadAndLoadLocale(String locale) {
+        String lowercaseLocale = locale.toLowerCase(Locale.ROOT);
+        CompletableFuture<Void> future = LOADING.computeIfAbsent(lowercaseLocale, MinecraftLocale::loadAsync);
+        if (future.isDone() && !isLocaleLoaded(lowercaseLocale)) {
+            // Loading failed previously; try again
+            future = LOADING.compute(lowercaseLocale, (key, current) -> current == null || current.isDone() ? loadAsync(key) : current);
+        }
+        return future;
+    }
 
+    private static CompletableFuture<Void> loadAsync(String locale) {
+        return CompletableFuture.runAsync(() -> downloadAndLoadLocale0(locale), LOADER);
+    }
+
+    private static void downloadAndLoadLocale0(String locale) {
         if (isLocaleLoaded(locale)) {
             GeyserImpl.getInstance().getLogger().debug("Locale already loaded: " + locale);
             return;
@@ -165,7 +195,7 @@ public class MinecraftLocale {
             lowercaseLocale = "nb_no";
         }
 
-        Map<String, String> langMap = new HashMap<>();
+        Map<String, String> langMap = new HashMap<>(8192);
         if (Files.exists(localeFile) && Files.isReadable(localeFile)) {
             langMap.putAll(parseLangFile(localeFile, lowercaseLocale));
         }
@@ -176,7 +206,7 @@ public class MinecraftLocale {
         }
 
         if (!langMap.isEmpty()) {
-            LOCALE_MAPPINGS.put(lowercaseLocale, langMap);
+            LOCALE_MAPPINGS.put(lowercaseLocale, LocaleTable.of(langMap));
             return true;
         } else {
             return false;
@@ -219,7 +249,7 @@ public class MinecraftLocale {
      * @return Translated string or the original message if it was not found in the given locale
      */
     public static String getLocaleString(String messageText, String locale) {
-        Map<String, String> localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
+        LocaleTable localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
         if (localeStrings == null) {
             localeStrings = LOCALE_MAPPINGS.get(GeyserLocale.getDefaultLocale());
             if (localeStrings == null) {
@@ -240,7 +270,7 @@ public class MinecraftLocale {
      * @return Translated string or null if it was not found in the given locale
      */
     public static @Nullable String getLocaleStringIfPresent(String messageText, String locale) {
-        Map<String, String> localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
+        LocaleTable localeStrings = LOCALE_MAPPINGS.get(locale.toLowerCase(Locale.ROOT));
         if (localeStrings != null) {
             return localeStrings.get(messageText);
         }
@@ -258,6 +288,24 @@ public class MinecraftLocale {
         return LOCALE_MAPPINGS.containsKey(locale.toLowerCase(Locale.ROOT));
     }
 
+    /**
+     * Unloads a locale that is no longer used by any session, unless it is the default locale.
+     * Unloaded locales are loaded again the next time a session using them connects.
+     *
+     * @param locale Locale to unload
+     */
+    public static void unloadLocale(String locale) {
+        String lowercaseLocale = locale.toLowerCase(Locale.ROOT);
+        if (lowercaseLocale.equals(GeyserLocale.getDefaultLocale().toLowerCase(Locale.ROOT))) {
+            return;
+        }
+
+        LOADING.remove(lowercaseLocale);
+        if (LOCALE_MAPPINGS.remove(lowercaseLocale) != null) {
+            GeyserImpl.getInstance().getLogger().debug("Unloaded unused locale: " + lowercaseLocale);
+        }
+    }
+
     /**
      * Convert a byte array into a hex string
      *
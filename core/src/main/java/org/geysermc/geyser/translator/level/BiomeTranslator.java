@@ -25,24 +25,27 @@
 
 package org.geysermc.geyser.translator.level;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.protocol.common.util.VarInts;
 import org.geysermc.geyser.session.cache.registry.JavaRegistries;
 import org.geysermc.geyser.session.cache.registry.JavaRegistry;
 import org.geysermc.geyser.session.cache.registry.RegistryEntryContext;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
-import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.GlobalPalette;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.Palette;
 import org.geysermc.mcprotocollib.protocol.data.game.chunk.palette.SingletonPalette;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
-import it.unimi.dsi.fastutil.ints.IntLists;
 import org.geysermc.geyser.level.chunk.BlockStorage;
-import org.geysermc.geyser.level.chunk.bitarray.BitArray;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
-import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.session.GeyserSession;
 
+import java.util.Arrays;
+
 // Array index formula by https://wiki.vg/Chunk_Format
 public class BiomeTranslator {
 
@@ -51,7 +54,18 @@ public class BiomeTranslator {
         return Registries.BIOME_IDENTIFIERS.get().getOrDefault(javaIdentifier, 0);
     }
 
-    public static BlockStorage toNewBedrockBiome(GeyserSession session, DataPalette biomeData) {
+    /**
+     * Encoded Bedrock biome sections, shared between all sessions. Most sections in a world consist of
+     * one or a few biomes in the same handful of layouts, so this saves re-encoding the same 4096 entries.
+     */
+    private static final Cache<BiomeSectionKey, byte[]> ENCODED_SECTIONS = CacheBuilder.newBuilder()
+            .maximumSize(2048)
+            .build();
+
+    /**
+     * Writes the Bedrock network representation of a Java biome section.
+     */
+    public static void writeBedrockBiome(GeyserSession session, DataPalette biomeData, ByteBuf buffer) {
         JavaRegistry<Integer> biomeTranslations = session.getRegistryCache().registry(JavaRegistries.BIOME);
         // As of 1.17.10: the client expects the same format as a chunk but filled with biomes
         // As of 1.18 this is the same as Java Edition
@@ -59,65 +73,100 @@ public class BiomeTranslator {
         Palette palette = biomeData.getPalette();
         if (palette instanceof SingletonPalette) {
             int biomeId = biomeTranslations.byId(palette.idToState(0));
-            return new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(biomeId));
-        } else {
-            BlockStorage storage;
-            if (!(palette instanceof GlobalPalette)) {
-                // Prevent resizing by allocating what we can ahead of time
-                BitStorage bitStorage = biomeData.getStorage();
-                int size = palette.size();
-                BitArray bitArray = BitArrayVersion.forBitsCeil(bitStorage.getBitsPerEntry())
-                        .createArray(BlockStorage.SIZE);
-
-                IntList bedrockPalette = new IntArrayList(size);
-
-                for (int i = 0; i < size; i++) {
-                    int javaId = palette.idToState(i);
-                    bedrockPalette.add(biomeTranslations.byId(javaId).intValue());
-                }
+            buffer.writeByte(getPaletteHeader(BitArrayVersion.V0));
+            VarInts.writeInt(buffer, biomeId);
+            return;
+        }
 
-                // Each section of biome corresponding to a chunk section contains 4 * 4 * 4 entries
-                for (int i = 0; i < 64; i++) {
-                    int idx = bitStorage.get(i);
-                    int x = i & 3;
-                    int y = (i >> 4) & 3;
-                    int z = (i >> 2) & 3;
-                    // Convert biome coordinates into block coordinates
-                    // Bedrock expects a full 4096 blocks
-                    multiplyIdToStorage(bitArray, idx, x, y, z);
-                }
+        // Translate into a Bedrock palette first - different Java registries can result in the same Bedrock section,
+        // and Java biomes that map to the same Bedrock biome are merged
+        BitStorage bitStorage = biomeData.getStorage();
+        IntList bedrockPalette = new IntArrayList(Math.min(palette.size(), 8));
+        byte[] indices = new byte[64];
+        // Each section of biome corresponding to a chunk section contains 4 * 4 * 4 entries
+        for (int i = 0; i < 64; i++) {
+            int biomeId = biomeTranslations.byId(palette.idToState(bitStorage.get(i)));
+            int idx = bedrockPalette.indexOf(biomeId);
+            if (idx == -1) {
+                idx = bedrockPalette.size();
+                bedrockPalette.add(biomeId);
+            }
+            indices[i] = (byte) idx;
+        }
+
+        if (bedrockPalette.size() == 1) {
+            buffer.writeByte(getPaletteHeader(BitArrayVersion.V0));
+            VarInts.writeInt(buffer, bedrockPalette.getInt(0));
+            return;
+        }
+
+        BiomeSectionKey key = new BiomeSectionKey(bedrockPalette.toIntArray(), indices);
+        byte[] encoded = ENCODED_SECTIONS.getIfPresent(key);
+        if (encoded == null) {
+            encoded = encode(key);
+            ENCODED_SECTIONS.put(key, encoded);
+        }
+        buffer.writeBytes(encoded);
+    }
 
-                storage = new BlockStorage(bitArray, bedrockPalette);
-            } else {
-                storage = new BlockStorage(0);
-
-                // Each section of biome corresponding to a chunk section contains 4 * 4 * 4 entries
-                for (int i = 0; i < 64; i++) {
-                    int javaId = palette.idToState(biomeData.getStorage().get(i));
-                    int x = i & 3;
-                    int y = (i >> 4) & 3;
-                    int z = (i >> 2) & 3;
-                    // Get the Bedrock biome ID override
-                    int biomeId = biomeTranslations.byId(javaId);
-                    int idx = storage.idFor(biomeId);
-                    // Convert biome coordinates into block coordinates
-                    // Bedrock expects a full 4096 blocks
-                    // Implementation note: storage.getBitArray() must be called and not stored - if the palette
-                    // grows, then the instance can change
-                    multiplyIdToStorage(storage.getBitArray(), idx, x, y, z);
+    /**
+     * Writes a biome section straight into network bytes, without filling in a 4096 entry {@link BlockStorage} first.
+     */
+    private static byte[] encode(BiomeSectionKey section) {
+        int[] palette = section.palette();
+        byte[] indices = section.indices();
+
+        BitArrayVersion version = BitArrayVersion.forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(palette.length - 1));
+        int bits = version.getId();
+        int entriesPerWord = version.getEntriesPerWord();
+        int wordCount = (BlockStorage.SIZE + entriesPerWord - 1) / entriesPerWord;
+
+        ByteBuf buffer = Unpooled.buffer(1 + wordCount * 4 + 5 + palette.length * 5);
+        try {
+            buffer.writeByte(getPaletteHeader(version));
+
+            int index = 0;
+            for (int i = 0; i < wordCount; i++) {
+                int word = 0;
+                for (int j = 0; j < entriesPerWord && index < BlockStorage.SIZE; j++, index++) {
+                    // Bedrock's XZY block index -> Java's YZX biome index
+                    int x = index >> 10;
+                    int z = (index >> 6) & 3;
+                    int y = (index >> 2) & 3;
+                    word |= indices[(y << 4) | (z << 2) | x] << (j * bits);
                 }
+                buffer.writeIntLE(word);
             }
-            return storage;
+
+            VarInts.writeInt(buffer, palette.length);
+            for (int biomeId : palette) {
+                VarInts.writeInt(buffer, biomeId);
+            }
+
+            byte[] encoded = new byte[buffer.readableBytes()];
+            buffer.readBytes(encoded);
+            return encoded;
+        } finally {
+            buffer.release();
         }
     }
 
-    private static void multiplyIdToStorage(final BitArray bitArray, final int idx, final int x, final int y, final int z) {
-        for (int blockX = x << 2; blockX < (x << 2) + 4; blockX++) {
-            for (int blockZ = z << 2; blockZ < (z << 2) + 4; blockZ++) {
-                for (int blockY = y << 2; blockY < (y << 2) + 4; blockY++) {
-                    bitArray.set((blockX << 8) | (blockZ << 4) | blockY, idx);
-                }
+    private static int getPaletteHeader(BitArrayVersion version) {
+        return (version.getId() << 1) | 1;
+    }
+
+    private record BiomeSectionKey(int[] palette, byte[] indices) {
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
+            return o instanceof BiomeSectionKey that && Arrays.equals(palette, that.palette) && Arrays.equals(indices, that.indices);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(palette) + Arrays.hashCode(indices);
         }
     }
 }
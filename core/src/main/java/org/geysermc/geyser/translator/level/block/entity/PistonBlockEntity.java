@@ -26,10 +26,10 @@
 package org.geysermc.geyser.translator.level.block.entity;
 
 import it.unimi.dsi.fastutil.ints.IntArrays;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import lombok.Getter;
 import org.cloudburstmc.math.vector.Vector3d;
 import org.cloudburstmc.math.vector.Vector3f;
@@ -55,12 +55,10 @@ import org.geysermc.geyser.translator.collision.BlockCollision;
 import org.geysermc.geyser.util.BlockEntityUtils;
 import org.geysermc.geyser.util.BlockUtils;
 import org.geysermc.geyser.util.ChunkUtils;
+import org.geysermc.geyser.util.MathUtils;
 import org.geysermc.mcprotocollib.protocol.data.game.level.block.value.PistonValueType;
 
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 
 public class PistonBlockEntity {
     private final GeyserSession session;
@@ -73,9 +71,11 @@ public class PistonBlockEntity {
     private PistonValueType action;
 
     /**
-     * A map of attached block positions to Java ids.
+     * A map of packed attached block positions to Java ids.
+     *
+     * @see MathUtils#blockPositionToLong(int, int, int)
      */
-    private final Object2ObjectMap<Vector3i, BlockState> attachedBlocks = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<BlockState> attachedBlocks = new Long2ObjectOpenHashMap<>();
     /**
      * A flattened array of the positions of attached blocks, stored in XYZ order.
      */
@@ -174,7 +174,9 @@ public class PistonBlockEntity {
         if (action == PistonValueType.PUSHING || (action == PistonValueType.PULLING && sticky)) {
             // Blocks only move when pushing or pulling with sticky pistons
             if (attachedBlocks.size() <= 12) {
-                this.attachedBlocks.putAll(attachedBlocks);
+                for (Map.Entry<Vector3i, BlockState> entry : attachedBlocks.entrySet()) {
+                    this.attachedBlocks.put(toLong(entry.getKey()), entry.getValue());
+                }
                 flattenPositions();
             }
             removeBlocks();
@@ -240,33 +242,44 @@ public class PistonBlockEntity {
      * Find the blocks that will be pushed or pulled by the piston
      */
     private void findAffectedBlocks() {
-        Set<Vector3i> blocksChecked = new ObjectOpenHashSet<>();
-        Queue<Vector3i> blocksToCheck = new LinkedList<>();
+        // Both are tiny (at most a few dozen positions), so plain arrays beat hashing here
+        LongArrayList blocksChecked = new LongArrayList();
+        LongArrayList blocksToCheck = new LongArrayList();
 
         Vector3i directionOffset = orientation.getUnitVector();
         Vector3i movement = getMovement();
-        blocksChecked.add(position); // Don't check the piston itself
+        int moveX = movement.getX();
+        int moveY = movement.getY();
+        int moveZ = movement.getZ();
+        long pistonKey = toLong(position);
+        long pistonHeadKey = toLong(position.add(directionOffset));
+        blocksChecked.add(pistonKey); // Don't check the piston itself
         if (action == PistonValueType.PULLING) {
-            blocksChecked.add(getPistonHeadPos()); // Don't check the piston head
-            blocksToCheck.add(position.add(directionOffset.mul(2)));
+            blocksChecked.add(pistonHeadKey); // Don't check the piston head
+            blocksToCheck.add(toLong(position.add(directionOffset.mul(2))));
         } else if (action == PistonValueType.PUSHING) {
             removePistonHead(); // Remove lingering piston heads
-            blocksToCheck.add(position.add(directionOffset));
+            blocksToCheck.add(pistonHeadKey);
         }
 
         boolean moveBlocks = true;
-        while (!blocksToCheck.isEmpty() && attachedBlocks.size() <= 12) {
-            Vector3i blockPos = blocksToCheck.remove();
+        int head = 0;
+        while (head < blocksToCheck.size() && attachedBlocks.size() <= 12) {
+            long blockKey = blocksToCheck.getLong(head++);
             // Skip blocks we've already checked
-            if (!blocksChecked.add(blockPos)) {
+            if (blocksChecked.contains(blockKey)) {
                 continue;
             }
-            BlockState state = session.getGeyser().getWorldManager().blockAt(session, blockPos);
+            blocksChecked.add(blockKey);
+            int x = MathUtils.blockPositionX(blockKey);
+            int y = MathUtils.blockPositionY(blockKey);
+            int z = MathUtils.blockPositionZ(blockKey);
+            BlockState state = session.getGeyser().getWorldManager().blockAt(session, x, y, z);
             if (state.block() == Blocks.AIR) {
                 continue;
             }
             if (BlockStateValues.canPistonMoveBlock(state, action == PistonValueType.PUSHING)) {
-                attachedBlocks.put(blockPos, state);
+                attachedBlocks.put(blockKey, state);
                 if (BlockStateValues.isBlockSticky(state)) {
                     // For honey blocks and slime blocks check the blocks adjacent to it
                     for (Direction direction : Direction.VALUES) {
@@ -275,30 +288,35 @@ public class PistonBlockEntity {
                         if (offset.equals(movement)) {
                             continue;
                         }
-                        Vector3i adjacentPos = blockPos.add(offset);
+                        int adjacentX = x + offset.getX();
+                        int adjacentY = y + offset.getY();
+                        int adjacentZ = z + offset.getZ();
+                        long adjacentKey = MathUtils.blockPositionToLong(adjacentX, adjacentY, adjacentZ);
                         // Ignore the piston block itself
-                        if (adjacentPos.equals(position)) {
+                        if (adjacentKey == pistonKey) {
                             continue;
                         }
                         // Ignore the piston head
-                        if (action == PistonValueType.PULLING && position.add(directionOffset).equals(adjacentPos)) {
+                        if (action == PistonValueType.PULLING && adjacentKey == pistonHeadKey) {
                             continue;
                         }
-                        BlockState adjacentBlockState = session.getGeyser().getWorldManager().blockAt(session, adjacentPos);
+                        BlockState adjacentBlockState = session.getGeyser().getWorldManager().blockAt(session, adjacentX, adjacentY, adjacentZ);
                         if (adjacentBlockState.block() != Blocks.AIR && BlockStateValues.isBlockAttached(state, adjacentBlockState) && BlockStateValues.canPistonMoveBlock(adjacentBlockState, false)) {
                             // If it is another slime/honey block we need to check its adjacent blocks
                             if (BlockStateValues.isBlockSticky(adjacentBlockState)) {
-                                blocksToCheck.add(adjacentPos);
+                                blocksToCheck.add(adjacentKey);
                             } else {
-                                attachedBlocks.put(adjacentPos, adjacentBlockState);
-                                blocksChecked.add(adjacentPos);
-                                blocksToCheck.add(adjacentPos.add(movement));
+                                attachedBlocks.put(adjacentKey, adjacentBlockState);
+                                if (!blocksChecked.contains(adjacentKey)) {
+                                    blocksChecked.add(adjacentKey);
+                                }
+                                blocksToCheck.add(MathUtils.blockPositionToLong(adjacentX + moveX, adjacentY + moveY, adjacentZ + moveZ));
                             }
                         }
                     }
                 }
                 // Check next block in line
-                blocksToCheck.add(blockPos.add(movement));
+                blocksToCheck.add(MathUtils.blockPositionToLong(x + moveX, y + moveY, z + moveZ));
             } else if (!BlockStateValues.canPistonDestroyBlock(state)) {
                 // Block can't be moved or destroyed, so it blocks all block movement
                 moveBlocks = false;
@@ -328,8 +346,8 @@ public class PistonBlockEntity {
      * Replace all attached blocks with air
      */
     private void removeBlocks() {
-        for (Vector3i blockPos : attachedBlocks.keySet()) {
-            ChunkUtils.updateBlock(session, Block.JAVA_AIR_ID, blockPos);
+        for (long blockKey : attachedBlocks.keySet()) {
+            ChunkUtils.updateBlock(session, Block.JAVA_AIR_ID, fromLong(blockKey));
         }
         if (action != PistonValueType.PUSHING) {
             removePistonHead();
@@ -376,18 +394,20 @@ public class PistonBlockEntity {
 
         // Resolve collision with any attached moving blocks, but skip slime blocks
         // This prevents players from being launched by slime blocks covered by other blocks
-        for (Map.Entry<Vector3i, BlockState> entry : Object2ObjectMaps.fastIterable(attachedBlocks)) {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
             BlockState state = entry.getValue();
             if (!state.is(Blocks.SLIME_BLOCK)) {
-                Vector3d blockPos = entry.getKey().toDouble();
+                long blockKey = entry.getLongKey();
+                Vector3d blockPos = Vector3d.from(MathUtils.blockPositionX(blockKey), MathUtils.blockPositionY(blockKey), MathUtils.blockPositionZ(blockKey));
                 pushPlayerBlock(state, blockPos, blockMovement, playerBoundingBox, onGround);
             }
         }
         // Resolve collision with slime blocks
-        for (Map.Entry<Vector3i, BlockState> entry : Object2ObjectMaps.fastIterable(attachedBlocks)) {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
             BlockState state = entry.getValue();
             if (state.is(Blocks.SLIME_BLOCK)) {
-                Vector3d blockPos = entry.getKey().toDouble();
+                long blockKey = entry.getLongKey();
+                Vector3d blockPos = Vector3d.from(MathUtils.blockPositionX(blockKey), MathUtils.blockPositionY(blockKey), MathUtils.blockPositionZ(blockKey));
                 pushPlayerBlock(state, blockPos, blockMovement, playerBoundingBox, onGround);
             }
         }
@@ -531,32 +551,31 @@ public class PistonBlockEntity {
         }
     }
 
-    private BlockCollision getCollision(Vector3i blockPos) {
-        return BlockUtils.getCollision(getAttachedBlockId(blockPos).javaId());
-    }
-
     /**
      * Compute the maximum movement of a bounding box that won't collide with the moving block attached to this piston
      *
-     * @param blockPos The position of the moving block
+     * @param blockX The X coordinate of the moving block
+     * @param blockY The Y coordinate of the moving block
+     * @param blockZ The Z coordinate of the moving block
      * @param boundingBox The bounding box of the moving entity
      * @param axis The axis of movement
      * @param movement The movement in the axis
      * @return The adjusted movement
      */
-    public double computeCollisionOffset(Vector3i blockPos, BoundingBox boundingBox, Axis axis, double movement) {
-        BlockCollision blockCollision = getCollision(blockPos);
+    public double computeCollisionOffset(int blockX, int blockY, int blockZ, BoundingBox boundingBox, Axis axis, double movement) {
+        BlockState state = getAttachedBlockId(MathUtils.blockPositionToLong(blockX, blockY, blockZ));
+        BlockCollision blockCollision = BlockUtils.getCollision(state.javaId());
         if (blockCollision != null) {
             double movementProgress = progress;
             if (action == PistonValueType.PULLING || action == PistonValueType.CANCELLED_MID_PUSH) {
                 movementProgress = 1f - progress;
             }
             Vector3i movementVec = getMovement();
-            double x = blockPos.getX() + movementVec.getX() * movementProgress;
-            double y = blockPos.getY() + movementVec.getY() * movementProgress;
-            double z = blockPos.getZ() + movementVec.getZ() * movementProgress;
+            double x = blockX + movementVec.getX() * movementProgress;
+            double y = blockY + movementVec.getY() * movementProgress;
+            double z = blockZ + movementVec.getZ() * movementProgress;
             double adjustedMovement = blockCollision.computeCollisionOffset(x, y, z, boundingBox, axis, movement);
-            if (getAttachedBlockId(blockPos).is(Blocks.SLIME_BLOCK) && adjustedMovement != movement) {
+            if (state.is(Blocks.SLIME_BLOCK) && adjustedMovement != movement) {
                 session.getPistonCache().setPlayerSlimeCollision(true);
             }
             return adjustedMovement;
@@ -564,29 +583,29 @@ public class PistonBlockEntity {
         return movement;
     }
 
-    public boolean checkCollision(Vector3i blockPos, BoundingBox boundingBox) {
-        BlockCollision blockCollision = getCollision(blockPos);
+    public boolean checkCollision(int blockX, int blockY, int blockZ, BoundingBox boundingBox) {
+        BlockCollision blockCollision = BlockUtils.getCollision(getAttachedBlockId(MathUtils.blockPositionToLong(blockX, blockY, blockZ)).javaId());
         if (blockCollision != null) {
             double movementProgress = progress;
             if (action == PistonValueType.PULLING || action == PistonValueType.CANCELLED_MID_PUSH) {
                 movementProgress = 1f - progress;
             }
             Vector3i movementVec = getMovement();
-            double x = blockPos.getX() + movementVec.getX() * movementProgress;
-            double y = blockPos.getY() + movementVec.getY() * movementProgress;
-            double z = blockPos.getZ() + movementVec.getZ() * movementProgress;
+            double x = blockX + movementVec.getX() * movementProgress;
+            double y = blockY + movementVec.getY() * movementProgress;
+            double z = blockZ + movementVec.getZ() * movementProgress;
             return blockCollision.checkIntersection(x, y, z, boundingBox);
         }
         return false;
     }
 
-    private BlockState getAttachedBlockId(Vector3i blockPos) {
-        if (blockPos.equals(getPistonHeadPos())) {
+    private BlockState getAttachedBlockId(long blockKey) {
+        if (blockKey == getPistonHeadKey()) {
             return Blocks.PISTON_HEAD.defaultBlockState()
                     .withValue(Properties.SHORT, false)
                     .withValue(Properties.FACING, orientation);
         } else {
-            return attachedBlocks.getOrDefault(blockPos, Blocks.AIR.defaultBlockState());
+            return attachedBlocks.getOrDefault(blockKey, Blocks.AIR.defaultBlockState());
         }
     }
 
@@ -595,9 +614,11 @@ public class PistonBlockEntity {
      */
     private void createMovingBlocks() {
         // Map the final position of each block to this block entity
-        Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
-        attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.put(blockPos, this));
-        movingBlockMap.put(getPistonHeadPos(), this);
+        PistonCache pistonCache = session.getPistonCache();
+        for (long blockKey : attachedBlocks.keySet()) {
+            pistonCache.addMovingBlock(blockKey, this);
+        }
+        pistonCache.addMovingBlock(getPistonHeadKey(), this);
 
         Vector3i movement = getMovement();
         BoundingBox playerBoundingBox = session.getCollisionManager().getActiveBoundingBox().clone();
@@ -607,17 +628,19 @@ public class PistonBlockEntity {
             playerBoundingBox.setSizeX(playerBoundingBox.getSizeX() + 0.5);
             playerBoundingBox.setSizeZ(playerBoundingBox.getSizeZ() + 0.5);
         }
-        attachedBlocks.forEach((blockPos, state) -> {
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
+            BlockState state = entry.getValue();
+            Vector3i blockPos = fromLong(entry.getLongKey());
             Vector3i newPos = blockPos.add(movement);
             if (SOLID_BOUNDING_BOX.checkIntersection(blockPos.toDouble(), playerBoundingBox) ||
                     SOLID_BOUNDING_BOX.checkIntersection(newPos.toDouble(), playerBoundingBox)) {
-                session.getPistonCache().setPlayerCollided(true);
+                pistonCache.setPlayerCollided(true);
                 if (state.is(Blocks.SLIME_BLOCK)) {
-                    session.getPistonCache().setPlayerSlimeCollision(true);
+                    pistonCache.setPlayerSlimeCollision(true);
                 }
                 // Don't place moving blocks that collide with the player
                 // because of https://bugs.mojang.com/browse/MCPE-96035
-                return;
+                continue;
             }
             // Place a moving block at the new location of the block
             UpdateBlockPacket updateBlockPacket = new UpdateBlockPacket();
@@ -629,7 +652,7 @@ public class PistonBlockEntity {
             session.sendUpstreamPacket(updateBlockPacket);
             // Update moving block with correct details
             BlockEntityUtils.updateBlockEntity(session, buildMovingBlockTag(newPos, state, position), newPos);
-        });
+        }
     }
 
     /**
@@ -647,13 +670,13 @@ public class PistonBlockEntity {
 
         Vector3i movement = getMovement();
         BoundingBox playerBoundingBox = session.getCollisionManager().getActiveBoundingBox().clone();
-        attachedBlocks.forEach((blockPos, state) -> {
-            blockPos = blockPos.add(movement);
+        for (Long2ObjectMap.Entry<BlockState> entry : Long2ObjectMaps.fastIterable(attachedBlocks)) {
+            Vector3i blockPos = fromLong(entry.getLongKey()).add(movement);
             // Don't place blocks that collide with the player
             if (!SOLID_BOUNDING_BOX.checkIntersection(blockPos.toDouble(), playerBoundingBox)) {
-                ChunkUtils.updateBlock(session, state, blockPos);
+                ChunkUtils.updateBlock(session, entry.getValue(), blockPos);
             }
-        });
+        }
         if (action == PistonValueType.PUSHING) {
             Vector3i pistonHeadPos = getPistonHeadPos().add(movement);
             if (!SOLID_BOUNDING_BOX.checkIntersection(pistonHeadPos.toDouble(), playerBoundingBox)) {
@@ -668,11 +691,13 @@ public class PistonBlockEntity {
      * Remove moving blocks from the piston cache
      */
     private void removeMovingBlocks() {
-        Map<Vector3i, PistonBlockEntity> movingBlockMap = session.getPistonCache().getMovingBlocksMap();
-        attachedBlocks.forEach((blockPos, javaId) -> movingBlockMap.remove(blockPos));
+        PistonCache pistonCache = session.getPistonCache();
+        for (long blockKey : attachedBlocks.keySet()) {
+            pistonCache.removeMovingBlock(blockKey);
+        }
         attachedBlocks.clear();
-        movingBlockMap.remove(getPistonHeadPos());
-        flattenedAttachedBlocks = new int[0];
+        pistonCache.removeMovingBlock(getPistonHeadKey());
+        flattenedAttachedBlocks = IntArrays.EMPTY_ARRAY;
     }
 
     /**
@@ -681,10 +706,10 @@ public class PistonBlockEntity {
     private void flattenPositions() {
         flattenedAttachedBlocks = new int[3 * attachedBlocks.size()];
         int i = 0;
-        for (Vector3i position : attachedBlocks.keySet()) {
-            flattenedAttachedBlocks[3 * i] = position.getX();
-            flattenedAttachedBlocks[3 * i + 1] = position.getY();
-            flattenedAttachedBlocks[3 * i + 2] = position.getZ();
+        for (long blockKey : attachedBlocks.keySet()) {
+            flattenedAttachedBlocks[3 * i] = MathUtils.blockPositionX(blockKey);
+            flattenedAttachedBlocks[3 * i + 1] = MathUtils.blockPositionY(blockKey);
+            flattenedAttachedBlocks[3 * i + 2] = MathUtils.blockPositionZ(blockKey);
             i++;
         }
     }
@@ -718,6 +743,25 @@ public class PistonBlockEntity {
         return position.add(orientation.getUnitVector());
     }
 
+    /**
+     * @return The packed starting position of the piston head
+     */
+    private long getPistonHeadKey() {
+        if (action == PistonValueType.PUSHING) {
+            return toLong(position);
+        }
+        Vector3i direction = orientation.getUnitVector();
+        return MathUtils.blockPositionToLong(position.getX() + direction.getX(), position.getY() + direction.getY(), position.getZ() + direction.getZ());
+    }
+
+    private static long toLong(Vector3i position) {
+        return MathUtils.blockPositionToLong(position.getX(), position.getY(), position.getZ());
+    }
+
+    private static Vector3i fromLong(long key) {
+        return Vector3i.from(MathUtils.blockPositionX(key), MathUtils.blockPositionY(key), MathUtils.blockPositionZ(key));
+    }
+
     /**
      * Update the progress or position of the piston head
      */
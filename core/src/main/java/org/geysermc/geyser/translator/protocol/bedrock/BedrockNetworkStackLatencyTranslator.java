@@ -58,6 +58,7 @@ public class BedrockNetworkStackLatencyTranslator extends PacketTranslator<Netwo
                     session.getGeyser().getLogger().debug("Received a latency packet that we don't have a KeepAlive for: " + packet);
                     return;
                 }
+                session.getChunkBatchSizeCalculator().onLatencyProbeAnswered();
 
                 ServerboundKeepAlivePacket keepAlivePacket = new ServerboundKeepAlivePacket(keepAliveId);
                 session.sendDownstreamPacket(keepAlivePacket);
@@ -64,6 +64,7 @@ public class JavaFinishConfigurationTranslator extends PacketTranslator<Clientbo
         }
         PlayerListUtils.batchSendPlayerList(session, entries, PlayerListPacket.Action.REMOVE);
         session.getEntityCache().removeAllPlayerEntities();
+        session.getPlayerListSkinCache().clear();
 
         // Potion mixes are registered by default, as they are needed to be able to put ingredients into the brewing stand.
         // (Also add it here so recipes get cleared on configuration - 1.21.3)
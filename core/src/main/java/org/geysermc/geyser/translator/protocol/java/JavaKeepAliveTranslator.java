@@ -66,5 +66,6 @@ public class JavaKeepAliveTranslator extends PacketTranslator<ClientboundKeepAli
         latencyPacket.setFromServer(true);
         latencyPacket.setTimestamp(timestamp);
         session.sendUpstreamPacketImmediately(latencyPacket);
+        session.getChunkBatchSizeCalculator().onLatencyProbeSent();
     }
 }
@@ -93,7 +93,12 @@ public class JavaAddEntityTranslator extends PacketTranslator<ClientboundAddEnti
             // only load skin if we're not in a test environment.
             // Otherwise, it tries to load various resources
             if (!EnvironmentUtils.IS_UNIT_TESTING) {
-                SkinManager.requestAndHandleSkinAndCape(entity, session, null);
+                if (session.getPlayerListSkinCache().isEnabled() && session.getEntityCache().getPlayerEntity(entity.getUuid()) == entity) {
+                    // Sent soon, along with other players that are close by
+                    session.getPlayerListSkinCache().spawned(entity);
+                } else {
+                    SkinManager.requestAndHandleSkinAndCape(entity, session, null);
+                }
             }
             return;
         }
@@ -46,6 +46,7 @@ public class JavaPlayerInfoRemoveTranslator extends PacketTranslator<Clientbound
         for (UUID id : packet.getProfileIds()) {
             // As the player entity is no longer present, we can remove the entry
             PlayerEntity entity = session.getEntityCache().removePlayerEntity(id);
+            session.getPlayerListSkinCache().remove(id);
             UUID removeId;
             if (entity != null) {
                 // Just remove the entity's player list status
@@ -103,6 +103,7 @@ public class JavaPlayerInfoUpdateTranslator extends PacketTranslator<Clientbound
         if (actions.contains(PlayerListEntryAction.UPDATE_LISTED)) {
             List<PlayerListPacket.Entry> toAdd = new ArrayList<>();
             List<PlayerListPacket.Entry> toRemove = new ArrayList<>();
+            boolean lazySkins = session.getPlayerListSkinCache().isEnabled();
 
             for (PlayerListEntry entry : packet.getEntries()) {
                 PlayerEntity entity = session.getEntityCache().getPlayerEntity(entry.getProfileId());
@@ -112,7 +113,13 @@ public class JavaPlayerInfoUpdateTranslator extends PacketTranslator<Clientbound
                 }
 
                 if (entry.isListed()) {
-                    PlayerListPacket.Entry playerListEntry = SkinManager.buildCachedEntry(session, entity);
+                    PlayerListPacket.Entry playerListEntry;
+                    if (lazySkins && entity != session.getPlayerEntity()) {
+                        playerListEntry = SkinManager.buildPlaceholderEntry(session, entity);
+                        session.getPlayerListSkinCache().listed(entity);
+                    } else {
+                        playerListEntry = SkinManager.buildCachedEntry(session, entity);
+                    }
                     toAdd.add(playerListEntry);
                 } else {
                     toRemove.add(new PlayerListPacket.Entry(entity.getTabListUuid()));
@@ -110,13 +110,13 @@ public class JavaBlockEventTranslator extends PacketTranslator<ClientboundBlockE
                             return;
                         }
                     }
-                    PistonBlockEntity blockEntity = pistonCache.getPistons().computeIfAbsent(position, pos -> new PistonBlockEntity(session, pos, direction, isSticky, true));
+                    PistonBlockEntity blockEntity = pistonCache.getOrCreatePiston(position, pos -> new PistonBlockEntity(session, pos, direction, isSticky, true));
                     if (blockEntity.getAction() != action) {
                         blockEntity.setAction(action, Object2ObjectMaps.emptyMap());
                     }
                 }
             } else {
-                PistonBlockEntity blockEntity = pistonCache.getPistons().computeIfAbsent(position, pos -> {
+                PistonBlockEntity blockEntity = pistonCache.getOrCreatePiston(position, pos -> {
                     BlockState state = session.getGeyser().getWorldManager().blockAt(session, position);
                     boolean sticky = isSticky(state);
                     boolean extended = action != PistonValueType.PUSHING;
@@ -37,8 +37,8 @@ public class JavaChunkBatchFinishedTranslator extends PacketTranslator<Clientbou
     @Override
     public void translate(GeyserSession session, ClientboundChunkBatchFinishedPacket packet) {
         // server just sent a batch of LevelChunkWithLightPackets
-        // the vanilla client uses a ChunkBatchSizeCalculator to calculate the desiredChunksPerTick,
-        // but currently we just send an arbitrary value. server clamps the value between 0.01 and 64.
-        session.sendDownstreamGamePacket(new ServerboundChunkBatchReceivedPacket(20));
+        // like the vanilla client, we tell the server how many chunks per tick we can keep up with
+        float desiredChunksPerTick = session.getChunkBatchSizeCalculator().onBatchFinished(packet.getBatchSize());
+        session.sendDownstreamGamePacket(new ServerboundChunkBatchReceivedPacket(desiredChunksPerTick));
     }
 }
@@ -50,8 +50,9 @@ import org.geysermc.geyser.level.chunk.BlockStorage;
 import org.geysermc.geyser.level.chunk.GeyserChunkSection;
 import org.geysermc.geyser.level.chunk.bitarray.BitArray;
 import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
+import org.geysermc.geyser.level.chunk.bitarray.JavaBitStorageTransposer;
 import org.geysermc.geyser.level.chunk.bitarray.SingletonBitArray;
-import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.translator.level.BiomeTranslator;
 import org.geysermc.geyser.translator.level.block.entity.BedrockChunkWantsBlockEntityTag;
@@ -75,7 +76,6 @@ import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.Clien
 import java.io.IOException;
 import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
 
 import static org.geysermc.geyser.util.ChunkUtils.*;
 
@@ -85,7 +85,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
     @Override
     public void translate(GeyserSession session, ClientboundLevelChunkWithLightPacket packet) {
-        final boolean useExtendedCollisions = !session.getBlockMappings().getExtendedCollisionBoxes().isEmpty();
+        final BlockMappings blockMappings = session.getBlockMappings();
+        final boolean useExtendedCollisions = !blockMappings.getExtendedCollisionBoxes().isEmpty();
+        final ExtendedCollisionsStorage extendedCollisions = EXTENDED_COLLISIONS_STORAGE.get();
 
         if (session.isSpawned()) {
             ChunkUtils.updateChunkPosition(session, session.getPlayerEntity().getPosition().toInt());
@@ -131,7 +133,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 if (bedrockSectionY < 0 || maxBedrockSectionY < bedrockSectionY) {
                     // Ignore this chunk section since it goes outside the bounds accepted by the Bedrock client
                     if (useExtendedCollisions) {
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
+                        extendedCollisions.clear();
                     }
                     extendedCollisionNextSection = false;
                     continue;
@@ -142,22 +144,22 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     // Unless we need to send extended collisions
                     if (useExtendedCollisions) {
                         if (extendedCollision) {
-                            int blocks = EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() + 1;
+                            int blocks = extendedCollisions.bottomLayerCollisions() + 1;
                             BitArray bedrockData = BitArrayVersion.forBitsCeil(Integer.SIZE - Integer.numberOfLeadingZeros(blocks)).createArray(BlockStorage.SIZE);
                             BlockStorage layer0 = new BlockStorage(bedrockData, new IntArrayList(blocks));
     
-                            layer0.idFor(session.getBlockMappings().getBedrockAir().getRuntimeId());
+                            layer0.idFor(blockMappings.getBedrockAir().getRuntimeId());
                             for (int yzx = 0; yzx < BlockStorage.SIZE / 16; yzx++) {
-                                if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
-                                    bedrockData.set(indexYZXtoXZY(yzx), layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
-                                    EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                                if (extendedCollisions.get(yzx, sectionY) != 0) {
+                                    bedrockData.set(indexYZXtoXZY(yzx), layer0.idFor(extendedCollisions.get(yzx, sectionY)));
+                                    extendedCollisions.set(yzx, 0, sectionY);
                                 }
                             }
     
                             BlockStorage[] layers = new BlockStorage[]{ layer0 };
                             sections[bedrockSectionY] = new GeyserChunkSection(layers, subChunkIndex);
                         }
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
+                        extendedCollisions.clear();
                         extendedCollisionNextSection = false;
                     }
                     continue;
@@ -168,30 +170,33 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
                 if (javaPalette instanceof GlobalPalette) {
                     // As this is the global palette, simply iterate through the whole chunk section once
-                    GeyserChunkSection section = new GeyserChunkSection(session.getBlockMappings().getBedrockAir().getRuntimeId(), subChunkIndex);
+                    GeyserChunkSection section = new GeyserChunkSection(blockMappings.getBedrockAir().getRuntimeId(), subChunkIndex);
+                    BlockStorage[] storages = section.getBlockStorageArray();
+                    int waterId = blockMappings.getBedrockWater().getRuntimeId();
+                    int[] javaIds = JavaBitStorageTransposer.unpackToXZY(javaData);
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int javaId = javaData.get(yzx);
-                        BlockState state = BlockState.of(javaId);
-                        int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
                         int xzy = indexYZXtoXZY(yzx);
-                        section.getBlockStorageArray()[0].setFullBlock(xzy, bedrockId);
+                        int javaId = javaIds[xzy];
+                        // Runtime ID and flags for this state in one lookup
+                        int chunkData = blockMappings.getChunkData(javaId);
+                        storages[0].setFullBlock(xzy, chunkData & BlockMappings.CHUNK_DATA_RUNTIME_ID_MASK);
 
-                        if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                            section.getBlockStorageArray()[1].setFullBlock(xzy, session.getBlockMappings().getBedrockWater().getRuntimeId());
+                        if ((chunkData & BlockMappings.CHUNK_DATA_WATERLOGGED) != 0) {
+                            storages[1].setFullBlock(xzy, waterId);
                         }
 
                         // Extended collision blocks
                         if (useExtendedCollisions) {
-                            if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                            if (extendedCollisions.get(yzx, sectionY) != 0) {
                                 if (javaId == Block.JAVA_AIR_ID) {
-                                    section.getBlockStorageArray()[0].setFullBlock(xzy, EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY));
+                                    storages[0].setFullBlock(xzy, extendedCollisions.get(yzx, sectionY));
                                 }
-                                EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                                extendedCollisions.set(yzx, 0, sectionY);
                                 continue;
                             }
-                            BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings().getExtendedCollisionBoxes().get(javaId);
-                            if (aboveBedrockExtendedCollisionDefinition != null) {
-                                EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                            if ((chunkData & BlockMappings.CHUNK_DATA_EXTENDED_COLLISION) != 0) {
+                                BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes().get(javaId);
+                                extendedCollisions.set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
                                 if ((xzy & 0xF) == 15) {
                                     thisExtendedCollisionNextSection = true;
                                 }
@@ -199,8 +204,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                         }
 
                         // Check if block is piston or flower to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                        if (state.block() instanceof BedrockChunkWantsBlockEntityTag blockEntity) {
-                            bedrockBlockEntities.add(blockEntity.createTag(session,
+                        if ((chunkData & BlockMappings.CHUNK_DATA_BLOCK_ENTITY) != 0) {
+                            BlockState state = BlockState.of(javaId);
+                            bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session,
                                     Vector3i.from((packet.getX() << 4) + (yzx & 0xF), ((sectionY + yOffset) << 4) + ((yzx >> 8) & 0xF), (packet.getZ() << 4) + ((yzx >> 4) & 0xF)),
                                     state
                             ));
@@ -213,18 +219,17 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
 
                 if (javaPalette instanceof SingletonPalette) {
                     // There's only one block here. Very easy!
-                    int javaId = javaPalette.idToState(0);
-                    int bedrockId = session.getBlockMappings().getBedrockBlockId(javaId);
-                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(bedrockId));
+                    int chunkData = blockMappings.getChunkData(javaPalette.idToState(0));
+                    BlockStorage blockStorage = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(chunkData & BlockMappings.CHUNK_DATA_RUNTIME_ID_MASK));
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
-                        BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(session.getBlockMappings().getBedrockWater().getRuntimeId()));
+                    if ((chunkData & BlockMappings.CHUNK_DATA_WATERLOGGED) != 0) {
+                        BlockStorage waterlogged = new BlockStorage(SingletonBitArray.INSTANCE, IntLists.singleton(blockMappings.getBedrockWater().getRuntimeId()));
                         sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage, waterlogged}, subChunkIndex);
                     } else {
                         sections[bedrockSectionY] = new GeyserChunkSection(new BlockStorage[] {blockStorage}, subChunkIndex);
                     }
                     if (useExtendedCollisions) {
-                        EXTENDED_COLLISIONS_STORAGE.get().clear();
+                        extendedCollisions.clear();
                         extendedCollisionNextSection = false;
                     }
                     // If a chunk contains all of the same piston or flower pot then god help us
@@ -240,9 +245,10 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 int extendedCollisionsInPalette = 0;
                 for (int i = 0; i < javaPalette.size(); i++) {
                     int javaId = javaPalette.idToState(i);
-                    bedrockPalette.add(session.getBlockMappings().getBedrockBlockId(javaId));
+                    int chunkData = blockMappings.getChunkData(javaId);
+                    bedrockPalette.add(chunkData & BlockMappings.CHUNK_DATA_RUNTIME_ID_MASK);
 
-                    if (BlockRegistries.WATERLOGGED.get().get(javaId)) {
+                    if ((chunkData & BlockMappings.CHUNK_DATA_WATERLOGGED) != 0) {
                         waterloggedPaletteIds.set(i);
                     }
 
@@ -250,27 +256,26 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                         airPaletteId = i;
                     }
 
-                    if (useExtendedCollisions) {
-                        if (session.getBlockMappings().getExtendedCollisionBoxes().get(javaId) != null) {
-                            extendedCollision = true;
-                            extendedCollisionsInPalette++;
-                        }
+                    if (useExtendedCollisions && (chunkData & BlockMappings.CHUNK_DATA_EXTENDED_COLLISION) != 0) {
+                        extendedCollision = true;
+                        extendedCollisionsInPalette++;
                     }
 
                     // Check if block is piston, flower or cauldron to see if we'll need to create additional block entities, as they're only block entities in Bedrock
-                    // TODO this needs a performance check when my head is clearer
-                    BlockState state = BlockState.of(javaId);
-                    if (state.block() instanceof BedrockChunkWantsBlockEntityTag) {
+                    if ((chunkData & BlockMappings.CHUNK_DATA_BLOCK_ENTITY) != 0) {
                         bedrockOnlyBlockEntityIds.set(i);
                     }
                 }
 
+                // Unpack the whole section into Bedrock's XZY order at once
+                int[] paletteIds = JavaBitStorageTransposer.unpackToXZY(javaData);
+
                 // Add Bedrock-exclusive block entities
                 // We only if the palette contained any blocks that are Bedrock-exclusive block entities to avoid iterating through the whole block data
                 // for no reason, as most sections will not contain any pistons or flower pots
                 if (!bedrockOnlyBlockEntityIds.isEmpty()) {
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
+                        int paletteId = paletteIds[indexYZXtoXZY(yzx)];
                         if (bedrockOnlyBlockEntityIds.get(paletteId)) {
                             BlockState state = BlockState.of(javaPalette.idToState(paletteId));
                             bedrockBlockEntities.add(((BedrockChunkWantsBlockEntityTag) state.block()).createTag(session,
@@ -284,7 +289,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 // We need to ensure we use enough bits to represent extended collision blocks in the chunk section
                 int sectionCollisionBlocks = 0;
                 if (useExtendedCollisions) {
-                    int bottomLayerCollisions = extendedCollision ? EXTENDED_COLLISIONS_STORAGE.get().bottomLayerCollisions() : 0;
+                    int bottomLayerCollisions = extendedCollision ? extendedCollisions.bottomLayerCollisions() : 0;
                     sectionCollisionBlocks = bottomLayerCollisions + extendedCollisionsInPalette;
                 }
                 int bedrockDataBits = Integer.SIZE - Integer.numberOfLeadingZeros(javaPalette.size() + sectionCollisionBlocks);
@@ -295,90 +300,82 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 // Convert data array from YZX to XZY coordinate order
                 if (waterloggedPaletteIds.isEmpty() && !extendedCollision) {
                     // No blocks are waterlogged, simply convert coordinate order
-                    // This could probably be optimized further...
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-                    }
+                    bedrockData.setAll(paletteIds);
 
                     layers = new BlockStorage[]{ layer0 };
                 } else if (!waterloggedPaletteIds.isEmpty() && !extendedCollision) {
                     // The section contains waterlogged blocks, we need to convert coordinate order AND generate a V1 block storage for
                     // layer 1 with palette ID 1 indicating water
                     int[] layer1Data = new int[BlockStorage.SIZE >> 5];
-                    for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
-                        int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
-
-                        if (waterloggedPaletteIds.get(paletteId)) {
+                    for (int xzy = 0; xzy < BlockStorage.SIZE; xzy++) {
+                        if (waterloggedPaletteIds.get(paletteIds[xzy])) {
                             layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
                         }
                     }
-                    
+                    bedrockData.setAll(paletteIds);
+
                     // V1 palette
                     IntList layer1Palette = IntList.of(
-                            session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
-                            session.getBlockMappings().getBedrockWater().getRuntimeId());
+                            blockMappings.getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
+                            blockMappings.getBedrockWater().getRuntimeId());
 
                     layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
                 } else if (waterloggedPaletteIds.isEmpty()) {
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
                         int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
+                        int paletteId = paletteIds[xzy];
 
-                        if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                        if (extendedCollisions.get(yzx, sectionY) != 0) {
                             if (paletteId == airPaletteId) {
-                                bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
+                                paletteIds[xzy] = layer0.idFor(extendedCollisions.get(yzx, sectionY));
                             }
-                            EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                            extendedCollisions.set(yzx, 0, sectionY);
                             continue;
                         }
-                        BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings()
-                                .getExtendedCollisionBoxes().get(javaPalette.idToState(paletteId));
+                        BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes()
+                                .get(javaPalette.idToState(paletteId));
                         if (aboveBedrockExtendedCollisionDefinition != null) {
-                            EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                            extendedCollisions.set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
                             if ((xzy & 0xF) == 15) {
                                 thisExtendedCollisionNextSection = true;
                             }
                         }
                     }
+                    bedrockData.setAll(paletteIds);
 
                     layers = new BlockStorage[]{ layer0 };
                 } else {
                     int[] layer1Data = new int[BlockStorage.SIZE >> 5];
                     for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
-                        int paletteId = javaData.get(yzx);
                         int xzy = indexYZXtoXZY(yzx);
-                        bedrockData.set(xzy, paletteId);
+                        int paletteId = paletteIds[xzy];
 
                         if (waterloggedPaletteIds.get(paletteId)) {
                             layer1Data[xzy >> 5] |= 1 << (xzy & 0x1F);
                         }
 
-                        if (EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY) != 0) {
+                        if (extendedCollisions.get(yzx, sectionY) != 0) {
                             if (paletteId == airPaletteId) {
-                                bedrockData.set(xzy, layer0.idFor(EXTENDED_COLLISIONS_STORAGE.get().get(yzx, sectionY)));
+                                paletteIds[xzy] = layer0.idFor(extendedCollisions.get(yzx, sectionY));
                             }
-                            EXTENDED_COLLISIONS_STORAGE.get().set(yzx, 0, sectionY);
+                            extendedCollisions.set(yzx, 0, sectionY);
                             continue;
                         }
-                        BlockDefinition aboveBedrockExtendedCollisionDefinition = session.getBlockMappings().getExtendedCollisionBoxes()
+                        BlockDefinition aboveBedrockExtendedCollisionDefinition = blockMappings.getExtendedCollisionBoxes()
                                 .get(javaPalette.idToState(paletteId));
                         if (aboveBedrockExtendedCollisionDefinition != null) {
-                            EXTENDED_COLLISIONS_STORAGE.get().set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
+                            extendedCollisions.set((yzx + 0x100) & 0xFFF, aboveBedrockExtendedCollisionDefinition.getRuntimeId(), sectionY);
                             if ((xzy & 0xF) == 15) {
                                 thisExtendedCollisionNextSection = true;
                             }
                         }
                     }
+                    bedrockData.setAll(paletteIds);
 
                     // V1 palette
                     IntList layer1Palette = IntList.of(
-                            session.getBlockMappings().getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
-                            session.getBlockMappings().getBedrockWater().getRuntimeId());
+                            blockMappings.getBedrockAir().getRuntimeId(), // Air - see BlockStorage's constructor for more information
+                            blockMappings.getBedrockWater().getRuntimeId());
 
                     layers = new BlockStorage[]{ layer0, new BlockStorage(BitArrayVersion.V1.createArray(BlockStorage.SIZE, layer1Data), layer1Palette) };
                 }
@@ -471,8 +468,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                 if (section != null) {
                     section.writeToNetwork(byteBuf);
                 } else {
-                    int subChunkIndex = (i + (bedrockDimension.minY() >> 4));
-                    new GeyserChunkSection(EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(byteBuf);
+                    ChunkUtils.writeEmptySection(byteBuf, i + (bedrockDimension.minY() >> 4));
                 }
             }
 
@@ -491,7 +487,7 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
                     continue;
                 }
 
-                BiomeTranslator.toNewBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)]).writeToNetwork(byteBuf);
+                BiomeTranslator.writeBedrockBiome(session, javaBiomes[i + (dimensionOffset - yOffset)], byteBuf);
             }
 
             byteBuf.writeByte(0); // Border blocks - Edu edition only
@@ -521,13 +517,9 @@ public class JavaLevelChunkWithLightTranslator extends PacketTranslator<Clientbo
         levelChunkPacket.setDimension(session.getBedrockDimension().bedrockId());
         session.sendUpstreamPacket(levelChunkPacket);
 
-        for (Map.Entry<Vector3i, ItemFrameEntity> entry : session.getItemFrameCache().entrySet()) {
-            Vector3i position = entry.getKey();
-            if ((position.getX() >> 4) == packet.getX() && (position.getZ() >> 4) == packet.getZ()) {
-                // Update this item frame so it doesn't get lost in the abyss
-                //TODO optimize
-                entry.getValue().updateBlock(true);
-            }
+        for (ItemFrameEntity itemFrame : session.getItemFrameCache().getChunk(packet.getX(), packet.getZ())) {
+            // Update this item frame so it doesn't get lost in the abyss
+            itemFrame.updateBlock(true);
         }
     }
 
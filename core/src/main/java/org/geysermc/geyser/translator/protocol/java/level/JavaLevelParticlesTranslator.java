@@ -49,6 +49,8 @@ import org.geysermc.geyser.entity.type.Entity;
 import org.geysermc.geyser.registry.Registries;
 import org.geysermc.geyser.registry.type.ParticleMapping;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure;
+import org.geysermc.geyser.session.UpstreamPressure.Traffic;
 import org.geysermc.geyser.translator.item.ItemTranslator;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
@@ -67,13 +69,16 @@ public class JavaLevelParticlesTranslator extends PacketTranslator<ClientboundLe
     public void translate(GeyserSession session, ClientboundLevelParticlesPacket packet) {
         Function<Vector3f, BedrockPacket> particleCreateFunction = createParticle(session, packet.getParticle());
         if (particleCreateFunction != null) {
+            UpstreamPressure pressure = session.getUpstreamPressure();
             if (packet.getAmount() == 0) {
                 // 0 means don't apply the offset
-                Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
-                session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                if (pressure.allow(Traffic.PARTICLES)) {
+                    Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
+                    session.sendUpstreamPacket(particleCreateFunction.apply(position));
+                }
             } else {
                 Random random = ThreadLocalRandom.current();
-                int amount = Math.min(MAX_PARTICLES, packet.getAmount());
+                int amount = pressure.limit(Traffic.PARTICLES, Math.min(MAX_PARTICLES, packet.getAmount()));
                 for (int i = 0; i < amount; i++) {
                     double offsetX = random.nextGaussian() * (double) packet.getOffsetX();
                     double offsetY = random.nextGaussian() * (double) packet.getOffsetY();
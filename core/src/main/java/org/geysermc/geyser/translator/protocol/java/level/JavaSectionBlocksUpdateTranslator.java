@@ -25,6 +25,15 @@
 
 package org.geysermc.geyser.translator.protocol.java.level;
 
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateBlockPacket;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
+import org.geysermc.geyser.entity.type.ItemFrameEntity;
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.block.type.BlockState;
+import org.geysermc.geyser.registry.BlockRegistries;
+import org.geysermc.geyser.registry.type.BlockMappings;
 import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockChangeEntry;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundSectionBlocksUpdatePacket;
 import org.geysermc.geyser.session.GeyserSession;
@@ -33,11 +42,72 @@ import org.geysermc.geyser.translator.protocol.Translator;
 
 @Translator(packet = ClientboundSectionBlocksUpdatePacket.class)
 public class JavaSectionBlocksUpdateTranslator extends PacketTranslator<ClientboundSectionBlocksUpdatePacket> {
+    /**
+     * Below this many changes, blocks are updated one by one as usual.
+     */
+    private static final int MIN_BATCH_SIZE = 4;
+    /**
+     * The flags used for single block updates, see {@link Block#sendBlockUpdatePacket}.
+     */
+    private static final int STANDARD_UPDATE_FLAGS = flags(UpdateBlockPacket.Flag.NEIGHBORS, UpdateBlockPacket.Flag.NETWORK);
 
     @Override
     public void translate(GeyserSession session, ClientboundSectionBlocksUpdatePacket packet) {
-        for (BlockChangeEntry entry : packet.getEntries()) {
-            session.getWorldCache().updateServerCorrectBlockState(entry.getPosition(), entry.getBlock());
+        BlockChangeEntry[] entries = packet.getEntries();
+        BlockMappings mappings = session.getBlockMappings();
+        if (entries.length < MIN_BATCH_SIZE || !mappings.getExtendedCollisionBoxes().isEmpty()) {
+            // Extended collision boxes depend on the blocks above and below, which may be changing in this same packet
+            for (BlockChangeEntry entry : entries) {
+                session.getWorldCache().updateServerCorrectBlockState(entry.getPosition(), entry.getBlock());
+            }
+            return;
         }
+
+        // Changes within a sub chunk can be sent as one packet, with the water layer alongside
+        Vector3i first = entries[0].getPosition();
+        UpdateSubChunkBlocksPacket subChunkPacket = new UpdateSubChunkBlocksPacket();
+        subChunkPacket.setChunkX(first.getX() >> 4);
+        subChunkPacket.setChunkY(first.getY() >> 4);
+        subChunkPacket.setChunkZ(first.getZ() >> 4);
+
+        for (BlockChangeEntry entry : entries) {
+            Vector3i position = entry.getPosition();
+            BlockState state = BlockState.of(entry.getBlock());
+            if (!state.block().canBatchUpdates() || ItemFrameEntity.getItemFrameEntity(session, position) != null) {
+                // Block entities and the like, or item frames that must not be overwritten
+                session.getWorldCache().updateServerCorrectBlockState(position, entry.getBlock());
+                continue;
+            }
+
+            session.getSkullCache().removeSkull(position);
+
+            BlockDefinition definition = mappings.getBedrockBlock(state);
+            subChunkPacket.getStandardBlocks().add(bedrockEntry(position, definition, STANDARD_UPDATE_FLAGS));
+
+            BlockDefinition waterDefinition = BlockRegistries.WATERLOGGED.get().get(state.javaId()) ? mappings.getBedrockWater() : mappings.getBedrockAir();
+            subChunkPacket.getExtraBlocks().add(bedrockEntry(position, waterDefinition, 0));
+
+            session.getWorldCache().cacheServerCorrectBlockState(position, entry.getBlock());
+        }
+
+        if (!subChunkPacket.getStandardBlocks().isEmpty()) {
+            session.sendUpstreamPacket(subChunkPacket);
+        }
+    }
+
+    /**
+     * Encodes flags the same way as the UpdateBlockPacket serializer.
+     */
+    private static int flags(UpdateBlockPacket.Flag... flags) {
+        int value = 0;
+        for (UpdateBlockPacket.Flag flag : flags) {
+            value |= 1 << flag.ordinal();
+        }
+        return value;
+    }
+
+    private static org.cloudburstmc.protocol.bedrock.data.BlockChangeEntry bedrockEntry(Vector3i position, BlockDefinition definition, int flags) {
+        return new org.cloudburstmc.protocol.bedrock.data.BlockChangeEntry(position, definition, flags, -1,
+            org.cloudburstmc.protocol.bedrock.data.BlockChangeEntry.MessageType.NONE);
     }
 }
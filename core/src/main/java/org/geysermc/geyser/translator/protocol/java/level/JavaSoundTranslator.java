@@ -28,6 +28,7 @@ package org.geysermc.geyser.translator.protocol.java.level;
 import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundSoundPacket;
 import org.cloudburstmc.math.vector.Vector3f;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure.Traffic;
 import org.geysermc.geyser.translator.protocol.PacketTranslator;
 import org.geysermc.geyser.translator.protocol.Translator;
 import org.geysermc.geyser.util.SoundUtils;
@@ -37,6 +38,9 @@ public class JavaSoundTranslator extends PacketTranslator<ClientboundSoundPacket
 
     @Override
     public void translate(GeyserSession session, ClientboundSoundPacket packet) {
+        if (!session.getUpstreamPressure().allow(Traffic.SOUNDS)) {
+            return;
+        }
         Vector3f position = Vector3f.from(packet.getX(), packet.getY(), packet.getZ());
         SoundUtils.playSound(session, packet.getSound(), position, packet.getVolume(), packet.getPitch());
     }
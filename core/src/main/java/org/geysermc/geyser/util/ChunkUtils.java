@@ -26,8 +26,10 @@
 package org.geysermc.geyser.util;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntLists;
 import lombok.experimental.UtilityClass;
 import org.cloudburstmc.math.GenericMath;
@@ -57,20 +59,32 @@ public class ChunkUtils {
 
     public static final int EMPTY_CHUNK_SECTION_SIZE;
 
+    /**
+     * Encoded empty chunk sections, indexed by sub chunk index (which is written as a byte) plus 128.
+     */
+    private static final byte[][] EMPTY_SECTIONS = new byte[256][];
+
+    /**
+     * Encoded chunk columns without any sections, by how many sub chunks the dimension has.
+     * These are shared by every session; {@link #sendEmptyChunk(GeyserSession, int, int, boolean)} only sends duplicates of them.
+     */
+    private static final Int2ObjectMap<ByteBuf> EMPTY_CHUNK_PAYLOADS = Int2ObjectMaps.synchronize(new Int2ObjectOpenHashMap<>());
+
     static {
         EMPTY_BLOCK_STORAGE = new BlockStorage[0];
 
         ByteBuf byteBuf = Unpooled.buffer();
         try {
-            new GeyserChunkSection(EMPTY_BLOCK_STORAGE, 0)
-                    .writeToNetwork(byteBuf);
+            for (int i = 0; i < EMPTY_SECTIONS.length; i++) {
+                new GeyserChunkSection(EMPTY_BLOCK_STORAGE, i + Byte.MIN_VALUE)
+                        .writeToNetwork(byteBuf);
 
-            byte[] emptyChunkData = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(emptyChunkData);
-
-            EMPTY_CHUNK_SECTION_SIZE = emptyChunkData.length;
+                EMPTY_SECTIONS[i] = new byte[byteBuf.readableBytes()];
+                byteBuf.readBytes(EMPTY_SECTIONS[i]);
+                byteBuf.clear();
+            }
 
-            emptyChunkData = null;
+            EMPTY_CHUNK_SECTION_SIZE = EMPTY_SECTIONS[0].length;
         } finally {
             byteBuf.release();
         }
@@ -87,6 +101,13 @@ public class ChunkUtils {
         }
     }
 
+    /**
+     * Writes an empty chunk section with the given sub chunk index, without creating and encoding a section for it.
+     */
+    public static void writeEmptySection(ByteBuf byteBuf, int subChunkIndex) {
+        byteBuf.writeBytes(EMPTY_SECTIONS[(byte) subChunkIndex - Byte.MIN_VALUE]);
+    }
+
     public static int indexYZXtoXZY(int yzx) {
         return (yzx >> 8) | (yzx & 0x0F0) | ((yzx & 0x00F) << 8);
     }
@@ -158,33 +179,15 @@ public class ChunkUtils {
 
     public static void sendEmptyChunk(GeyserSession session, int chunkX, int chunkZ, boolean forceUpdate) {
         BedrockDimension bedrockDimension = session.getBedrockDimension();
-        int bedrockSubChunkCount = bedrockDimension.height() >> 4;
 
-        byte[] payload;
-        // Allocate output buffer
-        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer(ChunkUtils.EMPTY_BIOME_DATA.length * bedrockSubChunkCount + 1); // Consists only of biome data and border blocks
-        try {
-            byteBuf.writeBytes(EMPTY_BIOME_DATA);
-            for (int i = 1; i < bedrockSubChunkCount; i++) {
-                byteBuf.writeByte((127 << 1) | 1);
-            }
-
-            byteBuf.writeByte(0); // Border blocks - Edu edition only
-
-            payload = new byte[byteBuf.readableBytes()];
-            byteBuf.readBytes(payload);
-
-            LevelChunkPacket data = new LevelChunkPacket();
-            data.setDimension(session.getBedrockDimension().bedrockId());
-            data.setChunkX(chunkX);
-            data.setChunkZ(chunkZ);
-            data.setSubChunksLength(0);
-            data.setData(Unpooled.wrappedBuffer(payload));
-            data.setCachingEnabled(false);
-            session.sendUpstreamPacket(data);
-        } finally {
-            byteBuf.release();
-        }
+        LevelChunkPacket data = new LevelChunkPacket();
+        data.setDimension(bedrockDimension.bedrockId());
+        data.setChunkX(chunkX);
+        data.setChunkZ(chunkZ);
+        data.setSubChunksLength(0);
+        data.setData(emptyChunkPayload(bedrockDimension).retainedDuplicate());
+        data.setCachingEnabled(false);
+        session.sendUpstreamPacket(data);
 
         if (forceUpdate) {
             Vector3i pos = Vector3i.from(chunkX << 4, 80, chunkZ << 4);
@@ -196,6 +199,21 @@ public class ChunkUtils {
         }
     }
 
+    private static ByteBuf emptyChunkPayload(BedrockDimension bedrockDimension) {
+        return EMPTY_CHUNK_PAYLOADS.computeIfAbsent(bedrockDimension.height() >> 4, bedrockSubChunkCount -> {
+            // Consists only of biome data and border blocks
+            ByteBuf byteBuf = Unpooled.buffer(ChunkUtils.EMPTY_BIOME_DATA.length + bedrockSubChunkCount);
+            byteBuf.writeBytes(EMPTY_BIOME_DATA);
+            for (int i = 1; i < bedrockSubChunkCount; i++) {
+                byteBuf.writeByte((127 << 1) | 1);
+            }
+
+            byteBuf.writeByte(0); // Border blocks - Edu edition only
+            // Never freed; releasing one of its duplicates after sending must not affect the others
+            return Unpooled.unreleasableBuffer(byteBuf);
+        });
+    }
+
     public static void sendEmptyChunks(GeyserSession session, Vector3i position, int radius, boolean forceUpdate) {
         int chunkX = position.getX() >> 4;
         int chunkZ = position.getZ() >> 4;
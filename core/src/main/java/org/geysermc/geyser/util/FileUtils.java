@@ -35,9 +35,12 @@ import org.geysermc.geyser.GeyserImpl;
 
 import java.io.*;
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.util.Set;
 import java.util.function.Function;
@@ -45,6 +48,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class FileUtils {
+    /**
+     * Reused for hashing files; direct so file channel reads don't need an intermediate copy.
+     */
+    private static final ThreadLocal<ByteBuffer> DIGEST_BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(64 * 1024));
 
     /**
      * Load the given YAML file into the given class
@@ -151,15 +158,7 @@ public class FileUtils {
      * @return A byte[] representation of the hash
      */
     public static byte[] calculateSHA256(Path path) {
-        byte[] sha256;
-
-        try {
-            sha256 = MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(path));
-        } catch (Exception e) {
-            throw new RuntimeException("Could not calculate pack hash", e);
-        }
-
-        return sha256;
+        return digest(path, "SHA-256");
     }
 
     /**
@@ -169,15 +168,26 @@ public class FileUtils {
      * @return A byte[] representation of the hash
      */
     public static byte[] calculateSHA1(Path path) {
-        byte[] sha1;
+        return digest(path, "SHA-1");
+    }
 
-        try {
-            sha1 = MessageDigest.getInstance("SHA-1").digest(Files.readAllBytes(path));
+    /**
+     * Hashes a file in chunks, so large files (such as resource packs) never need to be held in memory.
+     */
+    private static byte[] digest(Path path, String algorithm) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance(algorithm);
+            ByteBuffer buffer = DIGEST_BUFFER.get();
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return digest.digest();
         } catch (Exception e) {
             throw new RuntimeException("Could not calculate pack hash", e);
         }
-
-        return sha1;
     }
 
     /**
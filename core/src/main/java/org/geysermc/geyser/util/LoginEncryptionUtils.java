@@ -26,8 +26,8 @@
 package org.geysermc.geyser.util;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.EventLoop;
 import net.raphimc.minecraftauth.step.msa.StepMsaDeviceCode;
 import org.cloudburstmc.protocol.bedrock.packet.LoginPacket;
 import org.cloudburstmc.protocol.bedrock.packet.ServerToClientHandshakePacket;
@@ -43,6 +43,9 @@ import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.session.GeyserSession;
 import org.geysermc.geyser.session.auth.AuthData;
 import org.geysermc.geyser.session.auth.BedrockClientData;
+import org.geysermc.geyser.session.auth.LoginCryptoExecutor;
+import org.geysermc.geyser.session.auth.LoginMetrics;
+import org.geysermc.geyser.session.auth.LoginStage;
 import org.geysermc.geyser.text.ChatColor;
 import org.geysermc.geyser.text.GeyserLocale;
 
@@ -55,67 +58,118 @@ import java.util.function.BiConsumer;
 public class LoginEncryptionUtils {
     private static final ObjectMapper JSON_MAPPER = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
-    private static boolean HAS_SENT_ENCRYPTION_MESSAGE = false;
+    private static volatile boolean HAS_SENT_ENCRYPTION_MESSAGE = false;
 
-    public static void encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket) {
-        encryptConnectionWithCert(session, loginPacket.getExtra(), loginPacket.getChain());
+    /**
+     * Verifies the login and sets up encryption for the connection. Chain validation and key agreement run on the
+     * {@link LoginCryptoExecutor}; {@code onSuccess} is then run on the session's Bedrock network thread, unless the
+     * session was disconnected in the meantime.
+     */
+    public static void encryptPlayerConnection(GeyserSession session, LoginPacket loginPacket, Runnable onSuccess) {
+        GeyserImpl geyser = session.getGeyser();
+        LoginCryptoExecutor cryptoExecutor = geyser.getLoginCryptoExecutor();
+        EventLoop eventLoop = session.getUpstream().getSession().getPeer().getChannel().eventLoop();
+        String clientData = loginPacket.getExtra();
+        List<String> certChainData = loginPacket.getChain();
+
+        boolean accepted = cryptoExecutor.submit(() -> {
+            try {
+                verifyLogin(session, eventLoop, cryptoExecutor, clientData, certChainData, onSuccess);
+            } catch (Throwable t) {
+                geyser.getLogger().error("Unable to complete login", t);
+                eventLoop.execute(() -> session.disconnect("disconnectionScreen.internalError.cantConnect"));
+            }
+        });
+
+        if (!accepted) {
+            geyser.getLogger().debug("Too many logins are queued; disconnecting new Bedrock connection.");
+            session.disconnect("disconnectionScreen.internalError.cantConnect");
+        }
     }
 
-    private static void encryptConnectionWithCert(GeyserSession session, String clientData, List<String> certChainData) {
-        try {
-            GeyserImpl geyser = session.getGeyser();
+    /**
+     * Runs on the login crypto executor.
+     */
+    private static void verifyLogin(GeyserSession session, EventLoop eventLoop, LoginCryptoExecutor cryptoExecutor,
+                                    String clientData, List<String> certChainData, Runnable onSuccess) throws Exception {
+        GeyserImpl geyser = session.getGeyser();
+        LoginMetrics metrics = cryptoExecutor.getMetrics();
 
-            ChainValidationResult result = EncryptionUtils.validateChain(certChainData);
+        long start = System.nanoTime();
+        ChainValidationResult result = cryptoExecutor.validateChain(certChainData);
+        start = metrics.record(LoginStage.VALIDATE, start);
 
-            geyser.getLogger().debug(String.format("Is player data signed? %s", result.signed()));
+        geyser.getLogger().debug(String.format("Is player data signed? %s", result.signed()));
 
-            if (!result.signed() && !session.getGeyser().getConfig().isEnableProxyConnections()) {
-                session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account"));
-                return;
-            }
+        if (!result.signed() && !geyser.getConfig().isEnableProxyConnections()) {
+            eventLoop.execute(() -> session.disconnect(GeyserLocale.getLocaleStringLog("geyser.network.remote.invalid_xbox_account")));
+            return;
+        }
 
-            IdentityData extraData = result.identityClaims().extraData;
-            session.setAuthData(new AuthData(extraData.displayName, extraData.identity, extraData.xuid));
-            session.setCertChainData(certChainData);
+        PublicKey identityPublicKey = result.identityClaims().parsedIdentityPublicKey();
 
-            PublicKey identityPublicKey = result.identityClaims().parsedIdentityPublicKey();
+        byte[] clientDataPayload = EncryptionUtils.verifyClientData(clientData, identityPublicKey);
+        if (clientDataPayload == null) {
+            throw new IllegalStateException("Client data isn't signed by the given chain data");
+        }
+
+        BedrockClientData data = JSON_MAPPER.readValue(clientDataPayload, BedrockClientData.class);
+        data.setOriginalString(clientData);
+        start = metrics.record(LoginStage.DECRYPT, start);
 
-            byte[] clientDataPayload = EncryptionUtils.verifyClientData(clientData, identityPublicKey);
-            if (clientDataPayload == null) {
-                throw new IllegalStateException("Client data isn't signed by the given chain data");
+        EncryptionHandshake handshake;
+        try {
+            handshake = createEncryptionHandshake(identityPublicKey);
+            metrics.record(LoginStage.HANDSHAKE, start);
+        } catch (Throwable e) {
+            // An error can be thrown on older Java 8 versions about an invalid key
+            if (geyser.getConfig().isDebugMode()) {
+                e.printStackTrace();
             }
 
-            JsonNode clientDataJson = JSON_MAPPER.readTree(clientDataPayload);
-            BedrockClientData data = JSON_MAPPER.convertValue(clientDataJson, BedrockClientData.class);
-            data.setOriginalString(clientData);
-            session.setClientData(data);
+            sendEncryptionFailedMessage(geyser);
+            handshake = null;
+        }
+
+        EncryptionHandshake finalHandshake = handshake;
+        eventLoop.execute(() -> {
+            if (session.isClosed()) {
+                // Disconnected while waiting for validation
+                return;
+            }
 
             try {
-                startEncryptionHandshake(session, identityPublicKey);
-            } catch (Throwable e) {
-                // An error can be thrown on older Java 8 versions about an invalid key
-                if (geyser.getConfig().isDebugMode()) {
-                    e.printStackTrace();
+                IdentityData extraData = result.identityClaims().extraData;
+                session.setAuthData(new AuthData(extraData.displayName, extraData.identity, extraData.xuid));
+                session.setCertChainData(certChainData);
+                session.setClientData(data);
+
+                if (finalHandshake != null) {
+                    ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
+                    packet.setJwt(finalHandshake.jwt());
+                    session.sendUpstreamPacketImmediately(packet);
+
+                    session.getUpstream().getSession().enableEncryption(finalHandshake.encryptionKey());
                 }
 
-                sendEncryptionFailedMessage(geyser);
+                onSuccess.run();
+            } catch (Throwable t) {
+                geyser.getLogger().error("Unable to complete login", t);
+                session.disconnect("disconnectionScreen.internalError.cantConnect");
             }
-        } catch (Exception ex) {
-            session.disconnect("disconnectionScreen.internalError.cantConnect");
-            throw new RuntimeException("Unable to complete login", ex);
-        }
+        });
     }
 
-    private static void startEncryptionHandshake(GeyserSession session, PublicKey key) throws Exception {
+    private static EncryptionHandshake createEncryptionHandshake(PublicKey key) throws Exception {
         KeyPair serverKeyPair = EncryptionUtils.createKeyPair();
         byte[] token = EncryptionUtils.generateRandomToken();
 
-        ServerToClientHandshakePacket packet = new ServerToClientHandshakePacket();
-        packet.setJwt(EncryptionUtils.createHandshakeJwt(serverKeyPair, token));
-        session.sendUpstreamPacketImmediately(packet);
-
+        String jwt = EncryptionUtils.createHandshakeJwt(serverKeyPair, token);
         SecretKey encryptionKey = EncryptionUtils.getSecretKey(serverKeyPair.getPrivate(), key, token);
-        session.getUpstream().getSession().enableEncryption(encryptionKey);
+        return new EncryptionHandshake(jwt, encryptionKey);
+    }
+
+    private record EncryptionHandshake(String jwt, SecretKey encryptionKey) {
     }
 
     private static void sendEncryptionFailedMessage(GeyserImpl geyser) {
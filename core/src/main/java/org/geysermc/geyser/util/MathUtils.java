@@ -178,4 +178,29 @@ public class MathUtils {
     public static long chunkPositionToLong(int x, int z) {
         return ((x & 0xFFFFFFFFL) << 32L) | (z & 0xFFFFFFFFL);
     }
+
+    /**
+     * Packs a block position into a single {@code long}, using the same layout as Java Edition.
+     * X and Z use 26 bits each, and Y uses 12 bits.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the packed coordinates
+     */
+    public static long blockPositionToLong(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38L) | ((z & 0x3FFFFFFL) << 12L) | (y & 0xFFFL);
+    }
+
+    public static int blockPositionX(long packed) {
+        return (int) (packed >> 38L);
+    }
+
+    public static int blockPositionY(long packed) {
+        return (int) (packed << 52L >> 52L);
+    }
+
+    public static int blockPositionZ(long packed) {
+        return (int) (packed << 26L >> 38L);
+    }
 }
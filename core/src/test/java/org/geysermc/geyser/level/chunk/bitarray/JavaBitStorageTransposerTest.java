@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.level.chunk.bitarray;
+
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.util.ChunkUtils;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.BitStorage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaBitStorageTransposerTest {
+
+    @Test
+    public void testTransposeEveryVersion() {
+        Random random = new Random(0);
+        for (int javaBits : new int[] {4, 5, 8, 15}) {
+            for (BitArrayVersion version : BitArrayVersion.values()) {
+                if (version == BitArrayVersion.V0) {
+                    continue;
+                }
+
+                int maxValue = Math.min(version.getMaxEntryValue(), (1 << javaBits) - 1);
+                BitStorage javaData = new BitStorage(javaBits, BlockStorage.SIZE);
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    javaData.set(yzx, random.nextInt(maxValue + 1));
+                }
+
+                BitArray bedrockData = version.createArray(BlockStorage.SIZE);
+                JavaBitStorageTransposer.transpose(javaData, bedrockData);
+
+                for (int yzx = 0; yzx < BlockStorage.SIZE; yzx++) {
+                    assertEquals(javaData.get(yzx), bedrockData.get(ChunkUtils.indexYZXtoXZY(yzx)),
+                            "Mismatch at " + yzx + " for " + version + " from " + javaBits + " Java bits");
+                }
+            }
+        }
+    }
+}
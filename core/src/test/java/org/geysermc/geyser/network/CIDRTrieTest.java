@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network;
+
+import com.google.common.primitives.Ints;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CIDRTrieTest {
+
+    @Test
+    public void testIPv4Ranges() throws Exception {
+        CIDRTrie trie = CIDRTrie.compile(List.of("173.245.48.0/20", "10.0.0.0/8", "192.168.1.5"));
+
+        assertTrue(trie.matches(InetAddress.getByName("173.245.48.1")));
+        assertTrue(trie.matches(InetAddress.getByName("173.245.63.255")));
+        assertFalse(trie.matches(InetAddress.getByName("173.245.64.0")));
+        assertTrue(trie.matches(InetAddress.getByName("10.255.0.1")));
+        assertTrue(trie.matches(InetAddress.getByName("192.168.1.5")));
+        assertFalse(trie.matches(InetAddress.getByName("192.168.1.6")));
+        assertFalse(trie.matches(InetAddress.getByName("::ffff:1")));
+    }
+
+    @Test
+    public void testIPv6Ranges() throws Exception {
+        CIDRTrie trie = CIDRTrie.compile(List.of("2400:cb00::/32", "::1"));
+
+        assertTrue(trie.matches(InetAddress.getByName("2400:cb00:1234::1")));
+        assertFalse(trie.matches(InetAddress.getByName("2400:cb01::1")));
+        assertTrue(trie.matches(InetAddress.getByName("::1")));
+        assertFalse(trie.matches(InetAddress.getByName("::2")));
+        assertFalse(trie.matches(InetAddress.getByName("36.0.203.0")));
+    }
+
+    @Test
+    public void testEdgeCases() throws Exception {
+        assertTrue(CIDRTrie.compile(List.of("0.0.0.0/0")).matches(InetAddress.getByName("8.8.8.8")));
+        assertFalse(CIDRTrie.empty().matches(InetAddress.getByName("8.8.8.8")));
+        assertThrows(IllegalArgumentException.class, () -> CIDRTrie.compile(List.of("10.0.0.0/33")));
+    }
+
+    @Test
+    public void testMatchesPrefixComparison() throws Exception {
+        List<String> ranges = List.of("103.21.244.0/22", "141.101.64.0/18", "104.16.0.0/13", "198.41.128.0/17", "1.2.3.4/32");
+        CIDRTrie trie = CIDRTrie.compile(ranges);
+
+        Random random = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            // Bias towards the ranges above so both outcomes are covered
+            byte[] address = new byte[4];
+            random.nextBytes(address);
+            if (i % 2 == 0) {
+                InetAddress base = InetAddress.getByName(ranges.get(random.nextInt(ranges.size())).split("/")[0]);
+                System.arraycopy(base.getAddress(), 0, address, 0, 2);
+            }
+            InetAddress inetAddress = InetAddress.getByAddress(address);
+
+            boolean expected = false;
+            for (String range : ranges) {
+                String[] split = range.split("/");
+                int prefix = Ints.fromByteArray(InetAddress.getByName(split[0]).getAddress());
+                int mask = -1 << (32 - Integer.parseInt(split[1]));
+                expected |= (Ints.fromByteArray(address) & mask) == (prefix & mask);
+            }
+            assertEquals(expected, trie.matches(inetAddress), inetAddress.toString());
+        }
+    }
+
+    @Test
+    public void testIPv4HashCodeIsAddress() throws Exception {
+        // CIDRTrie#matches relies on this to avoid copying the address
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            byte[] address = new byte[4];
+            random.nextBytes(address);
+            assertEquals(Ints.fromByteArray(address), InetAddress.getByAddress(address).hashCode());
+        }
+    }
+}
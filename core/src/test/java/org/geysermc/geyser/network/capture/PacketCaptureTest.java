@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.network.capture;
+
+import org.geysermc.mcprotocollib.protocol.data.ProtocolState;
+import org.geysermc.mcprotocollib.protocol.packet.common.clientbound.ClientboundKeepAlivePacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundSetTimePacket;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PacketCaptureTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        ClientboundKeepAlivePacket keepAlive = new ClientboundKeepAlivePacket(1234L);
+        ClientboundSetTimePacket setTime = new ClientboundSetTimePacket(100L, 6000L, true);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PacketCapture capture = new PacketCapture(out);
+        capture.record(keepAlive, ProtocolState.GAME);
+        Thread.sleep(5);
+        // The inbound state may already have changed by the time a packet is recorded
+        capture.record(setTime, ProtocolState.CONFIGURATION);
+        capture.close();
+        awaitWriter();
+
+        try (PacketCaptureReader reader = new PacketCaptureReader(new ByteArrayInputStream(out.toByteArray()))) {
+            PacketCaptureReader.Record first = reader.next();
+            assertNotNull(first);
+            assertEquals(ProtocolState.GAME, first.state());
+            assertEquals(keepAlive, first.decode());
+
+            PacketCaptureReader.Record second = reader.next();
+            assertNotNull(second);
+            assertEquals(ProtocolState.GAME, second.state());
+            assertEquals(setTime, second.decode());
+            assertTrue(second.timeNanos() - first.timeNanos() >= TimeUnit.MILLISECONDS.toNanos(4));
+
+            assertNull(reader.next());
+        }
+    }
+
+    private static void awaitWriter() throws Exception {
+        // Records are written on a single background thread; a new capture's close is queued behind them
+        ByteArrayOutputStream marker = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        };
+        PacketCapture barrier = new PacketCapture(marker);
+        synchronized (marker) {
+            barrier.close();
+            marker.wait(5000);
+        }
+    }
+}
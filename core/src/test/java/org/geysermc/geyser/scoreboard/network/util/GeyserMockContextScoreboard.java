@@ -42,7 +42,10 @@ import org.geysermc.geyser.GeyserImpl;
 import org.geysermc.geyser.entity.type.player.PlayerEntity;
 import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
 import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure;
 import org.geysermc.geyser.session.cache.EntityCache;
+import org.geysermc.geyser.session.cache.EntityInterestCache;
+import org.geysermc.geyser.session.cache.PlayerListSkinCache;
 import org.geysermc.geyser.session.cache.WorldCache;
 import org.mockito.stubbing.Answer;
 
@@ -77,6 +80,9 @@ public class GeyserMockContextScoreboard {
 
         var entityCache = context.spy(new EntityCache(session));
         when(session.getEntityCache()).thenReturn(entityCache);
+        when(session.getEntityInterestCache()).thenReturn(new EntityInterestCache(session));
+        when(session.getUpstreamPressure()).thenReturn(new UpstreamPressure(session));
+        when(session.getPlayerListSkinCache()).thenReturn(context.mock(PlayerListSkinCache.class));
 
         var worldCache = context.spy(new WorldCache(session));
         when(session.getWorldCache()).thenReturn(worldCache);
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session;
+
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.session.UpstreamPressure.Tier;
+import org.geysermc.geyser.session.UpstreamPressure.Traffic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class UpstreamPressureTest {
+    private ChunkBatchSizeCalculator calculator;
+    private UpstreamPressure pressure;
+
+    @BeforeEach
+    void setUp() {
+        GeyserConfiguration config = mock(GeyserConfiguration.class);
+        when(config.getUpstreamPressureElevatedDelay()).thenReturn(300);
+        when(config.getUpstreamPressureHighDelay()).thenReturn(1000);
+        GeyserImpl geyser = mock(GeyserImpl.class);
+        when(geyser.getConfig()).thenReturn(config);
+
+        UpstreamSession upstream = mock(UpstreamSession.class);
+        when(upstream.isClosed()).thenReturn(true);
+        calculator = mock(ChunkBatchSizeCalculator.class);
+
+        GeyserSession session = mock(GeyserSession.class);
+        when(session.getGeyser()).thenReturn(geyser);
+        when(session.getUpstream()).thenReturn(upstream);
+        when(session.getChunkBatchSizeCalculator()).thenReturn(calculator);
+
+        pressure = new UpstreamPressure(session);
+    }
+
+    private void tick(double rtt, int ticks) {
+        when(calculator.roundTripMillis()).thenReturn(rtt);
+        for (int i = 0; i < ticks; i++) {
+            pressure.tick();
+        }
+    }
+
+    @Test
+    void risesImmediatelyAndRecoversGradually() {
+        tick(50, 10);
+        assertEquals(Tier.NONE, pressure.getTier());
+
+        tick(1200, 1);
+        assertEquals(Tier.HIGH, pressure.getTier());
+        assertEquals(1150, pressure.getQueueDelayMillis(), 1);
+
+        // Caught up, but the tier is only left after a while, and one step at a time
+        tick(50, 1);
+        assertEquals(Tier.HIGH, pressure.getTier());
+        tick(50, 40);
+        assertEquals(Tier.ELEVATED, pressure.getTier());
+        tick(50, 40);
+        assertEquals(Tier.NONE, pressure.getTier());
+    }
+
+    @Test
+    void recoveryNeedsConsecutiveTicks() {
+        tick(50, 1);
+        tick(500, 1);
+        assertEquals(Tier.ELEVATED, pressure.getTier());
+
+        // Dips below the recovery threshold don't add up while the delay keeps coming back
+        for (int i = 0; i < 40; i++) {
+            tick(150, 1);
+            tick(300, 1);
+        }
+        assertEquals(Tier.ELEVATED, pressure.getTier());
+
+        tick(150, 39);
+        assertEquals(Tier.ELEVATED, pressure.getTier());
+        tick(150, 1);
+        assertEquals(Tier.NONE, pressure.getTier());
+    }
+
+    @Test
+    void thinsAndDropsByTier() {
+        tick(50, 1);
+        assertEquals(100, pressure.limit(Traffic.PARTICLES, 100));
+        assertTrue(pressure.allow(Traffic.WORLD_BORDER_PARTICLES));
+
+        tick(500, 1);
+        assertEquals(Tier.ELEVATED, pressure.getTier());
+        assertEquals(25, pressure.limit(Traffic.PARTICLES, 100));
+        assertFalse(pressure.allow(Traffic.WORLD_BORDER_PARTICLES));
+        assertTrue(pressure.allow(Traffic.SOUNDS));
+
+        tick(1500, 1);
+        assertEquals(0, pressure.limit(Traffic.PARTICLES, 100));
+        assertFalse(pressure.allow(Traffic.SOUNDS));
+
+        assertEquals(175, pressure.getDropped(Traffic.PARTICLES));
+        assertEquals(1, pressure.getDropped(Traffic.WORLD_BORDER_PARTICLES));
+        assertEquals(1, pressure.getDropped(Traffic.SOUNDS));
+    }
+}
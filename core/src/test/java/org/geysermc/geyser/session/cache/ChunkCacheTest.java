@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.geysermc.geyser.session.GeyserSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ChunkCacheTest {
+    private ChunkCache cache;
+    private final Object owner = new Object();
+
+    @BeforeEach
+    void setUp() {
+        // Watched blocks are also tracked when the platform keeps the chunks
+        GeyserSession session = mock(GeyserSession.class, RETURNS_DEEP_STUBS);
+        when(session.getGeyser().getWorldManager().hasOwnChunkCache()).thenReturn(true);
+        cache = new ChunkCache(session);
+        cache.watchBlocks(owner, -3, 60, 14, 1, 64, 18);
+    }
+
+    @Test
+    void blockUpdatesOutsideTheWatchedArea() {
+        assertFalse(cache.haveWatchedBlocksChanged(owner));
+        cache.updateBlock(2, 62, 16, 1);
+        cache.updateBlock(0, 59, 16, 1);
+        cache.updateBlock(0, 62, 19, 1);
+        cache.removeChunk(1, 0);
+        cache.addToCache(-1, 2, null);
+        assertFalse(cache.haveWatchedBlocksChanged(owner));
+    }
+
+    @Test
+    void blockUpdatesInsideTheWatchedArea() {
+        cache.updateBlock(-3, 64, 14, 1);
+        assertTrue(cache.haveWatchedBlocksChanged(owner));
+
+        cache.watchBlocks(owner, -3, 60, 14, 1, 64, 18);
+        assertFalse(cache.haveWatchedBlocksChanged(owner));
+        cache.removeChunk(-1, 1);
+        assertTrue(cache.haveWatchedBlocksChanged(owner));
+
+        cache.watchBlocks(owner, -3, 60, 14, 1, 64, 18);
+        cache.clear();
+        assertTrue(cache.haveWatchedBlocksChanged(owner));
+    }
+
+    @Test
+    void anotherOwner() {
+        Object other = new Object();
+        cache.watchBlocks(other, 100, 60, 100, 104, 64, 104);
+        assertTrue(cache.haveWatchedBlocksChanged(owner));
+        assertFalse(cache.haveWatchedBlocksChanged(other));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChunkIndexedMapTest {
+
+    @Test
+    public void testChunkBoundaries() {
+        ChunkIndexedMap<String> map = new ChunkIndexedMap<>();
+        map.put(Vector3i.from(0, 64, 0), "a");
+        map.put(Vector3i.from(15, -64, 15), "b");
+        map.put(Vector3i.from(16, 64, 0), "c");
+        map.put(Vector3i.from(0, 64, 16), "d");
+        assertEquals(4, map.size());
+
+        assertEquals(Set.of("a", "b"), Set.copyOf(map.getChunk(0, 0)));
+        assertEquals(Set.of("a", "b"), Set.copyOf(map.removeChunk(0, 0)));
+        assertEquals(2, map.size());
+        assertNull(map.get(Vector3i.from(15, -64, 15)));
+        assertEquals("c", map.get(Vector3i.from(16, 64, 0)));
+        assertEquals("d", map.get(Vector3i.from(0, 64, 16)));
+
+        assertTrue(map.removeChunk(0, 0).isEmpty());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testNegativeChunks() {
+        ChunkIndexedMap<String> map = new ChunkIndexedMap<>();
+        map.put(Vector3i.from(-1, 0, -1), "a");
+        map.put(Vector3i.from(-16, 0, -16), "b");
+        map.put(Vector3i.from(-17, 0, 0), "c");
+        map.put(Vector3i.from(0, 0, -17), "d");
+
+        assertEquals(Set.of("a", "b"), Set.copyOf(map.getChunk(-1, -1)));
+        assertEquals(Set.of("c"), Set.copyOf(map.getChunk(-2, 0)));
+        assertEquals(Set.of("d"), Set.copyOf(map.getChunk(0, -2)));
+        assertTrue(map.getChunk(0, 0).isEmpty());
+
+        assertEquals(Set.of("a", "b"), Set.copyOf(map.removeChunk(-1, -1)));
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey(Vector3i.from(-1, 0, -1)));
+        assertTrue(map.containsKey(Vector3i.from(-17, 0, 0)));
+    }
+
+    @Test
+    public void testForEachInChunks() {
+        ChunkIndexedMap<Vector3i> map = new ChunkIndexedMap<>();
+        for (int chunkX = -3; chunkX <= 3; chunkX++) {
+            for (int chunkZ = -3; chunkZ <= 3; chunkZ++) {
+                Vector3i position = Vector3i.from(chunkX * 16 + 8, 0, chunkZ * 16 + 8);
+                map.put(position, Vector3i.from(chunkX, 0, chunkZ));
+            }
+        }
+
+        // Small area: looks up each chunk in the bounds
+        assertChunks(map, -1, -1, 1, 1);
+        assertChunks(map, -3, 2, -2, 3);
+        // Area larger than the number of populated chunks: scans the populated chunks instead
+        assertChunks(map, -100, -100, 0, 100);
+        assertChunks(map, -2, -2, 2, 1000);
+    }
+
+    @Test
+    public void testRemove() {
+        ChunkIndexedMap<String> map = new ChunkIndexedMap<>();
+        Vector3i position = Vector3i.from(-5, 10, 20);
+        map.put(position, "a");
+        assertFalse(map.remove(position, "b"));
+        assertEquals(1, map.size());
+        assertTrue(map.remove(position, "a"));
+        assertTrue(map.isEmpty());
+        assertTrue(map.getChunk(-1, 1).isEmpty());
+        assertNull(map.remove(position));
+
+        assertEquals("c", map.computeIfAbsent(position, $ -> "c"));
+        assertEquals("c", map.computeIfAbsent(position, $ -> "d"));
+        assertEquals(1, map.size());
+    }
+
+    private static void assertChunks(ChunkIndexedMap<Vector3i> map, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        List<Vector3i> expected = new ArrayList<>();
+        for (Vector3i chunk : map.values()) {
+            if (chunk.getX() >= minChunkX && chunk.getX() <= maxChunkX && chunk.getZ() >= minChunkZ && chunk.getZ() <= maxChunkZ) {
+                expected.add(chunk);
+            }
+        }
+
+        List<Vector3i> visited = new ArrayList<>();
+        map.forEachInChunks(minChunkX, minChunkZ, maxChunkX, maxChunkZ, visited::add);
+        assertEquals(expected.size(), visited.size());
+        assertEquals(Set.copyOf(expected), Set.copyOf(visited));
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.cloudburstmc.protocol.bedrock.packet.MoveEntityAbsolutePacket;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.configuration.GeyserConfiguration;
+import org.geysermc.geyser.entity.EntityDefinitions;
+import org.geysermc.geyser.entity.type.Entity;
+import org.geysermc.geyser.entity.type.living.ArmorStandEntity;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.UpstreamPressure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.UUID;
+
+import static org.geysermc.geyser.scoreboard.network.util.GeyserMockContext.mockContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EntityInterestCacheTest {
+    private GeyserSession session;
+    private EntityInterestCache cache;
+
+    @BeforeEach
+    void setUp() {
+        GeyserConfiguration config = mock(GeyserConfiguration.class);
+        when(config.getEntityFullRateDistance()).thenReturn(16);
+        when(config.getEntityReducedRateInterval()).thenReturn(4);
+        when(config.getEntitySpawnDistance()).thenReturn(32);
+        GeyserImpl geyser = mock(GeyserImpl.class);
+        when(geyser.getConfig()).thenReturn(config);
+
+        // Standing at the origin, looking towards positive Z
+        SessionPlayerEntity player = mock(SessionPlayerEntity.class);
+        when(player.getPosition()).thenReturn(Vector3f.ZERO);
+        UpstreamPressure pressure = mock(UpstreamPressure.class);
+        when(pressure.getTier()).thenReturn(UpstreamPressure.Tier.NONE);
+
+        session = mock(GeyserSession.class);
+        when(session.getGeyser()).thenReturn(geyser);
+        when(session.getPlayerEntity()).thenReturn(player);
+        when(session.getUpstreamPressure()).thenReturn(pressure);
+
+        cache = new EntityInterestCache(session);
+        when(session.getEntityInterestCache()).thenReturn(cache);
+    }
+
+    private static Entity entity(long geyserId, float x, float y, float z) {
+        Entity entity = mock(Entity.class);
+        when(entity.getGeyserId()).thenReturn(geyserId);
+        when(entity.getPosition()).thenReturn(Vector3f.from(x, y, z));
+        return entity;
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            cache.tick();
+        }
+    }
+
+    @Test
+    void nearbyMovesAreSentRightAway() {
+        assertFalse(cache.deferMove(entity(1, 0, 0, 12)));
+        // Behind the player, but still close
+        assertFalse(cache.deferMove(entity(2, 0, 0, -6)));
+    }
+
+    @Test
+    void distantMovesAreCoalesced() {
+        Entity far = entity(1, 0, 0, 40);
+        Entity behind = entity(2, 0, 0, -12);
+        assertTrue(cache.deferMove(far));
+        assertTrue(cache.deferMove(behind));
+
+        assertTrue(cache.consumePendingMove(far));
+        assertFalse(cache.consumePendingMove(far));
+        assertTrue(cache.consumePendingMove(behind));
+    }
+
+    @Test
+    void coalescedMovesAreSentOncePerInterval() {
+        Entity far = entity(7, 0, 0, 40);
+        for (int i = 0; i < 4; i++) {
+            // Moves every tick, but the client only hears about it every fourth
+            cache.deferMove(far);
+            tick(1);
+        }
+        verify(far, times(1)).sendCoalescedMove();
+
+        for (int i = 0; i < 4; i++) {
+            cache.deferMove(far);
+            tick(1);
+        }
+        verify(far, times(2)).sendCoalescedMove();
+        assertFalse(cache.consumePendingMove(far));
+    }
+
+    @Test
+    void distantSpawnsAreDeferredUntilInRange() {
+        Entity entity = entity(1, 0, 0, 100);
+        assertTrue(cache.deferSpawn(entity));
+        // Movement of an entity the client doesn't know about yet is held back as well
+        assertTrue(cache.deferMove(entity));
+
+        tick(20);
+        verify(entity, never()).spawnEntity();
+
+        when(entity.getPosition()).thenReturn(Vector3f.from(0, 0, 20));
+        tick(10);
+        verify(entity, times(1)).spawnEntity();
+
+        assertFalse(cache.deferSpawn(entity(2, 0, 0, 20)));
+    }
+
+    @Test
+    void ensureSpawnedSpawnsDeferredEntities() {
+        Entity entity = entity(1, 0, 0, 100);
+        assertTrue(cache.deferSpawn(entity));
+        cache.ensureSpawned(entity);
+        verify(entity, times(1)).spawnEntity();
+
+        cache.ensureSpawned(entity);
+        verify(entity, times(1)).spawnEntity();
+    }
+
+    @Test
+    void coalescedArmorStandMovesKeepTheNametagOffset() {
+        mockContext(context -> {
+            ArmorStandEntity armorStand = spy(new ArmorStandEntity(session, 1, 3, UUID.randomUUID(), EntityDefinitions.ARMOR_STAND,
+                Vector3f.ZERO, Vector3f.ZERO, 0, 0, 0));
+            doReturn(0.5f).when(armorStand).getYOffset();
+            armorStand.setValid(true);
+
+            armorStand.moveAbsolute(Vector3f.from(0, 64, 40), 0, 0, 0, false, false);
+            verify(session, never()).sendUpstreamPacket(any());
+            assertEquals(64f, armorStand.getPosition().getY());
+
+            tick(4);
+            ArgumentCaptor<MoveEntityAbsolutePacket> captor = ArgumentCaptor.forClass(MoveEntityAbsolutePacket.class);
+            verify(session, times(1)).sendUpstreamPacket(captor.capture());
+            assertEquals(64.5f, captor.getValue().getPosition().getY());
+        });
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3i;
+import org.geysermc.geyser.level.physics.Axis;
+import org.geysermc.geyser.level.physics.BoundingBox;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.translator.level.block.entity.PistonBlockEntity;
+import org.geysermc.geyser.util.MathUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PistonCacheTest {
+
+    @Test
+    public void testGetOrCreatePiston() {
+        PistonCache cache = new PistonCache(mock(GeyserSession.class));
+        PistonBlockEntity piston = mock(PistonBlockEntity.class);
+        assertFalse(cache.hasPistons());
+
+        assertSame(piston, cache.getOrCreatePiston(Vector3i.from(-5, -64, 7), $ -> piston));
+        assertSame(piston, cache.getOrCreatePiston(Vector3i.from(-5, -64, 7), $ -> mock(PistonBlockEntity.class)));
+        assertTrue(cache.hasPistons());
+    }
+
+    @Test
+    public void testMovingBlockLookups() {
+        PistonCache cache = new PistonCache(mock(GeyserSession.class));
+        PistonBlockEntity piston = mock(PistonBlockEntity.class);
+        BoundingBox box = new BoundingBox(0, 0, 0, 1, 1, 1);
+        when(piston.computeCollisionOffset(anyInt(), anyInt(), anyInt(), any(), any(), anyDouble())).thenReturn(0.25);
+        when(piston.checkCollision(anyInt(), anyInt(), anyInt(), any())).thenReturn(true);
+
+        cache.addMovingBlock(MathUtils.blockPositionToLong(-1, -60, -1), piston);
+        assertTrue(cache.hasMovingBlocks());
+
+        assertEquals(0.25, cache.computeCollisionOffset(-1, -60, -1, box, Axis.Y, 1));
+        verify(piston).computeCollisionOffset(eq(-1), eq(-60), eq(-1), any(), eq(Axis.Y), eq(1.0));
+        assertTrue(cache.checkCollision(-1, -60, -1, box));
+
+        // Neighbouring blocks are not moving
+        assertEquals(1, cache.computeCollisionOffset(-1, -59, -1, box, Axis.Y, 1));
+        assertEquals(1, cache.computeCollisionOffset(0, -60, -1, box, Axis.Y, 1));
+        assertFalse(cache.checkCollision(-1, -60, 0, box));
+        verify(piston, never()).checkCollision(eq(-1), eq(-60), eq(0), any());
+
+        cache.removeMovingBlock(MathUtils.blockPositionToLong(-1, -60, -1));
+        assertFalse(cache.hasMovingBlocks());
+        assertEquals(1, cache.computeCollisionOffset(-1, -60, -1, box, Axis.Y, 1));
+    }
+
+    @Test
+    public void testNearMovingBlocks() {
+        PistonCache cache = new PistonCache(mock(GeyserSession.class));
+        PistonBlockEntity piston = mock(PistonBlockEntity.class);
+        assertFalse(cache.isNearMovingBlocks(-100, -100, -100, 100, 100, 100));
+
+        cache.addMovingBlock(MathUtils.blockPositionToLong(-10, 5, 20), piston);
+        cache.addMovingBlock(MathUtils.blockPositionToLong(-8, 6, 22), piston);
+
+        assertTrue(cache.isNearMovingBlocks(-10, 5, 20, -10, 5, 20));
+        // Moving blocks can travel one block away from their starting position
+        assertTrue(cache.isNearMovingBlocks(-7, 7, 23, -5, 9, 25));
+        assertTrue(cache.isNearMovingBlocks(-13, 2, 17, -11, 4, 19));
+        assertFalse(cache.isNearMovingBlocks(-6, 5, 20, -4, 6, 22));
+        assertFalse(cache.isNearMovingBlocks(-10, 8, 20, -8, 10, 22));
+        assertFalse(cache.isNearMovingBlocks(-10, 5, 15, -8, 6, 18));
+
+        // Bounds shrink once a moving block is removed
+        cache.removeMovingBlock(MathUtils.blockPositionToLong(-8, 6, 22));
+        assertFalse(cache.isNearMovingBlocks(-7, 7, 23, -5, 9, 25));
+        assertTrue(cache.isNearMovingBlocks(-9, 6, 21, -9, 6, 21));
+
+        cache.clear();
+        assertFalse(cache.isNearMovingBlocks(-10, 5, 20, -10, 5, 20));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.session.cache;
+
+import org.cloudburstmc.math.vector.Vector3f;
+import org.cloudburstmc.protocol.bedrock.data.entity.EntityFlag;
+import org.geysermc.geyser.entity.type.player.PlayerEntity;
+import org.geysermc.geyser.entity.type.player.SessionPlayerEntity;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.skin.SkinManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.when;
+
+public class PlayerListSkinCacheTest {
+    private GeyserSession session;
+    private PlayerListSkinCache cache;
+    private MockedStatic<SkinManager> skinManager;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(GeyserSession.class, RETURNS_DEEP_STUBS);
+        when(session.getGeyser().getConfig().isLazyPlayerListSkins()).thenReturn(true);
+        SessionPlayerEntity player = mock(SessionPlayerEntity.class);
+        when(player.getPosition()).thenReturn(Vector3f.ZERO);
+        when(session.getPlayerEntity()).thenReturn(player);
+
+        cache = new PlayerListSkinCache(session);
+        skinManager = mockStatic(SkinManager.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        skinManager.close();
+    }
+
+    @Test
+    void listedPlayersWaitForSpawn() {
+        PlayerEntity entity = player(10, false);
+        cache.listed(entity);
+        cache.tick();
+        assertEquals(0, cache.size());
+        assertNotRequested(entity);
+
+        when(entity.isValid()).thenReturn(true);
+        cache.spawned(entity);
+        cache.tick();
+        assertRequested(entity);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void listedWhileSpawned() {
+        PlayerEntity entity = player(10, true);
+        cache.listed(entity);
+        cache.tick();
+        assertRequested(entity);
+    }
+
+    @Test
+    void closestFirst() {
+        PlayerEntity[] players = new PlayerEntity[6];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = player(60 - i * 10, true);
+            cache.spawned(players[i]);
+        }
+
+        cache.tick();
+        for (int i = 0; i < players.length; i++) {
+            if (i < 2) {
+                assertNotRequested(players[i]);
+            } else {
+                assertRequested(players[i]);
+            }
+        }
+        assertEquals(2, cache.size());
+
+        cache.tick();
+        assertRequested(players[0]);
+        assertRequested(players[1]);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invisibleAndDespawnedPlayers() {
+        PlayerEntity invisible = player(10, true);
+        when(invisible.getFlag(EntityFlag.INVISIBLE)).thenReturn(true);
+        PlayerEntity despawned = player(10, true);
+        cache.spawned(invisible);
+        cache.spawned(despawned);
+        when(despawned.isValid()).thenReturn(false);
+
+        cache.tick();
+        assertNotRequested(invisible);
+        assertNotRequested(despawned);
+        // Invisible players stay queued until they can be seen; despawned players until they spawn again
+        assertEquals(1, cache.size());
+
+        when(invisible.getFlag(EntityFlag.INVISIBLE)).thenReturn(false);
+        cache.tick();
+        assertRequested(invisible);
+    }
+
+    @Test
+    void removedFromPlayerList() {
+        PlayerEntity entity = player(10, true);
+        cache.spawned(entity);
+        cache.remove(entity.getUuid());
+        assertEquals(0, cache.size());
+
+        cache.tick();
+        assertNotRequested(entity);
+    }
+
+    private static PlayerEntity player(float distance, boolean valid) {
+        PlayerEntity entity = mock(PlayerEntity.class);
+        when(entity.getUuid()).thenReturn(UUID.randomUUID());
+        when(entity.getPosition()).thenReturn(Vector3f.from(distance, 0, 0));
+        when(entity.isValid()).thenReturn(valid);
+        return entity;
+    }
+
+    private void assertRequested(PlayerEntity entity) {
+        skinManager.verify(() -> SkinManager.requestAndHandleSkinAndCape(eq(entity), eq(session), any()));
+    }
+
+    private void assertNotRequested(PlayerEntity entity) {
+        skinManager.verify(() -> SkinManager.requestAndHandleSkinAndCape(eq(entity), eq(session), any()), never());
+    }
+}
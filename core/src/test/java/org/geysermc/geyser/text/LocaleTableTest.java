@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocaleTableTest {
+
+    @Test
+    public void testLookups() {
+        Map<String, String> translations = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            translations.put("item.minecraft.test_" + i, "Test Item " + i);
+        }
+        translations.put("empty", "");
+        translations.put("unicode", "Prüfung §a✓");
+
+        LocaleTable table = LocaleTable.of(translations);
+        assertEquals(translations.size(), table.size());
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            assertEquals(entry.getValue(), table.get(entry.getKey()));
+        }
+
+        assertTrue(table.containsKey("empty"));
+        assertFalse(table.containsKey("item.minecraft.test_5000"));
+        assertNull(table.get("item.minecraft.test_5000"));
+        assertEquals("fallback", table.getOrDefault("missing", "fallback"));
+        // Repeated lookups reuse the decoded value
+        assertSame(table.get("unicode"), table.get("unicode"));
+    }
+
+    @Test
+    public void testEmpty() {
+        LocaleTable table = LocaleTable.of(Map.of());
+        assertEquals(0, table.size());
+        assertNull(table.get("anything"));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.level;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.cloudburstmc.protocol.common.util.VarInts;
+import org.geysermc.geyser.level.chunk.BlockStorage;
+import org.geysermc.geyser.level.chunk.bitarray.BitArray;
+import org.geysermc.geyser.level.chunk.bitarray.BitArrayVersion;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.registry.JavaRegistry;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BiomeTranslatorTest {
+    /**
+     * Java biome IDs to Bedrock biome IDs. Java biomes 0 and 10 both become Bedrock biome 3.
+     */
+    private static final IntUnaryOperator BEDROCK_BIOMES = javaId -> javaId % 10 + 3;
+
+    private GeyserSession session;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        JavaRegistry<Integer> biomes = mock(JavaRegistry.class);
+        when(biomes.byId(anyInt())).thenAnswer(invocation -> BEDROCK_BIOMES.applyAsInt(invocation.getArgument(0)));
+        session = mock(GeyserSession.class, RETURNS_DEEP_STUBS);
+        when(session.getRegistryCache().registry(any())).thenReturn((JavaRegistry) biomes);
+    }
+
+    @Test
+    public void testSingleBiome() {
+        DataPalette biomes = DataPalette.createForBiome();
+        assertBiomes(biomes, write(biomes));
+
+        // Java biomes that translate to the same Bedrock biome are written as a single biome section
+        DataPalette merged = DataPalette.createForBiome();
+        merged.set(1, 2, 3, 10);
+        ByteBuf buffer = write(merged);
+        assertEquals(BitArrayVersion.V0.getId() << 1 | 1, buffer.getUnsignedByte(0));
+        assertBiomes(merged, buffer);
+    }
+
+    @Test
+    public void testPalettedSections() {
+        Random random = new Random(0);
+        for (int biomeCount : new int[] {2, 3, 5, 9, 17, 33}) {
+            DataPalette biomes = DataPalette.createForBiome();
+            for (int x = 0; x < 4; x++) {
+                for (int y = 0; y < 4; y++) {
+                    for (int z = 0; z < 4; z++) {
+                        biomes.set(x, y, z, random.nextInt(biomeCount));
+                    }
+                }
+            }
+            assertBiomes(biomes, write(biomes));
+            // Encoded again from the shared cache
+            assertBiomes(biomes, write(biomes));
+        }
+    }
+
+    @Test
+    public void testSameBedrockSectionFromDifferentJavaPalettes() {
+        DataPalette first = DataPalette.createForBiome();
+        DataPalette second = DataPalette.createForBiome();
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                for (int z = 0; z < 4; z++) {
+                    boolean odd = ((x + y + z) & 1) == 1;
+                    first.set(x, y, z, odd ? 1 : 2);
+                    // Java biomes 1 and 11, and 0 and 10, translate to the same Bedrock biomes
+                    second.set(x, y, z, odd ? 11 : 2);
+                }
+            }
+        }
+        second.set(0, 0, 0, 0);
+        first.set(0, 0, 0, 10);
+
+        assertArrayEquals(ByteBufUtil.getBytes(write(first)), ByteBufUtil.getBytes(write(second)));
+    }
+
+    private ByteBuf write(DataPalette biomes) {
+        ByteBuf buffer = Unpooled.buffer();
+        BiomeTranslator.writeBedrockBiome(session, biomes, buffer);
+        return buffer;
+    }
+
+    /**
+     * Reads back a Bedrock biome section and checks it against the Java section for every block.
+     */
+    private static void assertBiomes(DataPalette expected, ByteBuf buffer) {
+        int bits = buffer.readUnsignedByte() >> 1;
+        int[] palette;
+        BitArray bitArray = null;
+        if (bits == 0) {
+            palette = new int[] {VarInts.readInt(buffer)};
+        } else {
+            BitArrayVersion version = BitArrayVersion.get(bits, true);
+            int[] words = new int[(BlockStorage.SIZE + version.getEntriesPerWord() - 1) / version.getEntriesPerWord()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = buffer.readIntLE();
+            }
+            bitArray = version.createArray(BlockStorage.SIZE, words);
+            palette = new int[VarInts.readInt(buffer)];
+            for (int i = 0; i < palette.length; i++) {
+                palette[i] = VarInts.readInt(buffer);
+            }
+        }
+        assertEquals(0, buffer.readableBytes());
+
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    int paletteIndex = bitArray == null ? 0 : bitArray.get(x << 8 | z << 4 | y);
+                    assertEquals(BEDROCK_BIOMES.applyAsInt(expected.get(x >> 2, y >> 2, z >> 2)), palette[paletteIndex],
+                            "Mismatch at " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+    }
+}
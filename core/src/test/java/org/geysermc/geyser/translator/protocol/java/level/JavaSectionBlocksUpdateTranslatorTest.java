@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.translator.protocol.java.level;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import org.cloudburstmc.math.vector.Vector3i;
+import org.cloudburstmc.protocol.bedrock.data.definitions.BlockDefinition;
+import org.cloudburstmc.protocol.bedrock.packet.UpdateSubChunkBlocksPacket;
+import org.geysermc.geyser.entity.type.ItemFrameEntity;
+import org.geysermc.geyser.level.block.type.Block;
+import org.geysermc.geyser.level.block.type.BlockState;
+import org.geysermc.geyser.registry.type.BlockMappings;
+import org.geysermc.geyser.registry.type.GeyserBedrockBlock;
+import org.geysermc.geyser.session.GeyserSession;
+import org.geysermc.geyser.session.cache.ChunkIndexedMap;
+import org.geysermc.geyser.session.cache.SkullCache;
+import org.geysermc.geyser.session.cache.WorldCache;
+import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockChangeEntry;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundSectionBlocksUpdatePacket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JavaSectionBlocksUpdateTranslatorTest {
+    private static final int BATCHED_BLOCK = 1;
+    private static final int UNBATCHED_BLOCK = 2;
+
+    private final JavaSectionBlocksUpdateTranslator translator = new JavaSectionBlocksUpdateTranslator();
+    private GeyserSession session;
+    private BlockMappings mappings;
+    private WorldCache worldCache;
+    private ChunkIndexedMap<ItemFrameEntity> itemFrames;
+    private MockedStatic<BlockState> blockStates;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(GeyserSession.class);
+        mappings = mock(BlockMappings.class);
+        worldCache = mock(WorldCache.class);
+        itemFrames = new ChunkIndexedMap<>();
+        when(session.getBlockMappings()).thenReturn(mappings);
+        when(session.getWorldCache()).thenReturn(worldCache);
+        when(session.getSkullCache()).thenReturn(mock(SkullCache.class));
+        when(session.getItemFrameCache()).thenReturn(itemFrames);
+        when(mappings.getExtendedCollisionBoxes()).thenReturn(Int2ObjectMaps.emptyMap());
+        when(mappings.getBedrockBlock(any(BlockState.class))).thenReturn(mock(BlockDefinition.class));
+        when(mappings.getBedrockAir()).thenReturn(mock(GeyserBedrockBlock.class));
+
+        BlockState batched = state(true);
+        BlockState unbatched = state(false);
+        blockStates = mockStatic(BlockState.class);
+        blockStates.when(() -> BlockState.of(anyInt())).thenReturn(batched);
+        blockStates.when(() -> BlockState.of(UNBATCHED_BLOCK)).thenReturn(unbatched);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockStates.close();
+    }
+
+    @Test
+    void smallUpdatesAreNotBatched() {
+        translate(BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK);
+        verify(worldCache, times(3)).updateServerCorrectBlockState(any(), eq(BATCHED_BLOCK));
+        verify(session, never()).sendUpstreamPacket(any());
+    }
+
+    @Test
+    void batchedUpdates() {
+        translate(BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK);
+        verify(worldCache, never()).updateServerCorrectBlockState(any(), anyInt());
+        verify(worldCache, times(4)).cacheServerCorrectBlockState(any(), eq(BATCHED_BLOCK));
+
+        UpdateSubChunkBlocksPacket packet = sentPacket();
+        assertEquals(4, packet.getStandardBlocks().size());
+        assertEquals(4, packet.getExtraBlocks().size());
+        // NEIGHBORS and NETWORK
+        assertEquals(0b11, packet.getStandardBlocks().get(0).getUpdateFlags());
+        assertEquals(0, packet.getExtraBlocks().get(0).getUpdateFlags());
+    }
+
+    @Test
+    void blocksThatCannotBeBatched() {
+        translate(BATCHED_BLOCK, UNBATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK);
+        verify(worldCache).updateServerCorrectBlockState(Vector3i.from(0, 65, 0), UNBATCHED_BLOCK);
+        verify(worldCache, times(3)).cacheServerCorrectBlockState(any(), eq(BATCHED_BLOCK));
+        assertEquals(3, sentPacket().getStandardBlocks().size());
+    }
+
+    @Test
+    void itemFramesAreNotOverwritten() {
+        itemFrames.put(Vector3i.from(0, 66, 0), mock(ItemFrameEntity.class));
+        translate(BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK);
+        verify(worldCache).updateServerCorrectBlockState(Vector3i.from(0, 66, 0), BATCHED_BLOCK);
+        assertEquals(3, sentPacket().getStandardBlocks().size());
+    }
+
+    @Test
+    void extendedCollisionBoxesAreNotBatched() {
+        when(mappings.getExtendedCollisionBoxes()).thenReturn(Int2ObjectMaps.singleton(BATCHED_BLOCK, mock(GeyserBedrockBlock.class)));
+        translate(BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK, BATCHED_BLOCK);
+        verify(worldCache, times(4)).updateServerCorrectBlockState(any(), eq(BATCHED_BLOCK));
+        verify(session, never()).sendUpstreamPacket(any());
+    }
+
+    @Test
+    void nothingToBatch() {
+        translate(UNBATCHED_BLOCK, UNBATCHED_BLOCK, UNBATCHED_BLOCK, UNBATCHED_BLOCK);
+        verify(worldCache, times(4)).updateServerCorrectBlockState(any(), eq(UNBATCHED_BLOCK));
+        verify(session, never()).sendUpstreamPacket(any());
+    }
+
+    private void translate(int... blocks) {
+        BlockChangeEntry[] entries = new BlockChangeEntry[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            entries[i] = new BlockChangeEntry(Vector3i.from(0, 64 + i, 0), blocks[i]);
+        }
+        translator.translate(session, new ClientboundSectionBlocksUpdatePacket(0, 4, 0, entries));
+    }
+
+    private UpdateSubChunkBlocksPacket sentPacket() {
+        ArgumentCaptor<UpdateSubChunkBlocksPacket> captor = ArgumentCaptor.forClass(UpdateSubChunkBlocksPacket.class);
+        verify(session).sendUpstreamPacket(captor.capture());
+        return captor.getValue();
+    }
+
+    private static BlockState state(boolean canBatchUpdates) {
+        Block block = mock(Block.class);
+        when(block.canBatchUpdates()).thenReturn(canBatchUpdates);
+        BlockState state = mock(BlockState.class);
+        when(state.block()).thenReturn(block);
+        return state;
+    }
+}
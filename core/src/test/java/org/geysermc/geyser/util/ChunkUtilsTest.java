@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.geysermc.geyser.level.chunk.GeyserChunkSection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChunkUtilsTest {
+
+    @Test
+    void emptySectionTemplatesMatchEncodedSections() {
+        for (int subChunkIndex = -4; subChunkIndex < 24; subChunkIndex++) {
+            ByteBuf expected = Unpooled.buffer();
+            ByteBuf actual = Unpooled.buffer();
+            try {
+                new GeyserChunkSection(ChunkUtils.EMPTY_BLOCK_STORAGE, subChunkIndex).writeToNetwork(expected);
+                ChunkUtils.writeEmptySection(actual, subChunkIndex);
+
+                assertArrayEquals(ByteBufUtil.getBytes(expected), ByteBufUtil.getBytes(actual), "sub chunk " + subChunkIndex);
+                assertEquals(ChunkUtils.EMPTY_CHUNK_SECTION_SIZE, actual.readableBytes());
+            } finally {
+                expected.release();
+                actual.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class MathUtilsTest {
+
+    @Test
+    public void testBlockPositionRoundTrip() {
+        int[] horizontal = {0, 1, -1, 15, -16, 29_999_999, -30_000_000, (1 << 25) - 1, -(1 << 25)};
+        int[] vertical = {0, 1, -1, -64, 319, 2047, -2048};
+        for (int x : horizontal) {
+            for (int y : vertical) {
+                for (int z : horizontal) {
+                    long packed = MathUtils.blockPositionToLong(x, y, z);
+                    assertEquals(x, MathUtils.blockPositionX(packed), "x of " + x + ", " + y + ", " + z);
+                    assertEquals(y, MathUtils.blockPositionY(packed), "y of " + x + ", " + y + ", " + z);
+                    assertEquals(z, MathUtils.blockPositionZ(packed), "z of " + x + ", " + y + ", " + z);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNeighboursHaveDistinctKeys() {
+        long origin = MathUtils.blockPositionToLong(-1, -1, -1);
+        for (int x = -2; x <= 0; x++) {
+            for (int y = -2; y <= 0; y++) {
+                for (int z = -2; z <= 0; z++) {
+                    if (x != -1 || y != -1 || z != -1) {
+                        assertNotEquals(origin, MathUtils.blockPositionToLong(x, y, z), x + ", " + y + ", " + z);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testChunkPositionRoundTrip() {
+        for (int x : new int[] {0, -1, 1_875_000, -1_875_000}) {
+            for (int z : new int[] {0, -1, 1_875_000, -1_875_000}) {
+                long packed = MathUtils.chunkPositionToLong(x, z);
+                assertEquals(x, (int) (packed >> 32));
+                assertEquals(z, (int) packed);
+            }
+        }
+    }
+}
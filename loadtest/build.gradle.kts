@@ -0,0 +1,16 @@
+plugins {
+    application
+    id("geyser.base-conventions")
+    id("io.freefair.lombok")
+}
+
+dependencies {
+    implementation(projects.standalone)
+    implementation(libs.raknet)
+    implementation(libs.bundles.fastutil)
+}
+
+application {
+    mainClass.set("org.geysermc.geyser.loadtest.LoadTest")
+    applicationDefaultJvmArgs = listOf("-Xms1G", "-Dio.netty.allocator.type=pooled")
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Client-side results of a load test run.
+ */
+public final class LoadMetrics {
+    private final LongArrayList joinLatencies = new LongArrayList();
+    private final AtomicInteger connecting = new AtomicInteger();
+    private final AtomicInteger joined = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger disconnected = new AtomicInteger();
+    private final AtomicInteger chatsReceived = new AtomicInteger();
+    private final AtomicInteger inventoriesOpened = new AtomicInteger();
+
+    void startedConnecting() {
+        connecting.incrementAndGet();
+    }
+
+    void joined(long latencyNanos) {
+        synchronized (joinLatencies) {
+            joinLatencies.add(latencyNanos);
+        }
+        connecting.decrementAndGet();
+        joined.incrementAndGet();
+    }
+
+    /**
+     * Called when a client could not connect, or was disconnected before it spawned.
+     */
+    void joinFailed() {
+        connecting.decrementAndGet();
+        failed.incrementAndGet();
+    }
+
+    /**
+     * Called when a client that had joined is disconnected.
+     */
+    void disconnected() {
+        disconnected.incrementAndGet();
+    }
+
+    void chatReceived() {
+        chatsReceived.incrementAndGet();
+    }
+
+    void inventoryOpened() {
+        inventoriesOpened.incrementAndGet();
+    }
+
+    /**
+     * @return clients that have started connecting, but neither joined nor failed yet
+     */
+    public int connecting() {
+        return connecting.get();
+    }
+
+    public int joined() {
+        return joined.get();
+    }
+
+    public int failed() {
+        return failed.get();
+    }
+
+    /**
+     * @return joined players that are still connected
+     */
+    public int connected() {
+        return joined.get() - disconnected.get();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the join latency at the given percentile, in milliseconds, or -1 if no player has joined yet
+     */
+    public double joinLatencyMillis(double percentile) {
+        long[] sorted;
+        synchronized (joinLatencies) {
+            sorted = joinLatencies.toLongArray();
+        }
+        if (sorted.length == 0) {
+            return -1;
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "players: %d connecting, %d joined, %d failed to join, %d disconnected | join latency p50 %.0fms p90 %.0fms p99 %.0fms max %.0fms | %d chats echoed, %d inventories opened",
+                connecting.get(), joined.get(), failed.get(), disconnected.get(),
+                joinLatencyMillis(50), joinLatencyMillis(90), joinLatencyMillis(99), joinLatencyMillis(100),
+                chatsReceived.get(), inventoriesOpened.get());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
+import org.cloudburstmc.protocol.bedrock.codec.v800.Bedrock_v800;
+import org.geysermc.geyser.GeyserImpl;
+import org.geysermc.geyser.platform.standalone.GeyserStandaloneBootstrap;
+import org.geysermc.geyser.session.SessionTicker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many Bedrock players a machine can handle. A test Java server and Geyser standalone are started in
+ * this process, and simulated Bedrock clients join them until the requested number of players is reached. Progress
+ * is reported until the run ends: join latency percentiles, tick loop utilization, heap, and bandwidth per player.
+ * As everything shares one JVM, the heap figure includes the test server and clients.
+ * <p>
+ * Everything binds to the loopback address, so no external services are needed. Run with {@code --key=value}
+ * options; see {@link LoadTestOptions}.
+ */
+public final class LoadTest {
+    private static final BedrockCodec CODEC = Bedrock_v800.CODEC;
+
+    private final LoadTestOptions options;
+    private final LoadMetrics metrics = new LoadMetrics();
+    private final TrafficCounter bedrockTraffic = new TrafficCounter();
+    private final TestJavaServer javaServer;
+    private final Map<SessionTicker, Long> lastTickerNanos = new HashMap<>();
+    private long lastReportNanos;
+    private long lastBedrockBytes;
+    private long lastJavaBytes;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.javaServer = new TestJavaServer(options);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(LoadTestOptions.parse(args)).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        javaServer.start();
+        GeyserImpl geyser = startGeyser();
+
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", options.bedrockPort());
+        EventLoopGroup group = new MultiThreadIoEventLoopGroup(Math.max(2, Runtime.getRuntime().availableProcessors() / 2), NioIoHandler.newFactory());
+        List<SimulatedClient> clients = new ArrayList<>(options.players());
+
+        lastReportNanos = System.nanoTime();
+        long reportIntervalNanos = TimeUnit.SECONDS.toNanos(options.reportIntervalSeconds());
+        long nextReport = lastReportNanos + reportIntervalNanos;
+        long joinIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.joinsPerSecond());
+        long nextJoin = System.nanoTime();
+        long joinDeadline = Long.MAX_VALUE;
+        long end = Long.MAX_VALUE;
+
+        while (System.nanoTime() < end) {
+            long now = System.nanoTime();
+            if (clients.size() < options.players() && now >= nextJoin) {
+                SimulatedClient client = new SimulatedClient("LoadTest" + clients.size(), CODEC, address, metrics, bedrockTraffic);
+                clients.add(client);
+                client.connect(group);
+                nextJoin += joinIntervalNanos;
+                if (clients.size() == options.players()) {
+                    joinDeadline = now + TimeUnit.SECONDS.toNanos(options.joinTimeoutSeconds());
+                }
+            }
+            if (end == Long.MAX_VALUE && clients.size() == options.players() && (metrics.connecting() == 0 || now >= joinDeadline)) {
+                // Every client has either joined or given up, or the stragglers took too long
+                System.out.printf(Locale.ROOT, "%d of %d players joined (%d failed, %d still connecting); holding for %ds%n",
+                        metrics.joined(), options.players(), metrics.failed(), metrics.connecting(), options.durationSeconds());
+                end = now + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+            }
+            if (now >= nextReport) {
+                System.out.println(report(geyser));
+                nextReport += reportIntervalNanos;
+            }
+            Thread.sleep(5);
+        }
+
+        System.out.println("Final results:");
+        System.out.println(report(geyser));
+
+        clients.forEach(SimulatedClient::disconnect);
+        group.shutdownGracefully().await(5, TimeUnit.SECONDS);
+        geyser.getBootstrap().onGeyserShutdown();
+        javaServer.stop();
+    }
+
+    private GeyserImpl startGeyser() throws InterruptedException {
+        // Every simulated client connects from the same address
+        System.setProperty("Geyser.RakRateLimitingDisabled", "true");
+
+        String[] args = {
+                "--nogui",
+                "--config", "loadtest-config.yml",
+                "--bedrock.address=127.0.0.1",
+                "--bedrock.port=" + options.bedrockPort(),
+                "--remote.address=127.0.0.1",
+                "--remote.port=" + options.javaPort(),
+                "--remote.auth-type=offline",
+                "--enable-proxy-connections=true",
+                "--max-players=" + options.players()
+        };
+        // The standalone bootstrap reads console input on the thread it was started from once it is done
+        Thread thread = new Thread(() -> GeyserStandaloneBootstrap.main(args), "Geyser Standalone");
+        thread.setDaemon(true);
+        thread.start();
+
+        GeyserImpl geyser;
+        while ((geyser = GeyserImpl.getInstance()) == null || !isBound(options.bedrockPort())) {
+            Thread.sleep(100);
+        }
+        return geyser;
+    }
+
+    private static boolean isBound(int port) {
+        try (DatagramSocket socket = new DatagramSocket(new InetSocketAddress("127.0.0.1", port))) {
+            return false;
+        } catch (SocketException e) {
+            return true;
+        }
+    }
+
+    private String report(GeyserImpl geyser) {
+        long now = System.nanoTime();
+        double seconds = (now - lastReportNanos) / 1e9;
+        lastReportNanos = now;
+
+        // Tick utilization per event loop, over the last interval
+        double totalUtilization = 0;
+        double maxUtilization = 0;
+        int tickers = 0;
+        for (SessionTicker ticker : geyser.getSessionManager().getTickers()) {
+            long busy = ticker.getTotalBatchNanos();
+            Long previous = lastTickerNanos.put(ticker, busy);
+            double utilization = (busy - (previous == null ? 0 : previous)) / (seconds * 1e9);
+            totalUtilization += utilization;
+            maxUtilization = Math.max(maxUtilization, utilization);
+            tickers++;
+        }
+
+        long bedrockBytes = bedrockTraffic.bytesRead() + bedrockTraffic.bytesWritten();
+        long javaBytes = javaServer.traffic().bytesRead() + javaServer.traffic().bytesWritten();
+        int players = Math.max(1, metrics.connected());
+        double upstreamPerPlayer = (bedrockBytes - lastBedrockBytes) / seconds / players / 1024;
+        double downstreamPerPlayer = (javaBytes - lastJavaBytes) / seconds / players / 1024;
+        lastBedrockBytes = bedrockBytes;
+        lastJavaBytes = javaBytes;
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        return metrics.summary() + "\n" + String.format(Locale.ROOT,
+                "%d sessions | tick utilization avg %.1f%% max %.1f%% over %d event loops | process heap %d/%d MiB | per player: upstream %.1f KiB/s, downstream %.1f KiB/s",
+                geyser.getSessionManager().size(),
+                tickers == 0 ? 0 : totalUtilization / tickers * 100, maxUtilization * 100, tickers,
+                heap.getUsed() >> 20, heap.getCommitted() >> 20,
+                upstreamPerPlayer, downstreamPerPlayer);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+/**
+ * Options for a load test run, parsed from {@code --key=value} arguments.
+ *
+ * @param players number of simulated Bedrock players
+ * @param joinsPerSecond how fast players are connected
+ * @param durationSeconds how long to keep the players connected once every player has joined or failed to
+ * @param bedrockPort the port Geyser listens on
+ * @param javaPort the port of the test Java server
+ * @param viewDistance the radius of chunks the Java server sends around spawn
+ * @param entitiesPerPlayer entities the Java server spawns and moves around each player
+ * @param reportIntervalSeconds how often progress is reported
+ * @param joinTimeoutSeconds how long to wait for the last players to join or fail once all have been started
+ */
+public record LoadTestOptions(int players, double joinsPerSecond, int durationSeconds, int bedrockPort, int javaPort,
+                              int viewDistance, int entitiesPerPlayer, int reportIntervalSeconds,
+                              int joinTimeoutSeconds) {
+
+    public static LoadTestOptions parse(String[] args) {
+        int players = 50;
+        double joinsPerSecond = 5;
+        int durationSeconds = 120;
+        int bedrockPort = 19232;
+        int javaPort = 25585;
+        int viewDistance = 6;
+        int entitiesPerPlayer = 10;
+        int reportIntervalSeconds = 10;
+        int joinTimeoutSeconds = 60;
+
+        for (String arg : args) {
+            String[] parts = arg.startsWith("--") ? arg.substring(2).split("=", 2) : new String[0];
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            switch (parts[0]) {
+                case "players" -> players = Integer.parseInt(parts[1]);
+                case "joins-per-second" -> joinsPerSecond = Double.parseDouble(parts[1]);
+                case "duration" -> durationSeconds = Integer.parseInt(parts[1]);
+                case "bedrock-port" -> bedrockPort = Integer.parseInt(parts[1]);
+                case "java-port" -> javaPort = Integer.parseInt(parts[1]);
+                case "view-distance" -> viewDistance = Integer.parseInt(parts[1]);
+                case "entities-per-player" -> entitiesPerPlayer = Integer.parseInt(parts[1]);
+                case "report-interval" -> reportIntervalSeconds = Integer.parseInt(parts[1]);
+                case "join-timeout" -> joinTimeoutSeconds = Integer.parseInt(parts[1]);
+                default -> throw new IllegalArgumentException("Unknown option " + parts[0]);
+            }
+        }
+
+        return new LoadTestOptions(players, joinsPerSecond, durationSeconds, bedrockPort, javaPort,
+                viewDistance, entitiesPerPlayer, reportIntervalSeconds, joinTimeoutSeconds);
+    }
+}
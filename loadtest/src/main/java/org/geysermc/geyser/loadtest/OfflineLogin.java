@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.cloudburstmc.protocol.bedrock.util.EncryptionUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the login data of a Bedrock client that is not signed in to Xbox Live: a self-signed identity chain and
+ * client data with a plain Steve skin. Geyser only accepts these with {@code enable-proxy-connections} turned on.
+ */
+final class OfflineLogin {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Base64.Encoder BASE64 = Base64.getEncoder();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String SKIN_DATA = BASE64.encodeToString(new byte[64 * 64 * 4]);
+    private static final String SKIN_RESOURCE_PATCH = BASE64.encodeToString(
+            "{\"geometry\":{\"default\":\"geometry.humanoid.custom\"}}".getBytes(StandardCharsets.UTF_8));
+
+    private final KeyPair keyPair = EncryptionUtils.createKeyPair();
+    private final String publicKey = BASE64.encodeToString(keyPair.getPublic().getEncoded());
+
+    KeyPair keyPair() {
+        return keyPair;
+    }
+
+    String chain(String username) throws Exception {
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        Map<String, Object> extraData = new LinkedHashMap<>();
+        extraData.put("displayName", username);
+        extraData.put("identity", UUID.nameUUIDFromBytes(username.getBytes(StandardCharsets.UTF_8)).toString());
+        extraData.put("XUID", "");
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("extraData", extraData);
+        claims.put("identityPublicKey", publicKey);
+        claims.put("nbf", now - 60);
+        claims.put("iat", now);
+        claims.put("exp", now + TimeUnit.DAYS.toSeconds(1));
+        return sign(claims);
+    }
+
+    String clientData(String username, String gameVersion, String serverAddress) throws Exception {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("GameVersion", gameVersion);
+        claims.put("ServerAddress", serverAddress);
+        claims.put("ThirdPartyName", username);
+        claims.put("LanguageCode", "en_US");
+        claims.put("DeviceOS", 7); // Windows 10
+        claims.put("DeviceModel", "Geyser load test");
+        claims.put("DeviceId", UUID.randomUUID().toString());
+        claims.put("ClientRandomId", username.hashCode());
+        claims.put("SelfSignedId", UUID.randomUUID().toString());
+        claims.put("PlayFabId", "");
+        claims.put("CurrentInputMode", 1); // Keyboard and mouse
+        claims.put("DefaultInputMode", 1);
+        claims.put("UIProfile", 0); // Classic
+        claims.put("GuiScale", 0);
+        claims.put("SkinId", "Standard_Custom");
+        claims.put("SkinData", SKIN_DATA);
+        claims.put("SkinImageWidth", 64);
+        claims.put("SkinImageHeight", 64);
+        claims.put("SkinResourcePatch", SKIN_RESOURCE_PATCH);
+        claims.put("SkinGeometryData", "");
+        claims.put("SkinGeometryDataEngineVersion", "");
+        claims.put("SkinAnimationData", "");
+        claims.put("SkinColor", "#0");
+        claims.put("ArmSize", "wide");
+        claims.put("CapeId", "");
+        claims.put("CapeData", "");
+        claims.put("CapeImageWidth", 0);
+        claims.put("CapeImageHeight", 0);
+        claims.put("CapeOnClassicSkin", false);
+        claims.put("PersonaSkin", false);
+        claims.put("PremiumSkin", false);
+        claims.put("TrustedSkin", false);
+        claims.put("OverrideSkin", false);
+        claims.put("AnimatedImageData", List.of());
+        claims.put("PersonaPieces", List.of());
+        claims.put("PieceTintColors", List.of());
+        return sign(claims);
+    }
+
+    private String sign(Map<String, Object> claims) throws Exception {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "ES384");
+        header.put("x5u", publicKey);
+
+        String unsigned = BASE64_URL.encodeToString(JSON.writeValueAsBytes(header)) + "."
+                + BASE64_URL.encodeToString(JSON.writeValueAsBytes(claims));
+
+        Signature signature = Signature.getInstance("SHA384withECDSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update(unsigned.getBytes(StandardCharsets.US_ASCII));
+        return unsigned + "." + BASE64_URL.encodeToString(derToJose(signature.sign()));
+    }
+
+    /**
+     * Converts a DER encoded ECDSA signature into the fixed length R || S form JWS uses.
+     */
+    private static byte[] derToJose(byte[] der) throws GeneralSecurityException {
+        final int partLength = 48; // P-384
+        int offset = 2;
+        if (der[1] == (byte) 0x81) {
+            offset++;
+        }
+        if (der[0] != 0x30 || der[offset] != 0x02) {
+            throw new GeneralSecurityException("Invalid ECDSA signature");
+        }
+
+        byte[] jose = new byte[partLength * 2];
+        int rLength = der[offset + 1];
+        copyPart(der, offset + 2, rLength, jose, 0, partLength);
+        offset += 2 + rLength;
+        if (der[offset] != 0x02) {
+            throw new GeneralSecurityException("Invalid ECDSA signature");
+        }
+        int sLength = der[offset + 1];
+        copyPart(der, offset + 2, sLength, jose, partLength, partLength);
+        return jose;
+    }
+
+    private static void copyPart(byte[] der, int start, int length, byte[] jose, int joseOffset, int partLength) {
+        // DER integers may have a leading zero byte, or be shorter than the fixed length
+        while (length > partLength && der[start] == 0) {
+            start++;
+            length--;
+        }
+        System.arraycopy(der, start, jose, joseOffset + partLength - length, length);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.cloudburstmc.math.vector.Vector2f;
+import org.cloudburstmc.math.vector.Vector3f;
+import org.cloudburstmc.netty.channel.raknet.RakChannelFactory;
+import org.cloudburstmc.netty.channel.raknet.config.RakChannelOption;
+import org.cloudburstmc.protocol.bedrock.BedrockClientSession;
+import org.cloudburstmc.protocol.bedrock.codec.BedrockCodec;
+import org.cloudburstmc.protocol.bedrock.data.ClientPlayMode;
+import org.cloudburstmc.protocol.bedrock.data.InputMode;
+import org.cloudburstmc.protocol.bedrock.data.PlayerAuthInputData;
+import org.cloudburstmc.protocol.bedrock.data.inventory.ContainerType;
+import org.cloudburstmc.protocol.bedrock.netty.initializer.BedrockClientInitializer;
+import org.cloudburstmc.protocol.bedrock.packet.BedrockPacketHandler;
+import org.cloudburstmc.protocol.bedrock.packet.ClientCacheStatusPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ClientToServerHandshakePacket;
+import org.cloudburstmc.protocol.bedrock.packet.ContainerClosePacket;
+import org.cloudburstmc.protocol.bedrock.packet.ContainerOpenPacket;
+import org.cloudburstmc.protocol.bedrock.packet.DisconnectPacket;
+import org.cloudburstmc.protocol.bedrock.packet.InteractPacket;
+import org.cloudburstmc.protocol.bedrock.packet.LoginPacket;
+import org.cloudburstmc.protocol.bedrock.packet.MovePlayerPacket;
+import org.cloudburstmc.protocol.bedrock.packet.NetworkSettingsPacket;
+import org.cloudburstmc.protocol.bedrock.packet.NetworkStackLatencyPacket;
+import org.cloudburstmc.protocol.bedrock.packet.PlayStatusPacket;
+import org.cloudburstmc.protocol.bedrock.packet.PlayerAuthInputPacket;
+import org.cloudburstmc.protocol.bedrock.packet.RequestChunkRadiusPacket;
+import org.cloudburstmc.protocol.bedrock.packet.RequestNetworkSettingsPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ResourcePackClientResponsePacket;
+import org.cloudburstmc.protocol.bedrock.packet.ResourcePackStackPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ResourcePacksInfoPacket;
+import org.cloudburstmc.protocol.bedrock.packet.ServerToClientHandshakePacket;
+import org.cloudburstmc.protocol.bedrock.packet.SetLocalPlayerAsInitializedPacket;
+import org.cloudburstmc.protocol.bedrock.packet.StartGamePacket;
+import org.cloudburstmc.protocol.bedrock.packet.TextPacket;
+import org.cloudburstmc.protocol.bedrock.util.EncryptionUtils;
+import org.cloudburstmc.protocol.common.PacketSignal;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A headless Bedrock client. It logs in with an offline identity, then walks in a circle around spawn,
+ * chats and opens its inventory every so often until it is stopped.
+ */
+final class SimulatedClient implements BedrockPacketHandler {
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final float WALK_SPEED = 4.3f / 20; // blocks per tick
+    private static final float PATH_RADIUS = 8;
+    private static final int CHAT_INTERVAL_TICKS = 20 * 15;
+    private static final int INVENTORY_INTERVAL_TICKS = 20 * 20;
+
+    private final String username;
+    private final BedrockCodec codec;
+    private final InetSocketAddress address;
+    private final LoadMetrics metrics;
+    private final TrafficCounter traffic;
+    private final OfflineLogin login = new OfflineLogin();
+
+    private BedrockClientSession session;
+    private long connectStart;
+    private long runtimeEntityId;
+    private Vector3f spawn = Vector3f.ZERO;
+    private long tick;
+    private int openContainerId = -1;
+    private ContainerType openContainerType;
+    private boolean spawned;
+    private boolean left;
+    private ScheduledFuture<?> tickFuture;
+
+    SimulatedClient(String username, BedrockCodec codec, InetSocketAddress address, LoadMetrics metrics, TrafficCounter traffic) {
+        this.username = username;
+        this.codec = codec;
+        this.address = address;
+        this.metrics = metrics;
+        this.traffic = traffic;
+    }
+
+    void connect(EventLoopGroup group) {
+        connectStart = System.nanoTime();
+        metrics.startedConnecting();
+        new Bootstrap()
+                .channelFactory(RakChannelFactory.client(NioDatagramChannel.class))
+                .group(group)
+                .option(RakChannelOption.RAK_PROTOCOL_VERSION, codec.getRaknetProtocolVersion())
+                .option(RakChannelOption.RAK_GUID, ThreadLocalRandom.current().nextLong())
+                .handler(new BedrockClientInitializer() {
+                    @Override
+                    protected void initSession(BedrockClientSession session) {
+                        SimulatedClient.this.session = session;
+                        session.getPeer().getChannel().pipeline().addFirst(TrafficCounter.NAME, traffic);
+                        session.setCodec(codec);
+                        session.setPacketHandler(SimulatedClient.this);
+
+                        RequestNetworkSettingsPacket packet = new RequestNetworkSettingsPacket();
+                        packet.setProtocolVersion(codec.getProtocolVersion());
+                        session.sendPacketImmediately(packet);
+                    }
+                })
+                .connect(address)
+                .addListener(future -> {
+                    if (!future.isSuccess()) {
+                        left();
+                    }
+                });
+    }
+
+    void disconnect() {
+        if (session != null && session.isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    @Override
+    public PacketSignal handle(NetworkSettingsPacket packet) {
+        session.setCompression(packet.getCompressionAlgorithm());
+        try {
+            LoginPacket loginPacket = new LoginPacket();
+            loginPacket.setProtocolVersion(codec.getProtocolVersion());
+            loginPacket.getChain().add(login.chain(username));
+            loginPacket.setExtra(login.clientData(username, codec.getMinecraftVersion(), address.getHostString() + ":" + address.getPort()));
+            session.sendPacketImmediately(loginPacket);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to create login for " + username, e);
+        }
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(ServerToClientHandshakePacket packet) {
+        try {
+            String[] jwt = packet.getJwt().split("\\.");
+            JsonNode header = JSON.readTree(Base64.getUrlDecoder().decode(jwt[0]));
+            JsonNode payload = JSON.readTree(Base64.getUrlDecoder().decode(jwt[1]));
+            byte[] salt = Base64.getDecoder().decode(payload.get("salt").asText().getBytes(StandardCharsets.US_ASCII));
+            session.enableEncryption(EncryptionUtils.getSecretKey(login.keyPair().getPrivate(),
+                    EncryptionUtils.parseKey(header.get("x5u").asText()), salt));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to enable encryption for " + username, e);
+        }
+        session.sendPacketImmediately(new ClientToServerHandshakePacket());
+
+        ClientCacheStatusPacket cacheStatus = new ClientCacheStatusPacket();
+        cacheStatus.setSupported(false);
+        session.sendPacket(cacheStatus);
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(ResourcePacksInfoPacket packet) {
+        ResourcePackClientResponsePacket response = new ResourcePackClientResponsePacket();
+        response.setStatus(ResourcePackClientResponsePacket.Status.HAVE_ALL_PACKS);
+        session.sendPacket(response);
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(ResourcePackStackPacket packet) {
+        ResourcePackClientResponsePacket response = new ResourcePackClientResponsePacket();
+        response.setStatus(ResourcePackClientResponsePacket.Status.COMPLETED);
+        session.sendPacket(response);
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(StartGamePacket packet) {
+        runtimeEntityId = packet.getRuntimeEntityId();
+        spawn = packet.getPlayerPosition();
+
+        RequestChunkRadiusPacket radius = new RequestChunkRadiusPacket();
+        radius.setRadius(8);
+        radius.setMaxRadius(8);
+        session.sendPacket(radius);
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(PlayStatusPacket packet) {
+        if (packet.getStatus() == PlayStatusPacket.Status.PLAYER_SPAWN && !spawned) {
+            spawned = true;
+            metrics.joined(System.nanoTime() - connectStart);
+
+            SetLocalPlayerAsInitializedPacket initialized = new SetLocalPlayerAsInitializedPacket();
+            initialized.setRuntimeEntityId(runtimeEntityId);
+            session.sendPacket(initialized);
+
+            // Spread players out, so they don't all act on the same tick
+            long offset = ThreadLocalRandom.current().nextLong(50);
+            tickFuture = session.getPeer().getChannel().eventLoop().scheduleAtFixedRate(this::tick, offset, 50, TimeUnit.MILLISECONDS);
+        }
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(NetworkStackLatencyPacket packet) {
+        if (packet.isFromServer()) {
+            NetworkStackLatencyPacket response = new NetworkStackLatencyPacket();
+            response.setTimestamp(packet.getTimestamp());
+            response.setFromServer(false);
+            session.sendPacket(response);
+        }
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(ContainerOpenPacket packet) {
+        metrics.inventoryOpened();
+        openContainerId = packet.getId();
+        openContainerType = packet.getType();
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(MovePlayerPacket packet) {
+        if (packet.getRuntimeEntityId() == runtimeEntityId && packet.getMode() != MovePlayerPacket.Mode.HEAD_ROTATION) {
+            // Position corrections and teleports from the server; walk around wherever we have been put
+            spawn = packet.getPosition();
+        }
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(TextPacket packet) {
+        if (packet.getMessage() != null && packet.getMessage().contains(username)) {
+            metrics.chatReceived();
+        }
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public PacketSignal handle(DisconnectPacket packet) {
+        return PacketSignal.HANDLED;
+    }
+
+    @Override
+    public void onDisconnect(String reason) {
+        if (tickFuture != null) {
+            tickFuture.cancel(false);
+        }
+        left();
+    }
+
+    /**
+     * Records that this client is gone, whether it got to join or not.
+     */
+    private void left() {
+        if (left) {
+            return;
+        }
+        left = true;
+        if (spawned) {
+            metrics.disconnected();
+        } else {
+            metrics.joinFailed();
+        }
+    }
+
+    private void tick() {
+        if (!session.isConnected()) {
+            return;
+        }
+        tick++;
+
+        // Walk in a circle around spawn
+        float angle = tick * WALK_SPEED / PATH_RADIUS;
+        float previousAngle = (tick - 1) * WALK_SPEED / PATH_RADIUS;
+        Vector3f position = spawn.add(PATH_RADIUS * Math.cos(angle), 0, PATH_RADIUS * Math.sin(angle));
+        Vector3f previous = spawn.add(PATH_RADIUS * Math.cos(previousAngle), 0, PATH_RADIUS * Math.sin(previousAngle));
+        float yaw = (float) Math.toDegrees(angle) + 180;
+
+        PlayerAuthInputPacket input = new PlayerAuthInputPacket();
+        input.setPosition(position);
+        input.setRotation(Vector3f.from(0, yaw, yaw));
+        input.setMotion(Vector2f.from(0, 1));
+        input.setDelta(position.sub(previous));
+        input.setVehicleRotation(Vector2f.ZERO);
+        input.setInputMode(InputMode.MOUSE);
+        input.setPlayMode(ClientPlayMode.NORMAL);
+        input.setTick(tick);
+        input.getInputData().add(PlayerAuthInputData.UP);
+        session.sendPacket(input);
+
+        if (tick % CHAT_INTERVAL_TICKS == 0) {
+            TextPacket text = new TextPacket();
+            text.setType(TextPacket.Type.CHAT);
+            text.setSourceName(username);
+            text.setMessage("Hello from " + username);
+            text.setXuid("");
+            text.setPlatformChatId("");
+            text.setFilteredMessage("");
+            session.sendPacket(text);
+        }
+
+        if (tick % INVENTORY_INTERVAL_TICKS == 0) {
+            InteractPacket interact = new InteractPacket();
+            interact.setRuntimeEntityId(runtimeEntityId);
+            interact.setAction(InteractPacket.Action.OPEN_INVENTORY);
+            session.sendPacket(interact);
+        } else if (openContainerId != -1 && tick % INVENTORY_INTERVAL_TICKS == 40) {
+            ContainerClosePacket close = new ContainerClosePacket();
+            close.setId((byte) openContainerId);
+            close.setType(openContainerType);
+            close.setServerInitiated(false);
+            session.sendPacket(close);
+            openContainerId = -1;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 GeyserMC. http://geysermc.org
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ *
+ * @author GeyserMC
+ * @link https://github.com/GeyserMC/Geyser
+ */
+
+package org.geysermc.geyser.loadtest;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import org.cloudburstmc.math.vector.Vector3d;
+import org.geysermc.mcprotocollib.auth.GameProfile;
+import org.geysermc.mcprotocollib.network.Session;
+import org.geysermc.mcprotocollib.network.event.server.ServerAdapter;
+import org.geysermc.mcprotocollib.network.event.server.SessionAddedEvent;
+import org.geysermc.mcprotocollib.network.event.server.SessionRemovedEvent;
+import org.geysermc.mcprotocollib.network.event.session.ConnectedEvent;
+import org.geysermc.mcprotocollib.network.event.session.SessionAdapter;
+import org.geysermc.mcprotocollib.network.packet.Packet;
+import org.geysermc.mcprotocollib.network.server.NetworkServer;
+import org.geysermc.mcprotocollib.protocol.MinecraftConstants;
+import org.geysermc.mcprotocollib.protocol.MinecraftProtocol;
+import org.geysermc.mcprotocollib.protocol.codec.MinecraftTypes;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.ChunkSection;
+import org.geysermc.mcprotocollib.protocol.data.game.chunk.DataPalette;
+import org.geysermc.mcprotocollib.protocol.data.game.entity.player.GameMode;
+import org.geysermc.mcprotocollib.protocol.data.game.entity.player.PlayerSpawnInfo;
+import org.geysermc.mcprotocollib.protocol.data.game.entity.type.EntityType;
+import org.geysermc.mcprotocollib.protocol.data.game.level.LightUpdateData;
+import org.geysermc.mcprotocollib.protocol.data.game.level.block.BlockEntityInfo;
+import org.geysermc.mcprotocollib.protocol.data.game.level.notify.GameEvent;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundLoginPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.ClientboundSystemChatPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.entity.ClientboundMoveEntityPosPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.entity.player.ClientboundPlayerPositionPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.entity.spawn.ClientboundAddEntityPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundChunkBatchFinishedPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundChunkBatchStartPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundGameEventPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundLevelChunkWithLightPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.clientbound.level.ClientboundSetChunkCacheCenterPacket;
+import org.geysermc.mcprotocollib.protocol.packet.ingame.serverbound.ServerboundChatPacket;
+
+import java.net.InetSocketAddress;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal Java server for Geyser to connect to. Every player spawns in the same flat world, with a square of
+ * chunks around spawn and a number of entities that wander around them every tick. Chat is echoed back.
+ */
+final class TestJavaServer {
+    private static final Key OVERWORLD = Key.key("minecraft:overworld");
+    private static final int STONE = 1;
+    private static final int SECTIONS = 24; // Overworld, -64 to 320
+    private static final int SOLID_SECTIONS = 8; // Ground level at y=64
+    private static final LightUpdateData NO_LIGHT = new LightUpdateData(new BitSet(), new BitSet(), new BitSet(), new BitSet(), List.of(), List.of());
+
+    private final LoadTestOptions options;
+    private final TrafficCounter traffic = new TrafficCounter();
+    private final byte[] chunkData = createChunkData();
+    private final Map<Session, int[]> players = new ConcurrentHashMap<>();
+    private final AtomicInteger nextEntityId = new AtomicInteger(1);
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Test Java Server Ticker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private NetworkServer server;
+    private long tick;
+
+    TestJavaServer(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    void start() {
+        server = new NetworkServer(new InetSocketAddress("127.0.0.1", options.javaPort()), MinecraftProtocol::new);
+        server.setGlobalFlag(MinecraftConstants.ENFORCE_AUTH_KEY, false);
+        server.setGlobalFlag(MinecraftConstants.SERVER_COMPRESSION_THRESHOLD, 256);
+        server.setGlobalFlag(MinecraftConstants.SERVER_LOGIN_HANDLER_KEY, this::onLogin);
+        server.addListener(new ServerAdapter() {
+            @Override
+            public void sessionAdded(SessionAddedEvent event) {
+                event.getSession().addListener(new PlayerListener());
+            }
+
+            @Override
+            public void sessionRemoved(SessionRemovedEvent event) {
+                players.remove(event.getSession());
+            }
+        });
+        server.bind(true);
+
+        ticker.scheduleAtFixedRate(this::tick, 50, 50, TimeUnit.MILLISECONDS);
+    }
+
+    void stop() {
+        ticker.shutdownNow();
+        if (server != null) {
+            server.close(true);
+        }
+    }
+
+    TrafficCounter traffic() {
+        return traffic;
+    }
+
+    private void onLogin(Session session) {
+        int playerId = nextEntityId.getAndIncrement();
+        int viewDistance = options.viewDistance();
+        session.send(new ClientboundLoginPacket(playerId, false, new Key[] {OVERWORLD}, options.players(), viewDistance, viewDistance,
+                false, true, false, new PlayerSpawnInfo(0, OVERWORLD, 0, GameMode.SURVIVAL, GameMode.SURVIVAL, false, true, null, 0, 63), false));
+        session.send(new ClientboundGameEventPacket(GameEvent.LEVEL_CHUNKS_LOAD_START, null));
+        session.send(new ClientboundSetChunkCacheCenterPacket(0, 0));
+
+        session.send(new ClientboundChunkBatchStartPacket());
+        int chunks = 0;
+        for (int x = -viewDistance; x <= viewDistance; x++) {
+            for (int z = -viewDistance; z <= viewDistance; z++) {
+                session.send(new ClientboundLevelChunkWithLightPacket(x, z, chunkData, Map.of(), new BlockEntityInfo[0], NO_LIGHT));
+                chunks++;
+            }
+        }
+        session.send(new ClientboundChunkBatchFinishedPacket(chunks));
+
+        session.send(new ClientboundPlayerPositionPacket(1, Vector3d.from(0.5, 64, 0.5), Vector3d.ZERO, 0, 0));
+
+        int[] entities = new int[options.entitiesPerPlayer()];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = nextEntityId.getAndIncrement();
+            double angle = Math.PI * 2 * i / entities.length;
+            session.send(new ClientboundAddEntityPacket(entities[i], UUID.randomUUID(), EntityType.PIG,
+                    6 * Math.cos(angle), 64, 6 * Math.sin(angle), 0, 0, 0));
+        }
+        players.put(session, entities);
+    }
+
+    private void tick() {
+        tick++;
+        // Every entity walks a small square, one side per second
+        int side = (int) (tick / 20 % 4);
+        double dx = side == 0 ? 0.1 : side == 2 ? -0.1 : 0;
+        double dz = side == 1 ? 0.1 : side == 3 ? -0.1 : 0;
+        players.forEach((session, entities) -> {
+            for (int entityId : entities) {
+                session.send(new ClientboundMoveEntityPosPacket(entityId, dx, 0, dz, true));
+            }
+        });
+    }
+
+    private static byte[] createChunkData() {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            for (int i = 0; i < SECTIONS; i++) {
+                ChunkSection section = new ChunkSection(0, DataPalette.createForChunk(), DataPalette.createForBiome());
+                if (i < SOLID_SECTIONS) {
+                    for (int x = 0; x < 16; x++) {
+                        for (int y = 0; y < 16; y++) {
+                            for (int z = 0; z < 16; z++) {
+                                section.setBlock(x, y, z, STONE);
+                            }
+                        }
+                    }
+                }
+                MinecraftTypes.writeChunkSection(buf, section);
+            }
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private final class PlayerListener extends SessionAdapter {
+        @Override
+        public void connected(ConnectedEvent event) {
+            event.getSession().getChannel().pipeline().addFirst(TrafficCounter.NAME, traffic);
+        }
+
+        @Override
+        public void packetReceived(Session session, Packet packet) {
+            if (packet instanceof ServerboundChatPacket chatPacket) {
+                GameProfile profile = session.getFlag(MinecraftConstants.PROFILE_KEY);
+                String name = profile == null ? "?" : profile.getName();
+                session.send(new ClientboundSystemChatPacket(Component.text("<" + name + "> " + chatPacket.getMessage()), false));
+            }
+        }
+    }
+}